@@ -0,0 +1,228 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Guice;
+import com.xellitix.commons.net.compat.java.JavaNetCompatibilityModule;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link JsonNodePropertyRetriever} benchmark.
+ *
+ * <p>Every getter is measured against a valid, a missing and an invalid property so that both the
+ * success and the failure paths are covered.
+ *
+ * @author Grayson Kuhns
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonNodePropertyRetrieverBenchmark {
+
+  // Constants
+  private static final String JSON = "{"
+      + "\"string\":\"Taco Club\","
+      + "\"int\":42,"
+      + "\"long\":4200000000,"
+      + "\"uri\":\"https://foo.bar/baz?qux=1\","
+      + "\"url\":\"https://foo.bar/baz?qux=1\","
+      + "\"invalidUri\":\"https://foo bar/\","
+      + "\"invalidUrl\":\"nope://foo.bar\""
+      + "}";
+
+  private static final String KEY_MISSING = "missing";
+
+  // Parameters
+  @Param({"valid", "missing", "invalid"})
+  public String scenario;
+
+  // Fixtures
+  private JsonNodePropertyRetriever propertyRetriever;
+  private JsonParser parser;
+  private JsonNode root;
+
+  private String stringProperty;
+  private String intProperty;
+  private String longProperty;
+  private String uriProperty;
+  private String urlProperty;
+
+  // #getString
+  @Benchmark
+  public Object getString() {
+    try {
+      return propertyRetriever.getString(root, stringProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  @Benchmark
+  public Object getStringOrNull() {
+    try {
+      return propertyRetriever.getStringOrNull(root, stringProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  // #getInt
+  @Benchmark
+  public Object getInt() {
+    try {
+      return propertyRetriever.getInt(root, intProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  @Benchmark
+  public Object getIntOrNull() {
+    try {
+      return propertyRetriever.getIntOrNull(root, intProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  // #getLong
+  @Benchmark
+  public Object getLong() {
+    try {
+      return propertyRetriever.getLong(root, longProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  @Benchmark
+  public Object getLongOrNull() {
+    try {
+      return propertyRetriever.getLongOrNull(root, longProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  // #getUri
+  @Benchmark
+  public Object getUri() {
+    try {
+      return propertyRetriever.getUri(root, uriProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  @Benchmark
+  public Object getUriOrNull() {
+    try {
+      return propertyRetriever.getUriOrNull(root, uriProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  // #getUrl
+  @Benchmark
+  public Object getUrl() {
+    try {
+      return propertyRetriever.getUrl(root, urlProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  @Benchmark
+  public Object getUrlOrNull() {
+    try {
+      return propertyRetriever.getUrlOrNull(root, urlProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  // #getProperty
+  @Benchmark
+  public Object getProperty() {
+    try {
+      return propertyRetriever.getProperty(root, stringProperty, parser);
+    } catch (JsonMappingException ex) {
+      return ex;
+    }
+  }
+
+  @Benchmark
+  public Object getPropertyOrNull() {
+    return propertyRetriever.getPropertyOrNull(root, stringProperty);
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    // Create the test subject
+    propertyRetriever = Guice
+        .createInjector(
+            new JavaNetCompatibilityModule(),
+            new JsonDeserializationUtilsModule())
+        .getInstance(JsonNodePropertyRetriever.class);
+
+    // Parse the intermediate representation
+    final ObjectMapper mapper = new ObjectMapper();
+    root = mapper.readTree(JSON);
+    parser = mapper.getFactory().createParser(JSON);
+
+    // Select the properties for the scenario
+    switch (scenario) {
+      case "valid":
+        stringProperty = "string";
+        intProperty = "int";
+        longProperty = "long";
+        uriProperty = "uri";
+        urlProperty = "url";
+        break;
+
+      case "missing":
+        stringProperty = KEY_MISSING;
+        intProperty = KEY_MISSING;
+        longProperty = KEY_MISSING;
+        uriProperty = KEY_MISSING;
+        urlProperty = KEY_MISSING;
+        break;
+
+      case "invalid":
+        stringProperty = "int";
+        intProperty = "long";
+        longProperty = "string";
+        uriProperty = "invalidUri";
+        urlProperty = "invalidUrl";
+        break;
+
+      default:
+        throw new IllegalArgumentException("Unknown scenario: " + scenario);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    parser.close();
+  }
+}
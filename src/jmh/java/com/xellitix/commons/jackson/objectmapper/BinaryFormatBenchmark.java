@@ -0,0 +1,104 @@
+package com.xellitix.commons.jackson.objectmapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.xellitix.commons.jackson.JacksonUtilsModule;
+import com.xellitix.commons.jackson.objectmapper.test.org.Organization;
+import com.xellitix.commons.jackson.objectmapper.test.org.OrganizationModule;
+import com.xellitix.commons.jackson.objectmapper.test.person.PersonModule;
+import com.xellitix.commons.net.compat.java.JavaNetCompatibilityModule;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the decode time of the JSON, {@link Smile} and {@link Cbor} mappers.
+ *
+ * <p>The payload size of each format is reported as the {@code payloadBytes} secondary result.
+ *
+ * @author Grayson Kuhns
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+  // Constants
+  private static final String ORG_JSON_RESOURCE =
+      "com/xellitix/commons/jackson/objectmapper/test/org.json";
+
+  // Parameters
+  @Param({"json", "smile", "cbor"})
+  public String format;
+
+  // Fixtures
+  private ObjectMapper mapper;
+  private byte[] payload;
+
+  @Benchmark
+  public Organization readOrganization(final PayloadSize size) throws IOException {
+    size.payloadBytes = payload.length;
+    return mapper.readValue(payload, Organization.class);
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    final Injector injector = Guice.createInjector(
+        new JavaNetCompatibilityModule(),
+        new JacksonUtilsModule(),
+        new PersonModule(),
+        new OrganizationModule());
+
+    final ObjectMapper jsonMapper = injector.getInstance(ObjectMapper.class);
+    final byte[] json = Resources.toByteArray(Resources.getResource(ORG_JSON_RESOURCE));
+
+    switch (format) {
+      case "smile":
+        mapper = injector.getInstance(Key.get(ObjectMapper.class, Smile.class));
+        break;
+
+      case "cbor":
+        mapper = injector.getInstance(Key.get(ObjectMapper.class, Cbor.class));
+        break;
+
+      default:
+        mapper = jsonMapper;
+        break;
+    }
+
+    // Transcode the fixture into the benchmarked format
+    payload = mapper == jsonMapper ? json : mapper.writeValueAsBytes(jsonMapper.readTree(json));
+
+    // Build the deserializers outside of the measurement
+    mapper.readValue(payload, Organization.class);
+  }
+
+  /**
+   * Reports the size of the decoded payload alongside the decode time.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class PayloadSize {
+
+    // Properties
+    public int payloadBytes;
+  }
+}
@@ -0,0 +1,93 @@
+package com.xellitix.commons.jackson.objectmapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import com.google.inject.Guice;
+import com.xellitix.commons.jackson.JacksonUtilsModule;
+import com.xellitix.commons.jackson.objectmapper.test.org.Organization;
+import com.xellitix.commons.jackson.objectmapper.test.org.OrganizationModule;
+import com.xellitix.commons.jackson.objectmapper.test.person.Person;
+import com.xellitix.commons.jackson.objectmapper.test.person.PersonModule;
+import com.xellitix.commons.net.compat.java.JavaNetCompatibilityModule;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end {@link ObjectMapperProvider} deserialization benchmark.
+ *
+ * @author Grayson Kuhns
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMapperProviderBenchmark {
+
+  // Constants
+  private static final String ORG_JSON_RESOURCE =
+      "com/xellitix/commons/jackson/objectmapper/test/org.json";
+  private static final String PERSON_JSON = "{\"name\":\"Bob\",\"age\":20}";
+
+  // Fixtures
+  private ObjectMapperProvider objectMapperProvider;
+
+  private byte[] orgJson;
+  private String orgJsonString;
+  private byte[] personJson;
+
+  @Benchmark
+  public Organization readOrganizationBytes() throws IOException {
+    return objectMapperProvider
+        .get()
+        .readValue(orgJson, Organization.class);
+  }
+
+  @Benchmark
+  public Organization readOrganizationString() throws IOException {
+    return objectMapperProvider
+        .get()
+        .readValue(orgJsonString, Organization.class);
+  }
+
+  @Benchmark
+  public Person readPersonBytes() throws IOException {
+    return objectMapperProvider
+        .get()
+        .readValue(personJson, Person.class);
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    // Create the test subject
+    objectMapperProvider = Guice
+        .createInjector(
+            new JavaNetCompatibilityModule(),
+            new JacksonUtilsModule(),
+            new PersonModule(),
+            new OrganizationModule())
+        .getInstance(ObjectMapperProvider.class);
+
+    // Load the fixtures
+    orgJson = Resources.toByteArray(Resources.getResource(ORG_JSON_RESOURCE));
+    orgJsonString = new String(orgJson, StandardCharsets.UTF_8);
+    personJson = PERSON_JSON.getBytes(StandardCharsets.UTF_8);
+
+    // Build the ObjectMapper outside of the measurement
+    final ObjectMapper mapper = objectMapperProvider.get();
+    mapper.readValue(orgJson, Organization.class);
+  }
+}
@@ -0,0 +1,127 @@
+package com.xellitix.commons.jackson.objectmapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.xellitix.commons.jackson.deserialization.JsonDeserializationUtilsModule;
+import com.xellitix.commons.jackson.objectmapper.test.org.Organization;
+import com.xellitix.commons.jackson.objectmapper.test.org.OrganizationModule;
+import com.xellitix.commons.jackson.objectmapper.test.person.PersonModule;
+import com.xellitix.commons.net.compat.java.JavaNetCompatibilityModule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the decode throughput of the thread-local and shared buffer recycling of the JSON
+ * mapper on a platform thread pool and on virtual threads.
+ *
+ * <p>Each operation decodes a batch of payloads as separate tasks, the way a server hands each
+ * request to its own task. Virtual threads require Java 21; on older runtimes the virtual thread
+ * trials fail at setup.
+ *
+ * @author Grayson Kuhns
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharedBufferBenchmark {
+
+  // Constants
+  private static final String ORG_JSON_RESOURCE =
+      "com/xellitix/commons/jackson/objectmapper/test/org.json";
+  private static final int BATCH = 256;
+  private static final int PLATFORM_THREADS = 16;
+  private static final int BUFFERS_PER_TYPE = 64;
+
+  // Parameters
+  @Param({"platform", "virtual"})
+  public String threads;
+
+  @Param({"thread-local", "shared"})
+  public String recycling;
+
+  // Fixtures
+  private ObjectMapper mapper;
+  private ExecutorService executor;
+  private byte[] payload;
+
+  @Benchmark
+  public int readOrganizations() throws InterruptedException, ExecutionException {
+    final List<Future<Organization>> futures = new ArrayList<>(BATCH);
+
+    for (int i = 0; i < BATCH; i++) {
+      futures.add(executor.submit(() -> mapper.readValue(payload, Organization.class)));
+    }
+
+    int read = 0;
+    for (final Future<Organization> future : futures) {
+      if (future.get() != null) {
+        read++;
+      }
+    }
+
+    return read;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    final ObjectMapperModule objectMapperModule = new ObjectMapperModule();
+    if ("shared".equals(recycling)) {
+      objectMapperModule.sharedBuffers(BUFFERS_PER_TYPE);
+    }
+
+    final Injector injector = Guice.createInjector(
+        new JavaNetCompatibilityModule(),
+        new JsonDeserializationUtilsModule(),
+        objectMapperModule,
+        new PersonModule(),
+        new OrganizationModule());
+
+    mapper = injector.getInstance(ObjectMapper.class);
+    payload = Resources.toByteArray(Resources.getResource(ORG_JSON_RESOURCE));
+    executor = "virtual".equals(threads)
+        ? newVirtualThreadPerTaskExecutor()
+        : Executors.newFixedThreadPool(PLATFORM_THREADS);
+
+    // Build the deserializers outside of the measurement
+    mapper.readValue(payload, Organization.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      // Looked up reflectively so that the benchmarks compile for Java 8
+      return (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException ex) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21", ex);
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.xellitix.commons.jackson.async;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Decodes a stream of root-level values from byte chunks as they arrive, without blocking.
+ *
+ * <p>Chunks are fed to Jackson's non-blocking parser and the tokens of the current value are
+ * buffered until the value is complete, at which point it is deserialized with the
+ * {@link ObjectReader} and handed to the consumer. A value may span any number of chunks and a
+ * chunk may complete any number of values. The decoder keeps no reference to a chunk once a feed
+ * method returns, so callers may reuse their buffers.
+ *
+ * <p>Instances are not thread safe; use one per connection.
+ *
+ * @param <T> The value type.
+ * @author Grayson Kuhns
+ */
+public final class AsyncDecoder<T> implements Closeable {
+
+  // Constants
+  private static final int INITIAL_CHUNK_SIZE = 8 * 1024;
+
+  // Properties
+  private final ObjectReader reader;
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+
+  private byte[] chunk = new byte[INITIAL_CHUNK_SIZE];
+  private TokenBuffer tokens;
+  private int depth;
+
+  /**
+   * Constructor.
+   *
+   * @param reader The {@link ObjectReader} for the value type.
+   * @throws IOException If the non-blocking parser cannot be created.
+   */
+  public AsyncDecoder(final ObjectReader reader) throws IOException {
+    this.reader = reader;
+    this.parser = reader.getFactory().createNonBlockingByteArrayParser();
+    this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+  }
+
+  /**
+   * Feeds a chunk of bytes, emitting every value it completes.
+   *
+   * @param buffer The bytes.
+   * @param offset The offset of the first byte.
+   * @param length The number of bytes.
+   * @param consumer The consumer of the completed values.
+   * @throws IOException If the bytes are not valid or a value cannot be deserialized.
+   */
+  public void feed(
+      final byte[] buffer,
+      final int offset,
+      final int length,
+      final Consumer<? super T> consumer)
+      throws IOException {
+
+    if (length == 0) {
+      return;
+    }
+
+    feeder.feedInput(buffer, offset, offset + length);
+    drain(consumer);
+  }
+
+  /**
+   * Feeds the remaining bytes of a {@link ByteBuffer}, emitting every value they complete. The
+   * buffer position is moved to its limit.
+   *
+   * @param buffer The {@link ByteBuffer}.
+   * @param consumer The consumer of the completed values.
+   * @throws IOException If the bytes are not valid or a value cannot be deserialized.
+   */
+  public void feed(final ByteBuffer buffer, final Consumer<? super T> consumer) throws IOException {
+    final int length = buffer.remaining();
+
+    // Heap buffers are fed in place
+    if (buffer.hasArray()) {
+      feed(buffer.array(), buffer.arrayOffset() + buffer.position(), length, consumer);
+      buffer.position(buffer.limit());
+      return;
+    }
+
+    // Direct buffers are copied into the reusable chunk
+    if (chunk.length < length) {
+      chunk = new byte[Math.max(length, chunk.length * 2)];
+    }
+
+    buffer.get(chunk, 0, length);
+    feed(chunk, 0, length, consumer);
+  }
+
+  /**
+   * Signals the end of the input, emitting the last value if it was completed by the end.
+   *
+   * @param consumer The consumer of the completed values.
+   * @throws IOException If the input ends within a value.
+   */
+  public void finish(final Consumer<? super T> consumer) throws IOException {
+    feeder.endOfInput();
+    drain(consumer);
+  }
+
+  /**
+   * Checks whether a value has been partially received.
+   *
+   * @return True if the decoder is within a value.
+   */
+  public boolean isWithinValue() {
+    return tokens != null;
+  }
+
+  /**
+   * Closes the parser.
+   *
+   * @throws IOException If the parser cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+  private void drain(final Consumer<? super T> consumer) throws IOException {
+    JsonToken token;
+
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      if (tokens == null) {
+        tokens = new TokenBuffer(parser);
+      }
+
+      tokens.copyCurrentEvent(parser);
+
+      if (token.isStructStart()) {
+        depth++;
+      } else if (token.isStructEnd()) {
+        depth--;
+      }
+
+      // The root-level value is complete
+      if (depth == 0) {
+        emit(consumer);
+      }
+    }
+  }
+
+  private void emit(final Consumer<? super T> consumer) throws IOException {
+    final TokenBuffer completed = tokens;
+    tokens = null;
+
+    try (JsonParser valueParser = completed.asParser(parser.getCodec())) {
+      valueParser.nextToken();
+      final T value = reader.readValue(valueParser);
+      consumer.accept(value);
+    }
+  }
+}
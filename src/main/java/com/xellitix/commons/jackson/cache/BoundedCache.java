@@ -0,0 +1,121 @@
+package com.xellitix.commons.jackson.cache;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free cache keyed by {@link String}.
+ *
+ * <p>The cache is direct mapped: every key hashes to a single slot and storing a value replaces
+ * whatever the slot held. Lookups and stores never block and the memory used is fixed by the
+ * capacity, which makes the cache suitable for memoizing small working sets of values that are
+ * expensive to create on hot paths. Values must be immutable, as they are shared between threads.
+ *
+ * @param <V> The value type.
+ * @author Grayson Kuhns
+ */
+public final class BoundedCache<V> {
+
+  // Constants
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  // Properties
+  private final AtomicReferenceArray<Entry<V>> entries;
+  private final int mask;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructor.
+   *
+   * @param capacity The maximum number of values, rounded up to a power of two.
+   */
+  public BoundedCache(final int capacity) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Cache capacity must be between 1 and " + MAX_CAPACITY);
+    }
+
+    final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    entries = new AtomicReferenceArray<>(size);
+    mask = size - 1;
+  }
+
+  /**
+   * Gets the value stored for a key.
+   *
+   * @param key The key.
+   * @return The value or null if the key is not cached.
+   */
+  public V getIfPresent(final String key) {
+    final Entry<V> entry = entries.get(indexOf(key));
+
+    if (entry != null && entry.key.equals(key)) {
+      hits.increment();
+      return entry.value;
+    }
+
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * Stores the value of a key, evicting the value previously stored in its slot.
+   *
+   * @param key The key.
+   * @param value The value.
+   */
+  public void put(final String key, final V value) {
+    final int index = indexOf(key);
+    final Entry<V> previous = entries.getAndSet(index, new Entry<>(key, value));
+
+    if (previous != null && !previous.key.equals(key)) {
+      evictions.increment();
+    }
+  }
+
+  /**
+   * Gets the number of slots.
+   *
+   * @return The capacity.
+   */
+  public int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Removes every value. Statistics are preserved.
+   */
+  public void clear() {
+    for (int i = 0; i < entries.length(); i++) {
+      entries.set(i, null);
+    }
+  }
+
+  /**
+   * Gets a snapshot of the statistics.
+   *
+   * @return The {@link CacheStats}.
+   */
+  public CacheStats getStats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  private int indexOf(final String key) {
+    final int hash = key.hashCode();
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  private static final class Entry<V> {
+
+    // Properties
+    private final String key;
+    private final V value;
+
+    private Entry(final String key, final V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+}
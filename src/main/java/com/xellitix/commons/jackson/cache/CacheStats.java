@@ -0,0 +1,81 @@
+package com.xellitix.commons.jackson.cache;
+
+/**
+ * Immutable snapshot of the statistics of a cache.
+ *
+ * @author Grayson Kuhns
+ */
+public final class CacheStats {
+
+  // Constants
+  public static final CacheStats EMPTY = new CacheStats(0, 0, 0);
+
+  // Properties
+  private final long hits;
+  private final long misses;
+  private final long evictions;
+
+  /**
+   * Constructor.
+   *
+   * @param hits The number of lookups that found a value.
+   * @param misses The number of lookups that did not find a value.
+   * @param evictions The number of values replaced by another value.
+   */
+  public CacheStats(final long hits, final long misses, final long evictions) {
+    this.hits = hits;
+    this.misses = misses;
+    this.evictions = evictions;
+  }
+
+  /**
+   * Gets the number of lookups that found a value.
+   *
+   * @return The number of hits.
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of lookups that did not find a value.
+   *
+   * @return The number of misses.
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the number of values replaced by another value.
+   *
+   * @return The number of evictions.
+   */
+  public long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Gets the number of lookups.
+   *
+   * @return The number of lookups.
+   */
+  public long getRequests() {
+    return hits + misses;
+  }
+
+  /**
+   * Gets the ratio of lookups that found a value.
+   *
+   * @return The hit rate, or 1 if no lookup was made.
+   */
+  public double getHitRate() {
+    final long requests = getRequests();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "}";
+  }
+}
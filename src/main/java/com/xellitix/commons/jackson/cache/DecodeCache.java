@@ -0,0 +1,266 @@
+package com.xellitix.commons.jackson.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, lock-free cache of decoded values keyed by the bytes they were decoded from.
+ *
+ * <p>Inputs are hashed in a single pass, eight bytes at a time. The cached copy of the bytes is
+ * compared on every hit, so hash collisions cost a decode but never return the wrong value. Like
+ * the {@link BoundedCache} the cache is direct mapped, storing a value evicts whatever its slot
+ * held. Inputs larger than the maximum entry size are not cached, which bounds the memory used,
+ * and values expire once older than the maximum age.
+ *
+ * <p>Cached values are shared between every caller decoding the same bytes and must therefore be
+ * immutable.
+ *
+ * @author Grayson Kuhns
+ */
+public final class DecodeCache {
+
+  // Constants
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private static final long SEED = 0x2545f4914f6cdd1dL;
+  private static final long M = 0xc6a4a7935bd1e995L;
+  private static final int R = 47;
+
+  // Properties
+  private final AtomicReferenceArray<Entry> entries;
+  private final int mask;
+  private final int maxEntryBytes;
+  private final long maxAgeNanos;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  // Dependencies
+  private final LongSupplier clock;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity The maximum number of values, rounded up to a power of two.
+   * @param maxEntryBytes The size of the largest input to cache.
+   * @param maxAge The age after which a value is decoded again.
+   */
+  public DecodeCache(
+      final int capacity,
+      final int maxEntryBytes,
+      final Duration maxAge) {
+
+    this(capacity, maxEntryBytes, maxAge, System::nanoTime);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param capacity The maximum number of values, rounded up to a power of two.
+   * @param maxEntryBytes The size of the largest input to cache.
+   * @param maxAge The age after which a value is decoded again.
+   * @param clock The clock, in nanoseconds.
+   */
+  DecodeCache(
+      final int capacity,
+      final int maxEntryBytes,
+      final Duration maxAge,
+      final LongSupplier clock) {
+
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Cache capacity must be between 1 and " + MAX_CAPACITY);
+    }
+
+    if (maxEntryBytes < 0) {
+      throw new IllegalArgumentException("The maximum entry size must not be negative");
+    }
+
+    if (maxAge.isNegative() || maxAge.isZero()) {
+      throw new IllegalArgumentException("The maximum age must be positive");
+    }
+
+    final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    entries = new AtomicReferenceArray<>(size);
+    mask = size - 1;
+
+    this.maxEntryBytes = maxEntryBytes;
+    this.maxAgeNanos = maxAge.toNanos();
+    this.clock = clock;
+  }
+
+  /**
+   * Gets the value decoded from some bytes, decoding and caching it if it is not cached.
+   *
+   * @param type The type the bytes are decoded to, e.g. the {@code JavaType}.
+   * @param content The bytes.
+   * @param decoder The {@link Decoder} used on a miss.
+   * @param <T> The value type.
+   * @return The value.
+   * @throws IOException If the bytes cannot be decoded.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(
+      final Object type,
+      final byte[] content,
+      final Decoder<T> decoder)
+      throws IOException {
+
+    final long hash = hash(content);
+    final int index = indexOf(type, hash);
+    final Entry entry = entries.get(index);
+    final long now = clock.getAsLong();
+
+    if (entry != null && entry.matches(type, hash, content)) {
+      if (now - entry.expiresAt < 0) {
+        hits.increment();
+        return (T) entry.value;
+      }
+
+      // Expired, the value is decoded again
+      evictions.increment();
+    }
+
+    misses.increment();
+
+    final T value = decoder.decode(content);
+
+    if (value != null && content.length <= maxEntryBytes) {
+      final Entry stored = new Entry(type, hash, content.clone(), value, now + maxAgeNanos);
+      final Entry previous = entries.getAndSet(index, stored);
+
+      if (previous != null && !previous.sameKey(type, hash)) {
+        evictions.increment();
+      }
+    }
+
+    return value;
+  }
+
+  /**
+   * Gets the number of slots.
+   *
+   * @return The capacity.
+   */
+  public int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Removes every value. Statistics are preserved.
+   */
+  public void clear() {
+    for (int i = 0; i < entries.length(); i++) {
+      entries.set(i, null);
+    }
+  }
+
+  /**
+   * Gets a snapshot of the statistics. Expired values count as evictions.
+   *
+   * @return The {@link CacheStats}.
+   */
+  public CacheStats getStats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  /**
+   * Hashes bytes, eight at a time, with the MurmurHash64A mixing steps.
+   *
+   * @param content The bytes.
+   * @return The hash.
+   */
+  static long hash(final byte[] content) {
+    final int length = content.length;
+    final ByteBuffer words = ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN);
+
+    long hash = SEED ^ (length * M);
+    int i = 0;
+
+    for (; i <= length - Long.BYTES; i += Long.BYTES) {
+      long word = words.getLong(i);
+      word *= M;
+      word ^= word >>> R;
+      word *= M;
+
+      hash ^= word;
+      hash *= M;
+    }
+
+    if (i < length) {
+      long tail = 0;
+      for (int shift = 0; i < length; i++, shift += Byte.SIZE) {
+        tail |= (content[i] & 0xffL) << shift;
+      }
+
+      hash ^= tail;
+      hash *= M;
+    }
+
+    hash ^= hash >>> R;
+    hash *= M;
+    hash ^= hash >>> R;
+    return hash;
+  }
+
+  private int indexOf(final Object type, final long hash) {
+    final int combined = (int) (hash ^ (hash >>> 32)) ^ type.hashCode();
+    return (combined ^ (combined >>> 16)) & mask;
+  }
+
+  /**
+   * Decodes bytes on a cache miss.
+   *
+   * @param <T> The value type.
+   */
+  @FunctionalInterface
+  public interface Decoder<T> {
+
+    /**
+     * Decodes bytes.
+     *
+     * @param content The bytes.
+     * @return The value.
+     * @throws IOException If the bytes cannot be decoded.
+     */
+    T decode(byte[] content) throws IOException;
+  }
+
+  private static final class Entry {
+
+    // Properties
+    private final Object type;
+    private final long hash;
+    private final byte[] content;
+    private final Object value;
+    private final long expiresAt;
+
+    private Entry(
+        final Object type,
+        final long hash,
+        final byte[] content,
+        final Object value,
+        final long expiresAt) {
+
+      this.type = type;
+      this.hash = hash;
+      this.content = content;
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean sameKey(final Object type, final long hash) {
+      return this.hash == hash && this.type.equals(type);
+    }
+
+    private boolean matches(final Object type, final long hash, final byte[] content) {
+      return sameKey(type, hash) && Arrays.equals(this.content, content);
+    }
+  }
+}
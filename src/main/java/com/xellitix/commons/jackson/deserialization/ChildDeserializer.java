@@ -0,0 +1,48 @@
+package com.xellitix.commons.jackson.deserialization;
+
+/**
+ * Child type declared by a {@link CompositeNodeDeserializer}.
+ *
+ * <p>The handle holds no deserializer of its own, so it can be shared by every mapper the owning
+ * deserializer is registered with. Subtrees are converted with
+ * {@link CompositeNodeDeserializer#convertChild} and
+ * {@link CompositeNodeDeserializer#convertChildOrNull}.
+ *
+ * @param <T> The child type.
+ * @author Grayson Kuhns
+ */
+public final class ChildDeserializer<T> {
+
+  // Properties
+  private final Class<T> type;
+  private final int index;
+
+  /**
+   * Constructor.
+   *
+   * @param type The child type.
+   * @param index The position of the child among the children of its owner.
+   */
+  ChildDeserializer(final Class<T> type, final int index) {
+    this.type = type;
+    this.index = index;
+  }
+
+  /**
+   * Gets the child type.
+   *
+   * @return The child type.
+   */
+  public Class<T> getType() {
+    return type;
+  }
+
+  /**
+   * Gets the position of the child among the children of its owner.
+   *
+   * @return The index.
+   */
+  int getIndex() {
+    return index;
+  }
+}
@@ -0,0 +1,38 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.util.List;
+
+/**
+ * {@link JsonNodePropertyRetriever} that collects failures instead of throwing them.
+ *
+ * <p>A failed retrieval returns null, or the default value for primitive getters, and is
+ * recorded. Once every property of a node has been retrieved, {@link #throwIfFailed} reports all
+ * of the failures together. Instances are not thread safe; use one per node.
+ *
+ * @author Grayson Kuhns
+ */
+public interface CollectingJsonNodePropertyRetriever extends JsonNodePropertyRetriever {
+
+  /**
+   * Checks whether any failure was collected.
+   *
+   * @return True if a failure was collected.
+   */
+  boolean hasFailures();
+
+  /**
+   * Gets the collected failures.
+   *
+   * @return The failures.
+   */
+  List<PropertyRetrievalException> getFailures();
+
+  /**
+   * Throws a {@link PropertyValidationException} if any failure was collected.
+   *
+   * @param parser The {@link JsonParser}.
+   * @throws PropertyValidationException If a failure was collected.
+   */
+  void throwIfFailed(JsonParser parser) throws PropertyValidationException;
+}
@@ -0,0 +1,170 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdNodeBasedDeserializer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link StdNodeBasedDeserializer} that converts nested values through the current
+ * {@link DeserializationContext}.
+ *
+ * <p>Children are declared in the constructor with {@link #child}. Contextualizing the
+ * deserializer returns a copy that looks each child deserializer up once, on first use, and keeps
+ * it; the deserializer itself holds no resolved state, so a single instance can be registered
+ * with several mappers. Converting a nested value neither re-enters the
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} nor looks up a deserializer, and subclasses
+ * do not need an {@link com.fasterxml.jackson.databind.ObjectMapper} of their own.
+ *
+ * <p>Subtrees whose deserializer is a {@link StdNodeBasedDeserializer} are converted directly,
+ * without a parser or a copy of the tree. Any other deserializer, including a node based one
+ * wrapped by a delegating deserializer such as the
+ * {@link com.xellitix.commons.jackson.metrics.InstrumentedDeserializer}, reads the subtree through
+ * a tree traversing parser.
+ *
+ * @param <T> The deserialized type.
+ * @author Grayson Kuhns
+ */
+public abstract class CompositeNodeDeserializer<T> extends StdNodeBasedDeserializer<T>
+    implements ContextualDeserializer, Cloneable {
+
+  // Properties
+  private final List<ChildDeserializer<?>> children = new ArrayList<>();
+  private AtomicReferenceArray<JsonDeserializer<Object>> resolved;
+
+  /**
+   * Constructor.
+   *
+   * @param type The deserialized type.
+   */
+  protected CompositeNodeDeserializer(final Class<T> type) {
+    super(type);
+  }
+
+  /**
+   * Creates the copy used by a mapper, which keeps the child deserializers of that mapper.
+   *
+   * @param ctx The {@link DeserializationContext}.
+   * @param property The {@link BeanProperty} being deserialized, or null for root values.
+   * @return The contextual {@link CompositeNodeDeserializer}.
+   * @throws JsonMappingException If the deserializer cannot be copied.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public JsonDeserializer<?> createContextual(
+      final DeserializationContext ctx,
+      final BeanProperty property)
+      throws JsonMappingException {
+
+    final CompositeNodeDeserializer<T> contextual;
+
+    try {
+      contextual = (CompositeNodeDeserializer<T>) clone();
+    } catch (CloneNotSupportedException ex) {
+      throw JsonMappingException.from(ctx, "Unable to contextualize " + getClass().getName(), ex);
+    }
+
+    contextual.resolved = new AtomicReferenceArray<>(children.size());
+    return contextual;
+  }
+
+  /**
+   * Declares a child type.
+   *
+   * @param type The child type.
+   * @param <C> The child type.
+   * @return The {@link ChildDeserializer}.
+   */
+  protected final <C> ChildDeserializer<C> child(final Class<C> type) {
+    final ChildDeserializer<C> child = new ChildDeserializer<>(type, children.size());
+    children.add(child);
+    return child;
+  }
+
+  /**
+   * Converts a subtree into a value of a child type.
+   *
+   * @param child The {@link ChildDeserializer}.
+   * @param node The subtree.
+   * @param ctx The {@link DeserializationContext}.
+   * @param <C> The child type.
+   * @return The value.
+   * @throws IOException If the subtree cannot be converted.
+   */
+  @SuppressWarnings("unchecked")
+  protected final <C> C convertChild(
+      final ChildDeserializer<C> child,
+      final JsonNode node,
+      final DeserializationContext ctx)
+      throws IOException {
+
+    final JsonDeserializer<Object> deser = deserializerOf(child, ctx);
+
+    if (node.isNull()) {
+      return (C) deser.getNullValue(ctx);
+    }
+
+    // Node based deserializers convert the subtree as is
+    if (deser instanceof StdNodeBasedDeserializer) {
+      return ((StdNodeBasedDeserializer<C>) deser).convert(node, ctx);
+    }
+
+    try (JsonParser parser = node.traverse(ctx.getParser().getCodec())) {
+      parser.nextToken();
+      return (C) deser.deserialize(parser, ctx);
+    }
+  }
+
+  /**
+   * Converts a subtree into a value of a child type if it exists.
+   *
+   * @param child The {@link ChildDeserializer}.
+   * @param node The subtree or null.
+   * @param ctx The {@link DeserializationContext}.
+   * @param <C> The child type.
+   * @return The value or null if the subtree is null, missing or a JSON null.
+   * @throws IOException If the subtree cannot be converted.
+   */
+  protected final <C> C convertChildOrNull(
+      final ChildDeserializer<C> child,
+      final JsonNode node,
+      final DeserializationContext ctx)
+      throws IOException {
+
+    if (node == null || node.isNull() || node.isMissingNode()) {
+      return null;
+    }
+
+    return convertChild(child, node, ctx);
+  }
+
+  private JsonDeserializer<Object> deserializerOf(
+      final ChildDeserializer<?> child,
+      final DeserializationContext ctx)
+      throws JsonMappingException {
+
+    final AtomicReferenceArray<JsonDeserializer<Object>> deserializers = resolved;
+
+    // Not contextualized, e.g. when called directly rather than by a mapper
+    if (deserializers == null) {
+      return ctx.findRootValueDeserializer(ctx.constructType(child.getType()));
+    }
+
+    // Looked up on first use so that children may refer back to the deserialized type
+    JsonDeserializer<Object> deser = deserializers.get(child.getIndex());
+    if (deser == null) {
+      deser = ctx.findRootValueDeserializer(ctx.constructType(child.getType()));
+      deserializers.set(child.getIndex(), deser);
+    }
+
+    return deser;
+  }
+}
@@ -0,0 +1,96 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Default {@link CollectingJsonNodePropertyRetriever} implementation.
+ *
+ * @author Grayson Kuhns
+ */
+class DefaultCollectingJsonNodePropertyRetriever
+    extends DefaultJsonNodePropertyRetriever
+    implements CollectingJsonNodePropertyRetriever {
+
+  // Properties
+  private List<PropertyRetrievalException> failures;
+
+  /**
+   * Constructor.
+   *
+   * @param netValueCache The {@link NetValueCache}.
+   * @param stringPool The {@link StringPool}.
+   * @param failureMode The {@link PropertyFailureMode}.
+   * @param failureCounter The {@link PropertyFailureCounter}.
+   */
+  DefaultCollectingJsonNodePropertyRetriever(
+      final NetValueCache netValueCache,
+      final StringPool stringPool,
+      final PropertyFailureMode failureMode,
+      final PropertyFailureCounter failureCounter) {
+
+    super(netValueCache, stringPool, failureMode, failureCounter);
+  }
+
+  /**
+   * Checks whether any failure was collected.
+   *
+   * @return True if a failure was collected.
+   */
+  @Override
+  public boolean hasFailures() {
+    return failures != null;
+  }
+
+  /**
+   * Gets the collected failures.
+   *
+   * @return The failures.
+   */
+  @Override
+  public List<PropertyRetrievalException> getFailures() {
+    return failures == null
+        ? Collections.emptyList()
+        : Collections.unmodifiableList(failures);
+  }
+
+  /**
+   * Throws a {@link PropertyValidationException} if any failure was collected.
+   *
+   * @param parser The {@link JsonParser}.
+   * @throws PropertyValidationException If a failure was collected.
+   */
+  @Override
+  public void throwIfFailed(final JsonParser parser) throws PropertyValidationException {
+    if (failures != null) {
+      throw getFailureMode().report(parser, failures);
+    }
+  }
+
+  /**
+   * Counts and records a property retrieval failure.
+   *
+   * @param error The {@link PropertyError}.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @param cause The cause or null.
+   */
+  @Override
+  protected void fail(
+      final PropertyError error,
+      final String property,
+      final JsonParser parser,
+      final Throwable cause) {
+
+    getFailureCounter().record(property, error);
+
+    if (failures == null) {
+      failures = new ArrayList<>();
+    }
+
+    // Individual failures are never thrown, so their stack traces are never captured
+    failures.add(PropertyFailureMode.STACKLESS.failure(parser, error, property, cause));
+  }
+}
@@ -0,0 +1,346 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Default {@link JsonNodeListRetriever} implementation.
+ *
+ * <p>Arrays with at least as many elements as the parallelism threshold are split across the
+ * common {@link ForkJoinPool}. The first failing element stops the remaining work and is reported
+ * with its index.
+ *
+ * <p>The {@link ObjectReader} of each element type is cached for the mapper or reader that last
+ * converted elements of that type.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultJsonNodeListRetriever implements JsonNodeListRetriever {
+
+  // Constants
+  private static final int MIN_SPLIT_SIZE = 64;
+  private static final int SPLITS_PER_WORKER = 4;
+
+  // Dependencies
+  private final JsonNodePropertyRetriever propertyRetriever;
+  private final PropertyFailureMode failureMode;
+
+  // Properties
+  private final int parallelismThreshold;
+  private final ConcurrentMap<Class<?>, CachedReader> readers = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param propertyRetriever The {@link JsonNodePropertyRetriever}.
+   * @param failureMode The {@link PropertyFailureMode}.
+   * @param parallelismThreshold The minimum number of elements converted in parallel.
+   */
+  DefaultJsonNodeListRetriever(
+      final JsonNodePropertyRetriever propertyRetriever,
+      final PropertyFailureMode failureMode,
+      final int parallelismThreshold) {
+
+    this.propertyRetriever = propertyRetriever;
+    this.failureMode = failureMode;
+    this.parallelismThreshold = parallelismThreshold;
+  }
+
+  /**
+   * Retrieves the elements of an array property if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param type The element type.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The element type.
+   * @return The elements or null if the property does not exist.
+   * @throws IOException If the property is not an array or an element cannot be converted.
+   */
+  @Override
+  public <T> List<T> getListOrNull(
+      final JsonNode node,
+      final String property,
+      final Class<T> type,
+      final JsonParser parser)
+      throws IOException {
+
+    final JsonNode prop = propertyRetriever.getPropertyOrNull(node, property);
+    return prop == null ? null : listValue(prop, property, type, parser);
+  }
+
+  /**
+   * Retrieves the elements of an array property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param type The element type.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The element type.
+   * @return The elements.
+   * @throws IOException If the property is not defined, is not an array or an element cannot be
+   *     converted.
+   */
+  @Override
+  public <T> List<T> getList(
+      final JsonNode node,
+      final String property,
+      final Class<T> type,
+      final JsonParser parser)
+      throws IOException {
+
+    final JsonNode prop = propertyRetriever.getProperty(node, property, parser);
+    return prop == null ? null : listValue(prop, property, type, parser);
+  }
+
+  /**
+   * Retrieves the elements of an array property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param type The element type.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The element type.
+   * @return The elements or null if the property does not exist.
+   * @throws IOException If the property is not an array or an element cannot be converted.
+   */
+  @Override
+  public <T> List<T> getListOrNull(
+      final JsonNode node,
+      final JsonPointer path,
+      final Class<T> type,
+      final JsonParser parser)
+      throws IOException {
+
+    final JsonNode prop = propertyRetriever.getPropertyOrNull(node, path);
+    return prop == null ? null : listValue(prop, path.toString(), type, parser);
+  }
+
+  /**
+   * Retrieves the elements of an array property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param type The element type.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The element type.
+   * @return The elements.
+   * @throws IOException If the property is not defined, is not an array or an element cannot be
+   *     converted.
+   */
+  @Override
+  public <T> List<T> getList(
+      final JsonNode node,
+      final JsonPointer path,
+      final Class<T> type,
+      final JsonParser parser)
+      throws IOException {
+
+    final JsonNode prop = propertyRetriever.getProperty(node, path, parser);
+    return prop == null ? null : listValue(prop, path.toString(), type, parser);
+  }
+
+  private <T> List<T> listValue(
+      final JsonNode prop,
+      final String property,
+      final Class<T> type,
+      final JsonParser parser)
+      throws IOException {
+
+    if (!prop.isArray()) {
+      throw failureMode.failure(parser, PropertyError.ARRAY_INVALID, property, null);
+    }
+
+    final ElementConverter<T> converter = converterFor(parser, type);
+    final int size = prop.size();
+
+    // Convert small arrays on the calling thread
+    if (size < parallelismThreshold) {
+      final List<T> values = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        try {
+          values.add(converter.convert(prop.get(i)));
+        } catch (IOException | RuntimeException ex) {
+          throw elementFailure(parser, property, i, ex);
+        }
+      }
+
+      return values;
+    }
+
+    // Convert large arrays across the fork-join pool
+    final ForkJoinPool pool = ForkJoinPool.commonPool();
+    final Object[] values = new Object[size];
+    final AtomicReference<ElementFailure> failure = new AtomicReference<>();
+    final int splitSize = Math.max(
+        MIN_SPLIT_SIZE,
+        size / (pool.getParallelism() * SPLITS_PER_WORKER));
+
+    pool.invoke(new ConvertTask<>(prop, converter, values, failure, 0, size, splitSize));
+
+    final ElementFailure elementFailure = failure.get();
+    if (elementFailure != null) {
+      throw elementFailure(parser, property, elementFailure.index, elementFailure.cause);
+    }
+
+    @SuppressWarnings("unchecked")
+    final List<T> list = (List<T>) new ArrayList<>(Arrays.asList(values));
+    return list;
+  }
+
+  private PropertyRetrievalException elementFailure(
+      final JsonParser parser,
+      final String property,
+      final int index,
+      final Exception cause) {
+
+    return failureMode.failure(
+        parser,
+        PropertyError.ELEMENT_INVALID,
+        property + "[" + index + "]",
+        cause);
+  }
+
+  private <T> ElementConverter<T> converterFor(
+      final JsonParser parser,
+      final Class<T> type) {
+
+    final ObjectCodec codec = parser.getCodec();
+
+    if (codec instanceof ObjectMapper || codec instanceof ObjectReader) {
+      final ObjectReader reader = readerFor(codec, type);
+      return reader::readValue;
+    }
+
+    if (codec == null) {
+      throw new IllegalStateException("The JsonParser has no codec to convert elements with");
+    }
+
+    return element -> codec.treeToValue(element, type);
+  }
+
+  private ObjectReader readerFor(final ObjectCodec codec, final Class<?> type) {
+    final CachedReader cached = readers.get(type);
+
+    if (cached != null && cached.codec == codec) {
+      return cached.reader;
+    }
+
+    // Creating a reader looks up the root deserializer of the type
+    final ObjectReader reader = codec instanceof ObjectMapper
+        ? ((ObjectMapper) codec).readerFor(type)
+        : ((ObjectReader) codec).forType(type);
+
+    readers.put(type, new CachedReader(codec, reader));
+    return reader;
+  }
+
+  @FunctionalInterface
+  private interface ElementConverter<T> {
+
+    T convert(JsonNode element) throws IOException;
+  }
+
+  private static final class CachedReader {
+
+    // Properties
+    private final ObjectCodec codec;
+    private final ObjectReader reader;
+
+    private CachedReader(final ObjectCodec codec, final ObjectReader reader) {
+      this.codec = codec;
+      this.reader = reader;
+    }
+  }
+
+  private static final class ElementFailure {
+
+    // Properties
+    private final int index;
+    private final Exception cause;
+
+    private ElementFailure(final int index, final Exception cause) {
+      this.index = index;
+      this.cause = cause;
+    }
+  }
+
+  private static final class ConvertTask<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    // Properties
+    private final JsonNode array;
+    private final ElementConverter<T> converter;
+    private final Object[] values;
+    private final AtomicReference<ElementFailure> failure;
+    private final int start;
+    private final int end;
+    private final int splitSize;
+
+    private ConvertTask(
+        final JsonNode array,
+        final ElementConverter<T> converter,
+        final Object[] values,
+        final AtomicReference<ElementFailure> failure,
+        final int start,
+        final int end,
+        final int splitSize) {
+
+      this.array = array;
+      this.converter = converter;
+      this.values = values;
+      this.failure = failure;
+      this.start = start;
+      this.end = end;
+      this.splitSize = splitSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start > splitSize) {
+        final int middle = (start + end) >>> 1;
+        invokeAll(
+            new ConvertTask<>(array, converter, values, failure, start, middle, splitSize),
+            new ConvertTask<>(array, converter, values, failure, middle, end, splitSize));
+        return;
+      }
+
+      for (int i = start; i < end; i++) {
+        if (failure.get() != null) {
+          return;
+        }
+
+        try {
+          values[i] = converter.convert(array.get(i));
+        } catch (IOException | RuntimeException ex) {
+          recordFailure(new ElementFailure(i, ex));
+          return;
+        }
+      }
+    }
+
+    private void recordFailure(final ElementFailure elementFailure) {
+      ElementFailure current = failure.get();
+      while (current == null || current.index > elementFailure.index) {
+        if (failure.compareAndSet(current, elementFailure)) {
+          return;
+        }
+        current = failure.get();
+      }
+    }
+  }
+}
@@ -1,12 +1,11 @@
 package com.xellitix.commons.jackson.deserialization;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import com.xellitix.commons.net.compat.java.uri.UriFactory;
-import com.xellitix.commons.net.compat.java.url.UrlFactory;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -20,38 +19,31 @@ import java.net.URL;
 @Singleton
 public class DefaultJsonNodePropertyRetriever implements JsonNodePropertyRetriever {
 
-  // Messages
-  private static final String MSG_TMPL_PROP_MISSING =
-      "Expected property \"%s\" to be defined";
-
-  private static final String MSG_TMPL_STRING_INVALID =
-      "Expected property \"%s\" to be a string";
-  private static final String MSG_TMPL_INT_INVALID =
-      "Expected property \"%s\" to be an integer";
-  private static final String MSG_TMPL_LONG_INVALID =
-      "Expected property \"%s\" to be a long";
-  private static final String MSG_TMPL_URI_INVALID =
-      "Expected property \"%s\" to be a valid URI";
-  private static final String MSG_TMPL_URL_INVALID =
-      "Expected property \"%s\" to be a valid URL";
-
   // Dependencies
-  private final UriFactory uriFactory;
-  private final UrlFactory urlFactory;
+  private final NetValueCache netValueCache;
+  private final StringPool stringPool;
+  private final PropertyFailureMode failureMode;
+  private final PropertyFailureCounter failureCounter;
 
   /**
    * Constructor.
    *
-   * @param uriFactory The {@link UriFactory}.
-   * @param urlFactory The {@link UrlFactory}.
+   * @param netValueCache The {@link NetValueCache}.
+   * @param stringPool The {@link StringPool}.
+   * @param failureMode The {@link PropertyFailureMode}.
+   * @param failureCounter The {@link PropertyFailureCounter}.
    */
   @Inject
   DefaultJsonNodePropertyRetriever(
-      final UriFactory uriFactory,
-      final UrlFactory urlFactory) {
+      final NetValueCache netValueCache,
+      final StringPool stringPool,
+      final PropertyFailureMode failureMode,
+      final PropertyFailureCounter failureCounter) {
 
-    this.uriFactory = uriFactory;
-    this.urlFactory = urlFactory;
+    this.netValueCache = netValueCache;
+    this.stringPool = stringPool;
+    this.failureMode = failureMode;
+    this.failureCounter = failureCounter;
   }
 
   /**
@@ -76,12 +68,32 @@ public class DefaultJsonNodePropertyRetriever implements JsonNodePropertyRetriev
       return null;
     }
 
-    if (!prop.isTextual()) {
-      throw new JsonMappingException(parser,
-          String.format(MSG_TMPL_STRING_INVALID, property));
+    return stringValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a {@link String} property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public String getStringOrNull(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+
+    if (prop == null) {
+      return null;
     }
 
-    return prop.asText();
+    return stringValue(prop, path.toString(), parser);
   }
 
   /**
@@ -100,73 +112,117 @@ public class DefaultJsonNodePropertyRetriever implements JsonNodePropertyRetriev
       final JsonParser parser)
       throws JsonMappingException {
 
-    final String value = getStringOrNull(node, property, parser);
-    throwIfNull(value, property, parser);
-    return value;
+    final JsonNode prop = getProperty(node, property, parser);
+    return prop == null ? null : stringValue(prop, property, parser);
   }
 
   /**
-   * Retrieves the value of an {@link Integer} property if it exists.
+   * Retrieves the value of a {@link String} property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public String getString(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, path, parser);
+    return prop == null ? null : stringValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the canonical instance of a {@link String} property value if it exists.
    *
    * @param node The {@link JsonNode} containing the property.
    * @param property The property name.
    * @param parser The {@link JsonParser}.
-   * @return The {@link Integer} value or null if the property does not exist.
+   * @return The {@link String} value or null if the property does not exist.
    * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public Integer getIntOrNull(
+  public String getPooledStringOrNull(
       final JsonNode node,
       final String property,
       final JsonParser parser)
       throws JsonMappingException {
 
-    final JsonNode prop = getPropertyOrNull(node, property);
-
-    if (prop == null) {
-      return null;
-    }
+    return stringPool.canonicalize(getStringOrNull(node, property, parser));
+  }
 
-    if (!(prop.isInt() || prop.isShort())) {
-      throw new JsonMappingException(parser,
-          String.format(MSG_TMPL_INT_INVALID, property));
-    }
+  /**
+   * Retrieves the canonical instance of a {@link String} property value at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public String getPooledStringOrNull(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
 
-    return prop.asInt();
+    return stringPool.canonicalize(getStringOrNull(node, path, parser));
   }
 
   /**
-   * Retrieves the value of an {@link Integer} property.
+   * Retrieves the canonical instance of a {@link String} property value.
    *
    * @param node The {@link JsonNode} containing the property.
    * @param property The property name.
    * @param parser The {@link JsonParser}.
-   * @return The {@link Integer} value.
+   * @return The {@link String} value.
    * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public int getInt(
+  public String getPooledString(
       final JsonNode node,
       final String property,
       final JsonParser parser)
       throws JsonMappingException {
 
-    final Integer prop = getIntOrNull(node, property, parser);
-    throwIfNull(prop, property, parser);
-    return prop;
+    return stringPool.canonicalize(getString(node, property, parser));
   }
 
   /**
-   * Retrieves the value of a {@link Long} property if it exists.
+   * Retrieves the canonical instance of a {@link String} property value at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public String getPooledString(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    return stringPool.canonicalize(getString(node, path, parser));
+  }
+
+  /**
+   * Retrieves the value of an {@link Integer} property if it exists.
    *
    * @param node The {@link JsonNode} containing the property.
    * @param property The property name.
    * @param parser The {@link JsonParser}.
-   * @return The {@link Long} value or null if the property does not exist.
+   * @return The {@link Integer} value or null if the property does not exist.
    * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public Long getLongOrNull(
+  public Integer getIntOrNull(
       final JsonNode node,
       final String property,
       final JsonParser parser)
@@ -178,106 +234,139 @@ public class DefaultJsonNodePropertyRetriever implements JsonNodePropertyRetriev
       return null;
     }
 
-    if (!(prop.isLong() || prop.isInt() || prop.isShort())) {
-      throw new JsonMappingException(parser,
-          String.format(MSG_TMPL_LONG_INVALID, property));
+    if (!isInt(prop)) {
+      fail(PropertyError.INT_INVALID, property, parser, null);
+      return null;
     }
 
-    return prop.asLong();
+    return intValue(prop, property, parser);
   }
 
   /**
-   * Retrieves the value of a {@link Long} property.
+   * Retrieves the value of an {@link Integer} property at a path if it exists.
    *
    * @param node The {@link JsonNode} containing the property.
-   * @param property The property name.
+   * @param path The {@link JsonPointer} of the property.
    * @param parser The {@link JsonParser}.
-   * @return The {@link Long} value.
+   * @return The {@link Integer} value or null if the property does not exist.
    * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public long getLong(
+  public Integer getIntOrNull(
       final JsonNode node,
-      final String property,
+      final JsonPointer path,
       final JsonParser parser)
       throws JsonMappingException {
 
-    final Long prop = getLongOrNull(node, property, parser);
-    throwIfNull(prop, property, parser);
-    return prop;
+    final JsonNode prop = getPropertyOrNull(node, path);
+
+    if (prop == null) {
+      return null;
+    }
+
+    if (!isInt(prop)) {
+      fail(PropertyError.INT_INVALID, path.toString(), parser, null);
+      return null;
+    }
+
+    return intValue(prop, path.toString(), parser);
   }
 
   /**
-   * Retrieves the value of a {@link URI} property if it exists.
+   * Retrieves the value of an {@link Integer} property.
    *
    * @param node The {@link JsonNode} containing the property.
    * @param property The property name.
    * @param parser The {@link JsonParser}.
-   * @return The {@link URI} value or null if the property does not exist.
+   * @return The {@link Integer} value.
    * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public URI getUriOrNull(
+  public int getInt(
       final JsonNode node,
       final String property,
       final JsonParser parser)
       throws JsonMappingException {
 
-    final JsonNode prop = getPropertyOrNull(node, property);
-
-    if (prop == null) {
-      return null;
-    }
-
-    if (!prop.isTextual()) {
-      throw new JsonMappingException(parser,
-          String.format(MSG_TMPL_URI_INVALID, property));
-    }
+    final JsonNode prop = getProperty(node, property, parser);
+    return prop == null ? 0 : intValue(prop, property, parser);
+  }
 
-    final String uri = prop.asText();
+  /**
+   * Retrieves the value of an {@link Integer} property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link Integer} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public int getInt(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
 
-    try {
-      return uriFactory.create(uri);
-    } catch (URISyntaxException ex) {
-      throw new JsonMappingException(
-          parser,
-          String.format(MSG_TMPL_URI_INVALID, property),
-          ex);
-    }
+    final JsonNode prop = getProperty(node, path, parser);
+    return prop == null ? 0 : intValue(prop, path.toString(), parser);
   }
 
   /**
-   * Retrieves the value of a {@link URI} property.
+   * Retrieves the value of an integer property, or a default value if it does not exist.
    *
    * @param node The {@link JsonNode} containing the property.
    * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
    * @param parser The {@link JsonParser}.
-   * @return The {@link URI} value.
+   * @return The integer value or the default value if the property does not exist.
    * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public URI getUri(
+  public int getIntOrDefault(
       final JsonNode node,
       final String property,
+      final int defaultValue,
       final JsonParser parser)
       throws JsonMappingException {
 
-    final URI prop = getUriOrNull(node, property, parser);
-    throwIfNull(prop, property, parser);
-    return prop;
+    final JsonNode prop = getPropertyOrNull(node, property);
+    return prop == null ? defaultValue : intValue(prop, property, parser);
   }
 
   /**
-   * Retrieves the value of a {@link URL} property if it exists.
+   * Retrieves the value of an integer property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The integer value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public int getIntOrDefault(
+      final JsonNode node,
+      final JsonPointer path,
+      final int defaultValue,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+    return prop == null ? defaultValue : intValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a {@link Long} property if it exists.
    *
    * @param node The {@link JsonNode} containing the property.
    * @param property The property name.
    * @param parser The {@link JsonParser}.
-   * @return The {@link URL} value or null if the property does not exist.
+   * @return The {@link Long} value or null if the property does not exist.
    * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public URL getUrlOrNull(
+  public Long getLongOrNull(
       final JsonNode node,
       final String property,
       final JsonParser parser)
@@ -289,98 +378,864 @@ public class DefaultJsonNodePropertyRetriever implements JsonNodePropertyRetriev
       return null;
     }
 
-    if (!prop.isTextual()) {
-      throw new JsonMappingException(parser,
-          String.format(MSG_TMPL_URL_INVALID, property));
+    if (!isLong(prop)) {
+      fail(PropertyError.LONG_INVALID, property, parser, null);
+      return null;
     }
 
-    final String url = prop.asText();
+    return longValue(prop, property, parser);
+  }
 
-    try {
-      return urlFactory.create(url);
-    } catch (MalformedURLException ex) {
-      throw new JsonMappingException(
-          parser,
-          String.format(MSG_TMPL_URL_INVALID, property),
-          ex);
+  /**
+   * Retrieves the value of a {@link Long} property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link Long} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public Long getLongOrNull(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+
+    if (prop == null) {
+      return null;
+    }
+
+    if (!isLong(prop)) {
+      fail(PropertyError.LONG_INVALID, path.toString(), parser, null);
+      return null;
     }
+
+    return longValue(prop, path.toString(), parser);
   }
 
   /**
-   * Retrieves the value of a {@link URL} property.
+   * Retrieves the value of a {@link Long} property.
    *
    * @param node The {@link JsonNode} containing the property.
    * @param property The property name.
    * @param parser The {@link JsonParser}.
-   * @return The {@link URL} value.
+   * @return The {@link Long} value.
    * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public URL getUrl(
+  public long getLong(
       final JsonNode node,
       final String property,
       final JsonParser parser)
       throws JsonMappingException {
 
-    final URL prop = getUrlOrNull(node, property, parser);
-    throwIfNull(prop, property, parser);
-    return prop;
+    final JsonNode prop = getProperty(node, property, parser);
+    return prop == null ? 0 : longValue(prop, property, parser);
   }
 
   /**
-   * Gets a property {@link JsonNode}.
+   * Retrieves the value of a {@link Long} property at a path.
    *
-   * @param node The root object {@link JsonNode}.
-   * @param property The property name.
-   * @return The property {@link JsonNode} or null if the property does not exist.
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link Long} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public JsonNode getPropertyOrNull(final JsonNode node, final String property) {
-    final JsonNode prop = node.get(property);
-
-    // The property is not defined
-    if (prop == null) {
-      return null;
-    }
-
-    // The property is defined, but its value is null
-    if (prop.isNull()) {
-      return null;
-    }
+  public long getLong(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
 
-    return prop;
+    final JsonNode prop = getProperty(node, path, parser);
+    return prop == null ? 0 : longValue(prop, path.toString(), parser);
   }
 
   /**
-   * Gets a property {@link JsonNode}.
+   * Retrieves the value of a long property, or a default value if it does not exist.
    *
-   * @param node The root object {@link JsonNode}.
+   * @param node The {@link JsonNode} containing the property.
    * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
    * @param parser The {@link JsonParser}.
-   * @return The property {@link JsonNode}.
-   * @throws JsonMappingException If the property is not defined.
+   * @return The long value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
    */
   @Override
-  public JsonNode getProperty(
+  public long getLongOrDefault(
       final JsonNode node,
       final String property,
+      final long defaultValue,
       final JsonParser parser)
       throws JsonMappingException {
 
     final JsonNode prop = getPropertyOrNull(node, property);
-    throwIfNull(prop, property, parser);
-    return prop;
+    return prop == null ? defaultValue : longValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a long property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The long value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public long getLongOrDefault(
+      final JsonNode node,
+      final JsonPointer path,
+      final long defaultValue,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+    return prop == null ? defaultValue : longValue(prop, path.toString(), parser);
   }
 
-  private void throwIfNull(
-      final Object obj,
+  /**
+   * Retrieves the value of a {@link URI} property if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URI} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URI getUriOrNull(
+      final JsonNode node,
       final String property,
       final JsonParser parser)
       throws JsonMappingException {
 
-    if (obj == null) {
-      throw new JsonMappingException(parser,
-          String.format(MSG_TMPL_PROP_MISSING, property));
+    final JsonNode prop = getPropertyOrNull(node, property);
+
+    if (prop == null) {
+      return null;
     }
+
+    return uriValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a {@link URI} property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URI} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URI getUriOrNull(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+
+    if (prop == null) {
+      return null;
+    }
+
+    return uriValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a {@link URI} property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URI} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URI getUri(
+      final JsonNode node,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, property, parser);
+    return prop == null ? null : uriValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a {@link URI} property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URI} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URI getUri(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, path, parser);
+    return prop == null ? null : uriValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a {@link URL} property if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URL} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URL getUrlOrNull(
+      final JsonNode node,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, property);
+
+    if (prop == null) {
+      return null;
+    }
+
+    return urlValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a {@link URL} property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URL} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URL getUrlOrNull(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+
+    if (prop == null) {
+      return null;
+    }
+
+    return urlValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a {@link URL} property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URL} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URL getUrl(
+      final JsonNode node,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, property, parser);
+    return prop == null ? null : urlValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a {@link URL} property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URL} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URL getUrl(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, path, parser);
+    return prop == null ? null : urlValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a double property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The double value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public double getDouble(
+      final JsonNode node,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, property, parser);
+    return prop == null ? 0d : doubleValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a double property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The double value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public double getDouble(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, path, parser);
+    return prop == null ? 0d : doubleValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a double property, or a default value if it does not exist.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The double value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public double getDoubleOrDefault(
+      final JsonNode node,
+      final String property,
+      final double defaultValue,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, property);
+    return prop == null ? defaultValue : doubleValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a double property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The double value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public double getDoubleOrDefault(
+      final JsonNode node,
+      final JsonPointer path,
+      final double defaultValue,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+    return prop == null ? defaultValue : doubleValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a float property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The float value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public float getFloat(
+      final JsonNode node,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, property, parser);
+    return prop == null ? 0f : floatValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a float property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The float value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public float getFloat(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, path, parser);
+    return prop == null ? 0f : floatValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a float property, or a default value if it does not exist.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The float value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public float getFloatOrDefault(
+      final JsonNode node,
+      final String property,
+      final float defaultValue,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, property);
+    return prop == null ? defaultValue : floatValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a float property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The float value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public float getFloatOrDefault(
+      final JsonNode node,
+      final JsonPointer path,
+      final float defaultValue,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+    return prop == null ? defaultValue : floatValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a boolean property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The boolean value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public boolean getBoolean(
+      final JsonNode node,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, property, parser);
+    return prop != null && booleanValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a boolean property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The boolean value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public boolean getBoolean(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getProperty(node, path, parser);
+    return prop != null && booleanValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Retrieves the value of a boolean property, or a default value if it does not exist.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The boolean value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public boolean getBooleanOrDefault(
+      final JsonNode node,
+      final String property,
+      final boolean defaultValue,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, property);
+    return prop == null ? defaultValue : booleanValue(prop, property, parser);
+  }
+
+  /**
+   * Retrieves the value of a boolean property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The boolean value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public boolean getBooleanOrDefault(
+      final JsonNode node,
+      final JsonPointer path,
+      final boolean defaultValue,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+    return prop == null ? defaultValue : booleanValue(prop, path.toString(), parser);
+  }
+
+  /**
+   * Checks whether a property is defined and not null.
+   *
+   * @param node The root object {@link JsonNode}.
+   * @param property The property name.
+   * @return True if the property is defined and not null.
+   */
+  @Override
+  public boolean hasProperty(final JsonNode node, final String property) {
+    return getPropertyOrNull(node, property) != null;
+  }
+
+  /**
+   * Checks whether a property at a path is defined and not null.
+   *
+   * @param node The root {@link JsonNode}.
+   * @param path The {@link JsonPointer} of the property.
+   * @return True if the property is defined and not null.
+   */
+  @Override
+  public boolean hasProperty(final JsonNode node, final JsonPointer path) {
+    return getPropertyOrNull(node, path) != null;
+  }
+
+  /**
+   * Gets a property {@link JsonNode}.
+   *
+   * @param node The root object {@link JsonNode}.
+   * @param property The property name.
+   * @return The property {@link JsonNode} or null if the property does not exist.
+   */
+  @Override
+  public JsonNode getPropertyOrNull(final JsonNode node, final String property) {
+    final JsonNode prop = node.get(property);
+
+    // The property is not defined
+    if (prop == null) {
+      return null;
+    }
+
+    // The property is defined, but its value is null
+    if (prop.isNull()) {
+      return null;
+    }
+
+    return prop;
+  }
+
+  /**
+   * Gets a property {@link JsonNode}.
+   *
+   * @param node The root object {@link JsonNode}.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The property {@link JsonNode}.
+   * @throws JsonMappingException If the property is not defined.
+   */
+  @Override
+  public JsonNode getProperty(
+      final JsonNode node,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, property);
+
+    if (prop == null) {
+      fail(PropertyError.MISSING, property, parser, null);
+    }
+
+    return prop;
+  }
+
+  /**
+   * Gets a property {@link JsonNode} at a path.
+   *
+   * @param node The root {@link JsonNode}.
+   * @param path The {@link JsonPointer} of the property.
+   * @return The property {@link JsonNode} or null if the property does not exist.
+   */
+  @Override
+  public JsonNode getPropertyOrNull(final JsonNode node, final JsonPointer path) {
+    final JsonNode prop = node.at(path);
+
+    // The property is not defined
+    if (prop.isMissingNode()) {
+      return null;
+    }
+
+    // The property is defined, but its value is null
+    if (prop.isNull()) {
+      return null;
+    }
+
+    return prop;
+  }
+
+  /**
+   * Gets a property {@link JsonNode} at a path.
+   *
+   * @param node The root {@link JsonNode}.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The property {@link JsonNode}.
+   * @throws JsonMappingException If the property is not defined.
+   */
+  @Override
+  public JsonNode getProperty(
+      final JsonNode node,
+      final JsonPointer path,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    final JsonNode prop = getPropertyOrNull(node, path);
+
+    if (prop == null) {
+      fail(PropertyError.MISSING, path.toString(), parser, null);
+    }
+
+    return prop;
+  }
+
+  /**
+   * Creates a {@link CollectingJsonNodePropertyRetriever} that records failures instead of
+   * throwing them.
+   *
+   * @return The {@link CollectingJsonNodePropertyRetriever}.
+   */
+  @Override
+  public CollectingJsonNodePropertyRetriever collecting() {
+    return new DefaultCollectingJsonNodePropertyRetriever(
+        netValueCache,
+        stringPool,
+        failureMode,
+        failureCounter);
+  }
+
+  /**
+   * Handles a property retrieval failure by counting and throwing it.
+   *
+   * <p>Callers return a null or default value when this method returns normally.
+   *
+   * @param error The {@link PropertyError}.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @param cause The cause or null.
+   * @throws JsonMappingException The failure.
+   */
+  protected void fail(
+      final PropertyError error,
+      final String property,
+      final JsonParser parser,
+      final Throwable cause)
+      throws JsonMappingException {
+
+    failureCounter.record(property, error);
+    throw failureMode.failure(parser, error, property, cause);
+  }
+
+  /**
+   * Gets the {@link PropertyFailureMode}.
+   *
+   * @return The {@link PropertyFailureMode}.
+   */
+  protected PropertyFailureMode getFailureMode() {
+    return failureMode;
+  }
+
+  /**
+   * Gets the {@link PropertyFailureCounter}.
+   *
+   * @return The {@link PropertyFailureCounter}.
+   */
+  protected PropertyFailureCounter getFailureCounter() {
+    return failureCounter;
+  }
+
+  private String stringValue(
+      final JsonNode prop,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    if (!(prop.isTextual())) {
+      fail(PropertyError.STRING_INVALID, property, parser, null);
+      return null;
+    }
+
+    return prop.asText();
+  }
+
+  private int intValue(
+      final JsonNode prop,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    if (!isInt(prop)) {
+      fail(PropertyError.INT_INVALID, property, parser, null);
+      return 0;
+    }
+
+    return prop.asInt();
+  }
+
+  private long longValue(
+      final JsonNode prop,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    if (!isLong(prop)) {
+      fail(PropertyError.LONG_INVALID, property, parser, null);
+      return 0;
+    }
+
+    return prop.asLong();
+  }
+
+  private double doubleValue(
+      final JsonNode prop,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    if (!(prop.isNumber())) {
+      fail(PropertyError.DOUBLE_INVALID, property, parser, null);
+      return 0d;
+    }
+
+    return prop.asDouble();
+  }
+
+  private float floatValue(
+      final JsonNode prop,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    if (!(prop.isNumber())) {
+      fail(PropertyError.FLOAT_INVALID, property, parser, null);
+      return 0f;
+    }
+
+    return (float) prop.asDouble();
+  }
+
+  private boolean booleanValue(
+      final JsonNode prop,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    if (!(prop.isBoolean())) {
+      fail(PropertyError.BOOLEAN_INVALID, property, parser, null);
+      return false;
+    }
+
+    return prop.asBoolean();
+  }
+
+  private URI uriValue(
+      final JsonNode prop,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    if (!prop.isTextual()) {
+      fail(PropertyError.URI_INVALID, property, parser, null);
+      return null;
+    }
+
+    try {
+      return netValueCache.getUri(prop.asText());
+    } catch (URISyntaxException ex) {
+      fail(PropertyError.URI_INVALID, property, parser, ex);
+      return null;
+    }
+  }
+
+  private URL urlValue(
+      final JsonNode prop,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    if (!prop.isTextual()) {
+      fail(PropertyError.URL_INVALID, property, parser, null);
+      return null;
+    }
+
+    try {
+      return netValueCache.getUrl(prop.asText());
+    } catch (MalformedURLException ex) {
+      fail(PropertyError.URL_INVALID, property, parser, ex);
+      return null;
+    }
+  }
+
+  private static boolean isInt(final JsonNode prop) {
+    return prop.isInt() || prop.isShort();
+  }
+
+  private static boolean isLong(final JsonNode prop) {
+    return prop.isLong() || prop.isInt() || prop.isShort();
   }
 }
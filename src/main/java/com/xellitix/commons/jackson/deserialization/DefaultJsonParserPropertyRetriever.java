@@ -0,0 +1,299 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+/**
+ * Default {@link JsonParserPropertyRetriever} implementation.
+ *
+ * @author Grayson Kuhns
+ */
+@Singleton
+public class DefaultJsonParserPropertyRetriever implements JsonParserPropertyRetriever {
+
+  // Dependencies
+  private final NetValueCache netValueCache;
+  private final PropertyFailureMode failureMode;
+
+  /**
+   * Constructor.
+   *
+   * @param netValueCache The {@link NetValueCache}.
+   * @param failureMode The {@link PropertyFailureMode}.
+   */
+  @Inject
+  DefaultJsonParserPropertyRetriever(
+      final NetValueCache netValueCache,
+      final PropertyFailureMode failureMode) {
+
+    this.netValueCache = netValueCache;
+    this.failureMode = failureMode;
+  }
+
+  /**
+   * Retrieves the current value as a {@link String} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link String} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public String getStringOrNull(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    final JsonToken token = parser.getCurrentToken();
+
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    if (token != JsonToken.VALUE_STRING) {
+      throw failureMode.failure(parser, PropertyError.STRING_INVALID, property, null);
+    }
+
+    return parser.getText();
+  }
+
+  /**
+   * Retrieves the current value as a {@link String}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link String} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public String getString(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    return require(getStringOrNull(parser, property), property, parser);
+  }
+
+  /**
+   * Retrieves the current value as an {@link Integer} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link Integer} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public Integer getIntOrNull(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    final JsonToken token = parser.getCurrentToken();
+
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    if (token != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() != NumberType.INT) {
+      throw failureMode.failure(parser, PropertyError.INT_INVALID, property, null);
+    }
+
+    return parser.getIntValue();
+  }
+
+  /**
+   * Retrieves the current value as an {@link Integer}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link Integer} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public int getInt(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    return require(getIntOrNull(parser, property), property, parser);
+  }
+
+  /**
+   * Retrieves the current value as a {@link Long} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link Long} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public Long getLongOrNull(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    final JsonToken token = parser.getCurrentToken();
+
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    if (token != JsonToken.VALUE_NUMBER_INT) {
+      throw failureMode.failure(parser, PropertyError.LONG_INVALID, property, null);
+    }
+
+    final NumberType numberType = parser.getNumberType();
+
+    if (numberType != NumberType.INT && numberType != NumberType.LONG) {
+      throw failureMode.failure(parser, PropertyError.LONG_INVALID, property, null);
+    }
+
+    return parser.getLongValue();
+  }
+
+  /**
+   * Retrieves the current value as a {@link Long}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link Long} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public long getLong(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    return require(getLongOrNull(parser, property), property, parser);
+  }
+
+  /**
+   * Retrieves the current value as a {@link URI} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link URI} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URI getUriOrNull(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    final JsonToken token = parser.getCurrentToken();
+
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    if (token != JsonToken.VALUE_STRING) {
+      throw failureMode.failure(parser, PropertyError.URI_INVALID, property, null);
+    }
+
+    try {
+      return netValueCache.getUri(parser.getText());
+    } catch (URISyntaxException ex) {
+      throw failureMode.failure(parser, PropertyError.URI_INVALID, property, ex);
+    }
+  }
+
+  /**
+   * Retrieves the current value as a {@link URI}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link URI} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URI getUri(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    return require(getUriOrNull(parser, property), property, parser);
+  }
+
+  /**
+   * Retrieves the current value as a {@link URL} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link URL} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URL getUrlOrNull(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    final JsonToken token = parser.getCurrentToken();
+
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    if (token != JsonToken.VALUE_STRING) {
+      throw failureMode.failure(parser, PropertyError.URL_INVALID, property, null);
+    }
+
+    try {
+      return netValueCache.getUrl(parser.getText());
+    } catch (MalformedURLException ex) {
+      throw failureMode.failure(parser, PropertyError.URL_INVALID, property, ex);
+    }
+  }
+
+  /**
+   * Retrieves the current value as a {@link URL}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link URL} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  @Override
+  public URL getUrl(
+      final JsonParser parser,
+      final String property)
+      throws IOException {
+
+    return require(getUrlOrNull(parser, property), property, parser);
+  }
+
+  /**
+   * Ensures that a property value collected while streaming an object was defined.
+   *
+   * @param value The collected value.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The value type.
+   * @return The value.
+   * @throws JsonMappingException If the value is null.
+   */
+  @Override
+  public <T> T require(
+      final T value,
+      final String property,
+      final JsonParser parser)
+      throws JsonMappingException {
+
+    if (value == null) {
+      throw failureMode.failure(parser, PropertyError.MISSING, property, null);
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,112 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.xellitix.commons.jackson.cache.BoundedCache;
+import com.xellitix.commons.jackson.cache.CacheStats;
+import com.xellitix.commons.net.compat.java.uri.UriFactory;
+import com.xellitix.commons.net.compat.java.url.UrlFactory;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+/**
+ * Default {@link NetValueCache} implementation.
+ *
+ * <p>A capacity of zero disables caching, in which case every value is created by the factories.
+ * Strings that fail to parse are never cached.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultNetValueCache implements NetValueCache {
+
+  // Dependencies
+  private final UriFactory uriFactory;
+  private final UrlFactory urlFactory;
+
+  // Properties
+  private final BoundedCache<URI> uris;
+  private final BoundedCache<URL> urls;
+
+  /**
+   * Constructor.
+   *
+   * @param uriFactory The {@link UriFactory}.
+   * @param urlFactory The {@link UrlFactory}.
+   * @param capacity The maximum number of values of each type to cache, or zero to disable caching.
+   */
+  public DefaultNetValueCache(
+      final UriFactory uriFactory,
+      final UrlFactory urlFactory,
+      final int capacity) {
+
+    this.uriFactory = uriFactory;
+    this.urlFactory = urlFactory;
+
+    uris = capacity > 0 ? new BoundedCache<>(capacity) : null;
+    urls = capacity > 0 ? new BoundedCache<>(capacity) : null;
+  }
+
+  /**
+   * Gets the {@link URI} of a string.
+   *
+   * @param value The string value.
+   * @return The {@link URI}.
+   * @throws URISyntaxException If the string is not a valid URI.
+   */
+  @Override
+  public URI getUri(final String value) throws URISyntaxException {
+    if (uris == null) {
+      return uriFactory.create(value);
+    }
+
+    URI uri = uris.getIfPresent(value);
+    if (uri == null) {
+      uri = uriFactory.create(value);
+      uris.put(value, uri);
+    }
+
+    return uri;
+  }
+
+  /**
+   * Gets the {@link URL} of a string.
+   *
+   * @param value The string value.
+   * @return The {@link URL}.
+   * @throws MalformedURLException If the string is not a valid URL.
+   */
+  @Override
+  public URL getUrl(final String value) throws MalformedURLException {
+    if (urls == null) {
+      return urlFactory.create(value);
+    }
+
+    URL url = urls.getIfPresent(value);
+    if (url == null) {
+      url = urlFactory.create(value);
+      urls.put(value, url);
+    }
+
+    return url;
+  }
+
+  /**
+   * Gets the {@link URI} cache statistics.
+   *
+   * @return The {@link CacheStats}.
+   */
+  @Override
+  public CacheStats getUriStats() {
+    return uris == null ? CacheStats.EMPTY : uris.getStats();
+  }
+
+  /**
+   * Gets the {@link URL} cache statistics.
+   *
+   * @return The {@link CacheStats}.
+   */
+  @Override
+  public CacheStats getUrlStats() {
+    return urls == null ? CacheStats.EMPTY : urls.getStats();
+  }
+}
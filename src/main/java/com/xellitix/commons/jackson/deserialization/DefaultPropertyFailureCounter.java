@@ -0,0 +1,131 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link PropertyFailureCounter} implementation.
+ *
+ * <p>Each property holds one {@link LongAdder} per {@link PropertyError}, so concurrent failures
+ * are counted without locks or contended cells. The number of properties is bounded; failures of
+ * properties beyond the capacity are only counted in aggregate. A capacity of zero disables
+ * counting.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultPropertyFailureCounter implements PropertyFailureCounter {
+
+  // Constants
+  private static final PropertyError[] ERRORS = PropertyError.values();
+  private static final Comparator<PropertyFailureCount> BY_COUNT =
+      Comparator.comparingLong(PropertyFailureCount::getCount).reversed();
+
+  // Properties
+  private final int capacity;
+  private final ConcurrentMap<String, LongAdder[]> counts = new ConcurrentHashMap<>();
+  private final LongAdder overflow = new LongAdder();
+
+  /**
+   * Constructor.
+   *
+   * @param capacity The maximum number of properties counted individually, or zero to disable
+   *     counting.
+   */
+  public DefaultPropertyFailureCounter(final int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("The counter capacity must not be negative");
+    }
+
+    this.capacity = capacity;
+  }
+
+  /**
+   * Records a property retrieval failure.
+   *
+   * @param property The property name.
+   * @param error The {@link PropertyError}.
+   */
+  @Override
+  public void record(final String property, final PropertyError error) {
+    if (capacity == 0) {
+      return;
+    }
+
+    LongAdder[] adders = counts.get(property);
+
+    if (adders == null) {
+      // The size check is racy, so the capacity may be exceeded by a few concurrent properties
+      if (counts.size() >= capacity) {
+        overflow.increment();
+        return;
+      }
+
+      adders = counts.computeIfAbsent(property, key -> newAdders());
+    }
+
+    adders[error.ordinal()].increment();
+  }
+
+  /**
+   * Gets the most frequent failures, most frequent first.
+   *
+   * @param limit The maximum number of failures to return.
+   * @return The {@link PropertyFailureCount}s.
+   */
+  @Override
+  public List<PropertyFailureCount> getTopFailures(final int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("The limit must not be negative");
+    }
+
+    final List<PropertyFailureCount> failures = new ArrayList<>();
+
+    counts.forEach((property, adders) -> {
+      for (final PropertyError error : ERRORS) {
+        final long count = adders[error.ordinal()].sum();
+
+        if (count > 0) {
+          failures.add(new PropertyFailureCount(property, error, count));
+        }
+      }
+    });
+
+    failures.sort(BY_COUNT);
+    return Collections.unmodifiableList(
+        failures.size() > limit ? failures.subList(0, limit) : failures);
+  }
+
+  /**
+   * Gets the number of failures of properties that were not counted individually because the
+   * counter was full.
+   *
+   * @return The number of uncounted failures.
+   */
+  @Override
+  public long getOverflowCount() {
+    return overflow.sum();
+  }
+
+  /**
+   * Clears the counts.
+   */
+  @Override
+  public void reset() {
+    counts.clear();
+    overflow.reset();
+  }
+
+  private static LongAdder[] newAdders() {
+    final LongAdder[] adders = new LongAdder[ERRORS.length];
+    for (int i = 0; i < adders.length; i++) {
+      adders[i] = new LongAdder();
+    }
+
+    return adders;
+  }
+}
@@ -0,0 +1,209 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Default {@link RecordExtractor} implementation.
+ *
+ * @author Grayson Kuhns
+ */
+class DefaultRecordExtractor implements RecordExtractor {
+
+  // Properties
+  private final RecordSchema schema;
+  private final Map<String, Integer> slots;
+  private final PropertyType[] types;
+  private final int[] requiredSlots;
+
+  // Dependencies
+  private final NetValueCache netValueCache;
+  private final PropertyFailureMode failureMode;
+
+  /**
+   * Constructor.
+   *
+   * @param schema The {@link RecordSchema}.
+   * @param netValueCache The {@link NetValueCache}.
+   * @param failureMode The {@link PropertyFailureMode}.
+   */
+  DefaultRecordExtractor(
+      final RecordSchema schema,
+      final NetValueCache netValueCache,
+      final PropertyFailureMode failureMode) {
+
+    this.schema = schema;
+    this.netValueCache = netValueCache;
+    this.failureMode = failureMode;
+
+    // Compile the schema into flat lookup tables
+    final int size = schema.size();
+    slots = new HashMap<>(size * 2);
+    types = new PropertyType[size];
+
+    int requiredCount = 0;
+    for (int slot = 0; slot < size; slot++) {
+      slots.put(schema.getProperty(slot), slot);
+      types[slot] = schema.getType(slot);
+      if (schema.isRequired(slot)) {
+        requiredCount++;
+      }
+    }
+
+    requiredSlots = new int[requiredCount];
+    for (int slot = 0, i = 0; slot < size; slot++) {
+      if (schema.isRequired(slot)) {
+        requiredSlots[i++] = slot;
+      }
+    }
+  }
+
+  /**
+   * Gets the {@link RecordSchema}.
+   *
+   * @return The {@link RecordSchema}.
+   */
+  @Override
+  public RecordSchema getSchema() {
+    return schema;
+  }
+
+  /**
+   * Creates a {@link RecordValues} holder sized for the schema.
+   *
+   * @return The {@link RecordValues}.
+   */
+  @Override
+  public RecordValues newValues() {
+    return new RecordValues(types.length);
+  }
+
+  /**
+   * Extracts the properties of a node.
+   *
+   * @param node The object {@link JsonNode}.
+   * @param parser The {@link JsonParser}.
+   * @param values The {@link RecordValues} to fill.
+   * @throws PropertyValidationException If one or more properties are missing or invalid.
+   */
+  @Override
+  public void extract(
+      final JsonNode node,
+      final JsonParser parser,
+      final RecordValues values)
+      throws PropertyValidationException {
+
+    if (values.size() != types.length) {
+      throw new IllegalArgumentException("The values holder does not match the schema");
+    }
+
+    values.clear();
+    List<PropertyRetrievalException> failures = null;
+
+    // Single pass over the fields of the node
+    final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      final Map.Entry<String, JsonNode> field = fields.next();
+      final Integer slot = slots.get(field.getKey());
+
+      if (slot == null || field.getValue().isNull()) {
+        continue;
+      }
+
+      if (!read(slot, field.getValue(), values)) {
+        failures = addFailure(failures, parser, types[slot].getInvalidError(), field.getKey());
+      }
+    }
+
+    // Report the required properties that were not found
+    for (final int slot : requiredSlots) {
+      if (!values.isPresent(slot) && !hasInvalidValue(node, slot)) {
+        failures = addFailure(failures, parser, PropertyError.MISSING, schema.getProperty(slot));
+      }
+    }
+
+    if (failures != null) {
+      throw failureMode.report(parser, failures);
+    }
+  }
+
+  private boolean read(
+      final int slot,
+      final JsonNode value,
+      final RecordValues values) {
+
+    switch (types[slot]) {
+      case STRING:
+        if (!value.isTextual()) {
+          return false;
+        }
+        values.setObject(slot, value.asText());
+        return true;
+
+      case INT:
+        if (!(value.isInt() || value.isShort())) {
+          return false;
+        }
+        values.setNumber(slot, value.asInt());
+        return true;
+
+      case LONG:
+        if (!(value.isLong() || value.isInt() || value.isShort())) {
+          return false;
+        }
+        values.setNumber(slot, value.asLong());
+        return true;
+
+      case URI:
+        if (!value.isTextual()) {
+          return false;
+        }
+        try {
+          values.setObject(slot, netValueCache.getUri(value.asText()));
+          return true;
+        } catch (URISyntaxException ex) {
+          return false;
+        }
+
+      case URL:
+        if (!value.isTextual()) {
+          return false;
+        }
+        try {
+          values.setObject(slot, netValueCache.getUrl(value.asText()));
+          return true;
+        } catch (MalformedURLException ex) {
+          return false;
+        }
+
+      default:
+        throw new IllegalStateException("Unsupported property type: " + types[slot]);
+    }
+  }
+
+  private boolean hasInvalidValue(final JsonNode node, final int slot) {
+    final JsonNode value = node.get(schema.getProperty(slot));
+    return value != null && !value.isNull();
+  }
+
+  private static List<PropertyRetrievalException> addFailure(
+      final List<PropertyRetrievalException> failures,
+      final JsonParser parser,
+      final PropertyError error,
+      final String property) {
+
+    final List<PropertyRetrievalException> result =
+        failures == null ? new ArrayList<>() : failures;
+
+    // Individual failures are never thrown, so their stack traces are never captured
+    result.add(PropertyFailureMode.STACKLESS.failure(parser, error, property, null));
+    return result;
+  }
+}
@@ -0,0 +1,43 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Default {@link RecordExtractorFactory} implementation.
+ *
+ * @author Grayson Kuhns
+ */
+@Singleton
+public class DefaultRecordExtractorFactory implements RecordExtractorFactory {
+
+  // Dependencies
+  private final NetValueCache netValueCache;
+  private final PropertyFailureMode failureMode;
+
+  /**
+   * Constructor.
+   *
+   * @param netValueCache The {@link NetValueCache}.
+   * @param failureMode The {@link PropertyFailureMode}.
+   */
+  @Inject
+  DefaultRecordExtractorFactory(
+      final NetValueCache netValueCache,
+      final PropertyFailureMode failureMode) {
+
+    this.netValueCache = netValueCache;
+    this.failureMode = failureMode;
+  }
+
+  /**
+   * Compiles a {@link RecordSchema} into a {@link RecordExtractor}.
+   *
+   * @param schema The {@link RecordSchema}.
+   * @return The {@link RecordExtractor}.
+   */
+  @Override
+  public RecordExtractor create(final RecordSchema schema) {
+    return new DefaultRecordExtractor(schema, netValueCache, failureMode);
+  }
+}
@@ -0,0 +1,59 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.xellitix.commons.jackson.cache.BoundedCache;
+import com.xellitix.commons.jackson.cache.CacheStats;
+
+/**
+ * Default {@link StringPool} implementation.
+ *
+ * <p>The pool is bounded and lock-free: when two values compete for a slot the most recent one
+ * wins, so rarely repeated values do not accumulate. A capacity of zero disables pooling, in which
+ * case every value is returned as is.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultStringPool implements StringPool {
+
+  // Properties
+  private final BoundedCache<String> strings;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity The maximum number of pooled values, or zero to disable pooling.
+   */
+  public DefaultStringPool(final int capacity) {
+    strings = capacity > 0 ? new BoundedCache<>(capacity) : null;
+  }
+
+  /**
+   * Gets the canonical instance of a {@link String}.
+   *
+   * @param value The {@link String} value.
+   * @return The canonical instance, which is the value itself if it was not pooled yet.
+   */
+  @Override
+  public String canonicalize(final String value) {
+    if (strings == null || value == null) {
+      return value;
+    }
+
+    final String canonical = strings.getIfPresent(value);
+    if (canonical != null) {
+      return canonical;
+    }
+
+    strings.put(value, value);
+    return value;
+  }
+
+  /**
+   * Gets the pool statistics.
+   *
+   * @return The {@link CacheStats}.
+   */
+  @Override
+  public CacheStats getStats() {
+    return strings == null ? CacheStats.EMPTY : strings.getStats();
+  }
+}
@@ -0,0 +1,40 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+/**
+ * Builds {@link JsonMappingException} messages the same way Jackson does for exceptions whose
+ * original message is formatted lazily.
+ *
+ * @author Grayson Kuhns
+ */
+final class ExceptionMessages {
+
+  private ExceptionMessages() {
+  }
+
+  /**
+   * Decorates a message with the location and reference chain of an exception.
+   *
+   * @param ex The {@link JsonMappingException}.
+   * @param message The original message.
+   * @return The full message.
+   */
+  static String describe(final JsonMappingException ex, final String message) {
+    final StringBuilder sb = new StringBuilder(message);
+
+    final JsonLocation location = ex.getLocation();
+    if (location != null) {
+      sb.append("\n at ").append(location);
+    }
+
+    if (!ex.getPath().isEmpty()) {
+      sb.append(" (through reference chain: ");
+      ex.getPathReference(sb);
+      sb.append(')');
+    }
+
+    return sb.toString();
+  }
+}
@@ -1,7 +1,11 @@
 package com.xellitix.commons.jackson.deserialization;
 
 import com.google.inject.PrivateModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.xellitix.commons.net.compat.java.uri.UriFactory;
 import com.xellitix.commons.net.compat.java.uri.UriModule;
+import com.xellitix.commons.net.compat.java.url.UrlFactory;
 
 /**
  * JSON deserialization utilities Google Guice module.
@@ -10,12 +14,165 @@ import com.xellitix.commons.net.compat.java.uri.UriModule;
  */
 public class JsonDeserializationUtilsModule extends PrivateModule {
 
+  // Constants
+  private static final int DEFAULT_LIST_PARALLELISM_THRESHOLD = 8192;
+
+  // Properties
+  private PropertyFailureMode failureMode = PropertyFailureMode.DETAILED;
+  private int netValueCacheCapacity;
+  private int stringPoolCapacity;
+  private int failureCounterCapacity;
+  private int listParallelismThreshold = DEFAULT_LIST_PARALLELISM_THRESHOLD;
+
+  /**
+   * Sets how property retrieval failures are raised.
+   *
+   * @param failureMode The {@link PropertyFailureMode}.
+   * @return The {@link JsonDeserializationUtilsModule}.
+   */
+  public JsonDeserializationUtilsModule failureMode(final PropertyFailureMode failureMode) {
+    this.failureMode = failureMode;
+    return this;
+  }
+
+  /**
+   * Caches the {@link java.net.URI} and {@link java.net.URL} values parsed from recently seen
+   * strings. Caching is disabled by default.
+   *
+   * @param capacity The maximum number of values of each type to cache, or zero to disable caching.
+   * @return The {@link JsonDeserializationUtilsModule}.
+   */
+  public JsonDeserializationUtilsModule netValueCache(final int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("The cache capacity must not be negative");
+    }
+
+    this.netValueCacheCapacity = capacity;
+    return this;
+  }
+
+  /**
+   * Enables the {@link StringPool} used by the pooled {@link String} getters of the
+   * {@link JsonNodePropertyRetriever}. Pooling is disabled by default.
+   *
+   * @param capacity The maximum number of pooled values, or zero to disable pooling.
+   * @return The {@link JsonDeserializationUtilsModule}.
+   */
+  public JsonDeserializationUtilsModule stringPool(final int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("The pool capacity must not be negative");
+    }
+
+    this.stringPoolCapacity = capacity;
+    return this;
+  }
+
+  /**
+   * Enables the {@link PropertyFailureCounter} that counts the failures of the
+   * {@link JsonNodePropertyRetriever} by property name and {@link PropertyError}. Counting is
+   * disabled by default.
+   *
+   * @param capacity The maximum number of properties counted individually, or zero to disable
+   *     counting.
+   * @return The {@link JsonDeserializationUtilsModule}.
+   */
+  public JsonDeserializationUtilsModule failureCounter(final int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("The counter capacity must not be negative");
+    }
+
+    this.failureCounterCapacity = capacity;
+    return this;
+  }
+
+  /**
+   * Sets the minimum number of array elements the {@link JsonNodeListRetriever} converts in
+   * parallel. Smaller arrays are converted on the calling thread.
+   *
+   * @param threshold The minimum number of elements converted in parallel.
+   * @return The {@link JsonDeserializationUtilsModule}.
+   */
+  public JsonDeserializationUtilsModule listParallelismThreshold(final int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("The parallelism threshold must be positive");
+    }
+
+    this.listParallelismThreshold = threshold;
+    return this;
+  }
+
   /**
    * Configures the module.
    */
   @Override
   protected void configure() {
+    bind(PropertyFailureMode.class).toInstance(failureMode);
+    expose(NetValueCache.class);
+    expose(StringPool.class);
+    expose(PropertyFailureCounter.class);
+    expose(JsonNodeListRetriever.class);
+
     bind(JsonNodePropertyRetriever.class).to(DefaultJsonNodePropertyRetriever.class);
     expose(JsonNodePropertyRetriever.class);
+
+    bind(JsonParserPropertyRetriever.class).to(DefaultJsonParserPropertyRetriever.class);
+    expose(JsonParserPropertyRetriever.class);
+
+    bind(RecordExtractorFactory.class).to(DefaultRecordExtractorFactory.class);
+    expose(RecordExtractorFactory.class);
+  }
+
+  /**
+   * Provides the {@link NetValueCache}.
+   *
+   * @param uriFactory The {@link UriFactory}.
+   * @param urlFactory The {@link UrlFactory}.
+   * @return The {@link NetValueCache}.
+   */
+  @Provides
+  @Singleton
+  NetValueCache provideNetValueCache(final UriFactory uriFactory, final UrlFactory urlFactory) {
+    return new DefaultNetValueCache(uriFactory, urlFactory, netValueCacheCapacity);
+  }
+
+  /**
+   * Provides the {@link StringPool}.
+   *
+   * @return The {@link StringPool}.
+   */
+  @Provides
+  @Singleton
+  StringPool provideStringPool() {
+    return new DefaultStringPool(stringPoolCapacity);
+  }
+
+  /**
+   * Provides the {@link PropertyFailureCounter}.
+   *
+   * @return The {@link PropertyFailureCounter}.
+   */
+  @Provides
+  @Singleton
+  PropertyFailureCounter providePropertyFailureCounter() {
+    return new DefaultPropertyFailureCounter(failureCounterCapacity);
+  }
+
+  /**
+   * Provides the {@link JsonNodeListRetriever}.
+   *
+   * @param propertyRetriever The {@link JsonNodePropertyRetriever}.
+   * @param failureMode The {@link PropertyFailureMode}.
+   * @return The {@link JsonNodeListRetriever}.
+   */
+  @Provides
+  @Singleton
+  JsonNodeListRetriever provideJsonNodeListRetriever(
+      final JsonNodePropertyRetriever propertyRetriever,
+      final PropertyFailureMode failureMode) {
+
+    return new DefaultJsonNodeListRetriever(
+        propertyRetriever,
+        failureMode,
+        listParallelismThreshold);
   }
 }
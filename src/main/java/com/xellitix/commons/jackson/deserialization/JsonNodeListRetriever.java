@@ -0,0 +1,93 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Retrieves array properties of a {@link JsonNode} as typed lists.
+ *
+ * <p>Elements are converted by the codec of the {@link JsonParser}, so the deserializers
+ * registered with the {@link com.fasterxml.jackson.databind.ObjectMapper} that is reading the
+ * document apply to them. Large arrays are converted in parallel; element order is always kept.
+ *
+ * @author Grayson Kuhns
+ */
+public interface JsonNodeListRetriever {
+
+  /**
+   * Retrieves the elements of an array property if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param type The element type.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The element type.
+   * @return The elements or null if the property does not exist.
+   * @throws IOException If the property is not an array or an element cannot be converted.
+   */
+  <T> List<T> getListOrNull(
+      JsonNode node,
+      String property,
+      Class<T> type,
+      JsonParser parser)
+      throws IOException;
+
+  /**
+   * Retrieves the elements of an array property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param type The element type.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The element type.
+   * @return The elements.
+   * @throws IOException If the property is not defined, is not an array or an element cannot be
+   *     converted.
+   */
+  <T> List<T> getList(
+      JsonNode node,
+      String property,
+      Class<T> type,
+      JsonParser parser)
+      throws IOException;
+
+  /**
+   * Retrieves the elements of an array property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param type The element type.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The element type.
+   * @return The elements or null if the property does not exist.
+   * @throws IOException If the property is not an array or an element cannot be converted.
+   */
+  <T> List<T> getListOrNull(
+      JsonNode node,
+      JsonPointer path,
+      Class<T> type,
+      JsonParser parser)
+      throws IOException;
+
+  /**
+   * Retrieves the elements of an array property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param type The element type.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The element type.
+   * @return The elements.
+   * @throws IOException If the property is not defined, is not an array or an element cannot be
+   *     converted.
+   */
+  <T> List<T> getList(
+      JsonNode node,
+      JsonPointer path,
+      Class<T> type,
+      JsonParser parser)
+      throws IOException;
+}
@@ -1,6 +1,7 @@
 package com.xellitix.commons.jackson.deserialization;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.net.URI;
@@ -9,6 +10,11 @@ import java.net.URL;
 /**
  * {@link JsonNode} property retriever.
  *
+ * <p>Properties are addressed either by name, for direct children of a node, or by a
+ * {@link JsonPointer}, for nested values such as {@code /address/geo/0/lat}. Pointers are
+ * immutable and parsed once by {@link JsonPointer#compile}, so keep them in constants rather than
+ * compiling them on every call. Failures of pointer lookups name the full path.
+ *
  * @author Grayson Kuhns
  */
 public interface JsonNodePropertyRetriever {
@@ -28,6 +34,21 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of a {@link String} property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  String getStringOrNull(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
   /**
    * Retrieves the value of a {@link String} property.
    *
@@ -43,6 +64,93 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of a {@link String} property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  String getString(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the canonical instance of a {@link String} property value if it exists.
+   *
+   * <p>Meant for properties whose values repeat heavily, such as codes and tags, and are retained
+   * in long-lived objects. The value is canonicalized through the {@link StringPool}.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  String getPooledStringOrNull(
+      JsonNode node,
+      String property,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the canonical instance of a {@link String} property value at a path if it exists.
+   *
+   * <p>Meant for properties whose values repeat heavily, such as codes and tags, and are retained
+   * in long-lived objects. The value is canonicalized through the {@link StringPool}.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  String getPooledStringOrNull(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the canonical instance of a {@link String} property value.
+   *
+   * <p>Meant for properties whose values repeat heavily, such as codes and tags, and are retained
+   * in long-lived objects. The value is canonicalized through the {@link StringPool}.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  String getPooledString(
+      JsonNode node,
+      String property,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the canonical instance of a {@link String} property value at a path.
+   *
+   * <p>Meant for properties whose values repeat heavily, such as codes and tags, and are retained
+   * in long-lived objects. The value is canonicalized through the {@link StringPool}.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link String} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  String getPooledString(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
   /**
    * Retrieves the value of an {@link Integer} property if it exists.
    *
@@ -58,6 +166,21 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of an {@link Integer} property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link Integer} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  Integer getIntOrNull(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
   /**
    * Retrieves the value of an {@link Integer} property.
    *
@@ -73,6 +196,55 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of an {@link Integer} property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link Integer} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  int getInt(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of an integer property, or a default value if it does not exist.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The integer value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  int getIntOrDefault(
+      JsonNode node,
+      String property,
+      int defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of an integer property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The integer value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  int getIntOrDefault(
+      JsonNode node,
+      JsonPointer path,
+      int defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
   /**
    * Retrieves the value of a {@link Long} property if it exists.
    *
@@ -88,6 +260,21 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of a {@link Long} property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link Long} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  Long getLongOrNull(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
   /**
    * Retrieves the value of a {@link Long} property.
    *
@@ -103,6 +290,55 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of a {@link Long} property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link Long} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  long getLong(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a long property, or a default value if it does not exist.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The long value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  long getLongOrDefault(
+      JsonNode node,
+      String property,
+      long defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a long property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The long value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  long getLongOrDefault(
+      JsonNode node,
+      JsonPointer path,
+      long defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
   /**
    * Retrieves the value of a {@link URI} property if it exists.
    *
@@ -118,6 +354,21 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of a {@link URI} property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URI} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  URI getUriOrNull(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
   /**
    * Retrieves the value of a {@link URI} property.
    *
@@ -133,6 +384,21 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of a {@link URI} property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URI} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  URI getUri(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
   /**
    * Retrieves the value of a {@link URL} property if it exists.
    *
@@ -148,6 +414,21 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of a {@link URL} property at a path if it exists.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URL} value or null if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  URL getUrlOrNull(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
   /**
    * Retrieves the value of a {@link URL} property.
    *
@@ -163,6 +444,224 @@ public interface JsonNodePropertyRetriever {
       JsonParser parser)
       throws JsonMappingException;
 
+  /**
+   * Retrieves the value of a {@link URL} property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The {@link URL} value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  URL getUrl(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a double property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The double value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  double getDouble(
+      JsonNode node,
+      String property,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a double property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The double value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  double getDouble(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a double property, or a default value if it does not exist.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The double value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  double getDoubleOrDefault(
+      JsonNode node,
+      String property,
+      double defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a double property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The double value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  double getDoubleOrDefault(
+      JsonNode node,
+      JsonPointer path,
+      double defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a float property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The float value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  float getFloat(
+      JsonNode node,
+      String property,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a float property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The float value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  float getFloat(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a float property, or a default value if it does not exist.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The float value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  float getFloatOrDefault(
+      JsonNode node,
+      String property,
+      float defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a float property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The float value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  float getFloatOrDefault(
+      JsonNode node,
+      JsonPointer path,
+      float defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a boolean property.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @return The boolean value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  boolean getBoolean(
+      JsonNode node,
+      String property,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a boolean property at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The boolean value.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  boolean getBoolean(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a boolean property, or a default value if it does not exist.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param property The property name.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The boolean value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  boolean getBooleanOrDefault(
+      JsonNode node,
+      String property,
+      boolean defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Retrieves the value of a boolean property, or a default value if it does not exist at a path.
+   *
+   * @param node The {@link JsonNode} containing the property.
+   * @param path The {@link JsonPointer} of the property.
+   * @param defaultValue The value to return if the property does not exist.
+   * @param parser The {@link JsonParser}.
+   * @return The boolean value or the default value if the property does not exist.
+   * @throws JsonMappingException If an error occurs while retrieving the property value.
+   */
+  boolean getBooleanOrDefault(
+      JsonNode node,
+      JsonPointer path,
+      boolean defaultValue,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Checks whether a property is defined and not null.
+   *
+   * @param node The root object {@link JsonNode}.
+   * @param property The property name.
+   * @return True if the property is defined and not null.
+   */
+  boolean hasProperty(
+      JsonNode node,
+      String property);
+
   /**
    * Gets a property {@link JsonNode} if it exists.
    *
@@ -188,4 +687,45 @@ public interface JsonNodePropertyRetriever {
       String property,
       JsonParser parser)
       throws JsonMappingException;
+
+  /**
+   * Checks whether a property at a path is defined and not null.
+   *
+   * @param node The root {@link JsonNode}.
+   * @param path The {@link JsonPointer} of the property.
+   * @return True if the property is defined and not null.
+   */
+  boolean hasProperty(JsonNode node, JsonPointer path);
+
+  /**
+   * Gets a property {@link JsonNode} at a path.
+   *
+   * @param node The root {@link JsonNode}.
+   * @param path The {@link JsonPointer} of the property.
+   * @return The property {@link JsonNode} or null if the property does not exist.
+   */
+  JsonNode getPropertyOrNull(JsonNode node, JsonPointer path);
+
+  /**
+   * Gets a property {@link JsonNode} at a path.
+   *
+   * @param node The root {@link JsonNode}.
+   * @param path The {@link JsonPointer} of the property.
+   * @param parser The {@link JsonParser}.
+   * @return The property {@link JsonNode}.
+   * @throws JsonMappingException If the property is not defined.
+   */
+  JsonNode getProperty(
+      JsonNode node,
+      JsonPointer path,
+      JsonParser parser)
+      throws JsonMappingException;
+
+  /**
+   * Creates a {@link CollectingJsonNodePropertyRetriever} that records failures instead of
+   * throwing them.
+   *
+   * @return The {@link CollectingJsonNodePropertyRetriever}.
+   */
+  CollectingJsonNodePropertyRetriever collecting();
 }
@@ -0,0 +1,166 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+
+/**
+ * {@link JsonParser} property retriever.
+ *
+ * <p>The streaming counterpart of {@link JsonNodePropertyRetriever}. Every method reads the value
+ * the {@link JsonParser} is currently positioned on, i.e. the token following the
+ * {@link JsonToken#FIELD_NAME} of the property, and reports failures with the same messages.
+ *
+ * @author Grayson Kuhns
+ */
+public interface JsonParserPropertyRetriever {
+
+  /**
+   * Retrieves the current value as a {@link String} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link String} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  String getStringOrNull(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Retrieves the current value as a {@link String}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link String} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  String getString(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Retrieves the current value as an {@link Integer} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link Integer} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  Integer getIntOrNull(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Retrieves the current value as an {@link Integer}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link Integer} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  int getInt(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Retrieves the current value as a {@link Long} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link Long} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  Long getLongOrNull(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Retrieves the current value as a {@link Long}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link Long} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  long getLong(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Retrieves the current value as a {@link URI} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link URI} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  URI getUriOrNull(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Retrieves the current value as a {@link URI}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link URI} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  URI getUri(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Retrieves the current value as a {@link URL} if it is not null.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link URL} value or null if the value is null.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  URL getUrlOrNull(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Retrieves the current value as a {@link URL}.
+   *
+   * @param parser The {@link JsonParser} positioned on the property value.
+   * @param property The property name.
+   * @return The {@link URL} value.
+   * @throws IOException If an error occurs while retrieving the property value.
+   */
+  URL getUrl(
+      JsonParser parser,
+      String property)
+      throws IOException;
+
+  /**
+   * Ensures that a property value collected while streaming an object was defined.
+   *
+   * @param value The collected value.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @param <T> The value type.
+   * @return The value.
+   * @throws JsonMappingException If the value is null.
+   */
+  <T> T require(
+      T value,
+      String property,
+      JsonParser parser)
+      throws JsonMappingException;
+}
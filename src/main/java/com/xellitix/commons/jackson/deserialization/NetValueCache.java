@@ -0,0 +1,47 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.xellitix.commons.jackson.cache.CacheStats;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+/**
+ * Creates {@link URI} and {@link URL} values, reusing the values of recently seen strings.
+ *
+ * @author Grayson Kuhns
+ */
+public interface NetValueCache {
+
+  /**
+   * Gets the {@link URI} of a string.
+   *
+   * @param value The string value.
+   * @return The {@link URI}.
+   * @throws URISyntaxException If the string is not a valid URI.
+   */
+  URI getUri(String value) throws URISyntaxException;
+
+  /**
+   * Gets the {@link URL} of a string.
+   *
+   * @param value The string value.
+   * @return The {@link URL}.
+   * @throws MalformedURLException If the string is not a valid URL.
+   */
+  URL getUrl(String value) throws MalformedURLException;
+
+  /**
+   * Gets the {@link URI} cache statistics.
+   *
+   * @return The {@link CacheStats}.
+   */
+  CacheStats getUriStats();
+
+  /**
+   * Gets the {@link URL} cache statistics.
+   *
+   * @return The {@link CacheStats}.
+   */
+  CacheStats getUrlStats();
+}
@@ -0,0 +1,38 @@
+package com.xellitix.commons.jackson.deserialization;
+
+/**
+ * Property retrieval error codes.
+ *
+ * @author Grayson Kuhns
+ */
+public enum PropertyError {
+
+  MISSING("Expected property \"%s\" to be defined"),
+  STRING_INVALID("Expected property \"%s\" to be a string"),
+  INT_INVALID("Expected property \"%s\" to be an integer"),
+  LONG_INVALID("Expected property \"%s\" to be a long"),
+  DOUBLE_INVALID("Expected property \"%s\" to be a double"),
+  FLOAT_INVALID("Expected property \"%s\" to be a float"),
+  BOOLEAN_INVALID("Expected property \"%s\" to be a boolean"),
+  URI_INVALID("Expected property \"%s\" to be a valid URI"),
+  URL_INVALID("Expected property \"%s\" to be a valid URL"),
+  ARRAY_INVALID("Expected property \"%s\" to be an array"),
+  ELEMENT_INVALID("Expected element \"%s\" to be valid");
+
+  // Properties
+  private final String messageTemplate;
+
+  PropertyError(final String messageTemplate) {
+    this.messageTemplate = messageTemplate;
+  }
+
+  /**
+   * Formats the error message for a property.
+   *
+   * @param property The property name.
+   * @return The error message.
+   */
+  public String format(final String property) {
+    return String.format(messageTemplate, property);
+  }
+}
@@ -0,0 +1,60 @@
+package com.xellitix.commons.jackson.deserialization;
+
+/**
+ * Immutable snapshot of the number of failures of a property for a {@link PropertyError}.
+ *
+ * @author Grayson Kuhns
+ */
+public final class PropertyFailureCount {
+
+  // Properties
+  private final String property;
+  private final PropertyError error;
+  private final long count;
+
+  /**
+   * Constructor.
+   *
+   * @param property The property name.
+   * @param error The {@link PropertyError}.
+   * @param count The number of failures.
+   */
+  public PropertyFailureCount(final String property, final PropertyError error, final long count) {
+    this.property = property;
+    this.error = error;
+    this.count = count;
+  }
+
+  /**
+   * Gets the property name.
+   *
+   * @return The property name.
+   */
+  public String getProperty() {
+    return property;
+  }
+
+  /**
+   * Gets the {@link PropertyError}.
+   *
+   * @return The {@link PropertyError}.
+   */
+  public PropertyError getError() {
+    return error;
+  }
+
+  /**
+   * Gets the number of failures.
+   *
+   * @return The number of failures.
+   */
+  public long getCount() {
+    return count;
+  }
+
+  @Override
+  public String toString() {
+    return "PropertyFailureCount{property=" + property + ", error=" + error + ", count=" + count
+        + "}";
+  }
+}
@@ -0,0 +1,40 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import java.util.List;
+
+/**
+ * Counts property retrieval failures by property name and {@link PropertyError}.
+ *
+ * @author Grayson Kuhns
+ */
+public interface PropertyFailureCounter {
+
+  /**
+   * Records a property retrieval failure.
+   *
+   * @param property The property name.
+   * @param error The {@link PropertyError}.
+   */
+  void record(String property, PropertyError error);
+
+  /**
+   * Gets the most frequent failures, most frequent first.
+   *
+   * @param limit The maximum number of failures to return.
+   * @return The {@link PropertyFailureCount}s.
+   */
+  List<PropertyFailureCount> getTopFailures(int limit);
+
+  /**
+   * Gets the number of failures of properties that were not counted individually because the
+   * counter was full.
+   *
+   * @return The number of uncounted failures.
+   */
+  long getOverflowCount();
+
+  /**
+   * Clears the counts.
+   */
+  void reset();
+}
@@ -0,0 +1,61 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.util.List;
+
+/**
+ * Controls how property retrieval failures are raised.
+ *
+ * @author Grayson Kuhns
+ */
+public enum PropertyFailureMode {
+
+  /**
+   * Failures carry a full stack trace.
+   */
+  DETAILED(true),
+
+  /**
+   * Failures skip stack trace capture, which makes floods of malformed payloads cheap to reject.
+   */
+  STACKLESS(false);
+
+  // Properties
+  private final boolean stackTrace;
+
+  PropertyFailureMode(final boolean stackTrace) {
+    this.stackTrace = stackTrace;
+  }
+
+  /**
+   * Creates the exception describing a property retrieval failure.
+   *
+   * @param parser The {@link JsonParser}.
+   * @param error The {@link PropertyError}.
+   * @param property The property name.
+   * @param cause The cause or null.
+   * @return The {@link PropertyRetrievalException}.
+   */
+  PropertyRetrievalException failure(
+      final JsonParser parser,
+      final PropertyError error,
+      final String property,
+      final Throwable cause) {
+
+    return new PropertyRetrievalException(parser, error, property, cause, stackTrace);
+  }
+
+  /**
+   * Creates the exception reporting every failure collected for a node.
+   *
+   * @param parser The {@link JsonParser}.
+   * @param failures The collected failures.
+   * @return The {@link PropertyValidationException}.
+   */
+  PropertyValidationException report(
+      final JsonParser parser,
+      final List<PropertyRetrievalException> failures) {
+
+    return new PropertyValidationException(parser, failures, stackTrace);
+  }
+}
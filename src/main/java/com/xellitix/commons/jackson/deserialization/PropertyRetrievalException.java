@@ -0,0 +1,90 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+/**
+ * Property retrieval failure.
+ *
+ * <p>Carries a structured {@link PropertyError} and the property name. The message is only
+ * formatted when it is requested, and the stack trace is only captured when asked for.
+ *
+ * @author Grayson Kuhns
+ */
+public class PropertyRetrievalException extends JsonMappingException {
+
+  private static final long serialVersionUID = 1L;
+
+  // Properties
+  private final PropertyError error;
+  private final String property;
+
+  /**
+   * Constructor.
+   *
+   * @param parser The {@link JsonParser}.
+   * @param error The {@link PropertyError}.
+   * @param property The property name.
+   * @param cause The cause or null.
+   * @param stackTrace Whether the stack trace should be captured.
+   */
+  public PropertyRetrievalException(
+      final JsonParser parser,
+      final PropertyError error,
+      final String property,
+      final Throwable cause,
+      final boolean stackTrace) {
+
+    super(parser, null, cause);
+
+    this.error = error;
+    this.property = property;
+
+    if (stackTrace) {
+      super.fillInStackTrace();
+    }
+  }
+
+  /**
+   * Gets the {@link PropertyError}.
+   *
+   * @return The {@link PropertyError}.
+   */
+  public PropertyError getError() {
+    return error;
+  }
+
+  /**
+   * Gets the property name.
+   *
+   * @return The property name.
+   */
+  public String getProperty() {
+    return property;
+  }
+
+  @Override
+  public String getOriginalMessage() {
+    return error.format(property);
+  }
+
+  @Override
+  public String getMessage() {
+    return ExceptionMessages.describe(this, getOriginalMessage());
+  }
+
+  @Override
+  public String getLocalizedMessage() {
+    return getMessage();
+  }
+
+  /**
+   * Skips stack trace capture during construction; the constructor captures it on demand.
+   *
+   * @return This exception.
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
@@ -0,0 +1,31 @@
+package com.xellitix.commons.jackson.deserialization;
+
+/**
+ * Property value types supported by {@link RecordSchema}s.
+ *
+ * @author Grayson Kuhns
+ */
+public enum PropertyType {
+
+  STRING(PropertyError.STRING_INVALID),
+  INT(PropertyError.INT_INVALID),
+  LONG(PropertyError.LONG_INVALID),
+  URI(PropertyError.URI_INVALID),
+  URL(PropertyError.URL_INVALID);
+
+  // Properties
+  private final PropertyError invalidError;
+
+  PropertyType(final PropertyError invalidError) {
+    this.invalidError = invalidError;
+  }
+
+  /**
+   * Gets the {@link PropertyError} reported when a value is not of this type.
+   *
+   * @return The {@link PropertyError}.
+   */
+  PropertyError getInvalidError() {
+    return invalidError;
+  }
+}
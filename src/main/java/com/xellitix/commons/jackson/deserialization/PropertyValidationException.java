@@ -0,0 +1,87 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reports every property retrieval failure collected for a node.
+ *
+ * @author Grayson Kuhns
+ */
+public class PropertyValidationException extends JsonMappingException {
+
+  private static final long serialVersionUID = 1L;
+
+  // Constants
+  private static final String MSG_SEPARATOR = "; ";
+
+  // Properties
+  private final List<PropertyRetrievalException> failures;
+
+  /**
+   * Constructor.
+   *
+   * @param parser The {@link JsonParser}.
+   * @param failures The failures.
+   * @param stackTrace Whether the stack trace should be captured.
+   */
+  public PropertyValidationException(
+      final JsonParser parser,
+      final List<PropertyRetrievalException> failures,
+      final boolean stackTrace) {
+
+    super(parser, null);
+
+    this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+
+    if (stackTrace) {
+      super.fillInStackTrace();
+    }
+  }
+
+  /**
+   * Gets the failures.
+   *
+   * @return The failures.
+   */
+  public List<PropertyRetrievalException> getFailures() {
+    return failures;
+  }
+
+  @Override
+  public String getOriginalMessage() {
+    final StringBuilder sb = new StringBuilder();
+
+    for (final PropertyRetrievalException failure : failures) {
+      if (sb.length() > 0) {
+        sb.append(MSG_SEPARATOR);
+      }
+      sb.append(failure.getOriginalMessage());
+    }
+
+    return sb.toString();
+  }
+
+  @Override
+  public String getMessage() {
+    return ExceptionMessages.describe(this, getOriginalMessage());
+  }
+
+  @Override
+  public String getLocalizedMessage() {
+    return getMessage();
+  }
+
+  /**
+   * Skips stack trace capture during construction; the constructor captures it on demand.
+   *
+   * @return This exception.
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
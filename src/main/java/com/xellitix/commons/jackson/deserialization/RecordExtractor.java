@@ -0,0 +1,43 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Extracts every property of a {@link RecordSchema} from a {@link JsonNode} in a single pass.
+ *
+ * @author Grayson Kuhns
+ */
+public interface RecordExtractor {
+
+  /**
+   * Gets the {@link RecordSchema}.
+   *
+   * @return The {@link RecordSchema}.
+   */
+  RecordSchema getSchema();
+
+  /**
+   * Creates a {@link RecordValues} holder sized for the schema.
+   *
+   * @return The {@link RecordValues}.
+   */
+  RecordValues newValues();
+
+  /**
+   * Extracts the properties of a node.
+   *
+   * <p>The holder is cleared first. Every missing or invalid property is reported together in a
+   * single exception.
+   *
+   * @param node The object {@link JsonNode}.
+   * @param parser The {@link JsonParser}.
+   * @param values The {@link RecordValues} to fill.
+   * @throws PropertyValidationException If one or more properties are missing or invalid.
+   */
+  void extract(
+      JsonNode node,
+      JsonParser parser,
+      RecordValues values)
+      throws PropertyValidationException;
+}
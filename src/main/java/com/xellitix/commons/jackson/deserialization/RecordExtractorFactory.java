@@ -0,0 +1,17 @@
+package com.xellitix.commons.jackson.deserialization;
+
+/**
+ * {@link RecordExtractor} factory.
+ *
+ * @author Grayson Kuhns
+ */
+public interface RecordExtractorFactory {
+
+  /**
+   * Compiles a {@link RecordSchema} into a {@link RecordExtractor}.
+   *
+   * @param schema The {@link RecordSchema}.
+   * @return The {@link RecordExtractor}.
+   */
+  RecordExtractor create(RecordSchema schema);
+}
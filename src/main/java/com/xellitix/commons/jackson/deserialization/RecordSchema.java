@@ -0,0 +1,152 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable description of the properties of a record.
+ *
+ * <p>Every property is assigned a slot index in declaration order, which is how its value is
+ * retrieved from the {@link RecordValues} filled by a {@link RecordExtractor}.
+ *
+ * @author Grayson Kuhns
+ */
+public final class RecordSchema {
+
+  // Properties
+  private final List<String> properties;
+  private final List<PropertyType> types;
+  private final List<Boolean> required;
+  private final Map<String, Integer> slots;
+
+  private RecordSchema(final Builder builder) {
+    properties = Collections.unmodifiableList(new ArrayList<>(builder.properties));
+    types = Collections.unmodifiableList(new ArrayList<>(builder.types));
+    required = Collections.unmodifiableList(new ArrayList<>(builder.required));
+    slots = Collections.unmodifiableMap(new HashMap<>(builder.slots));
+  }
+
+  /**
+   * Creates a {@link Builder}.
+   *
+   * @return The {@link Builder}.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Gets the number of properties.
+   *
+   * @return The number of properties.
+   */
+  public int size() {
+    return properties.size();
+  }
+
+  /**
+   * Gets the slot index of a property.
+   *
+   * @param property The property name.
+   * @return The slot index or -1 if the property is not part of the schema.
+   */
+  public int indexOf(final String property) {
+    final Integer slot = slots.get(property);
+    return slot == null ? -1 : slot;
+  }
+
+  /**
+   * Gets the name of the property in a slot.
+   *
+   * @param slot The slot index.
+   * @return The property name.
+   */
+  public String getProperty(final int slot) {
+    return properties.get(slot);
+  }
+
+  /**
+   * Gets the type of the property in a slot.
+   *
+   * @param slot The slot index.
+   * @return The {@link PropertyType}.
+   */
+  public PropertyType getType(final int slot) {
+    return types.get(slot);
+  }
+
+  /**
+   * Checks whether the property in a slot is required.
+   *
+   * @param slot The slot index.
+   * @return True if the property is required.
+   */
+  public boolean isRequired(final int slot) {
+    return required.get(slot);
+  }
+
+  /**
+   * {@link RecordSchema} builder.
+   */
+  public static final class Builder {
+
+    private final List<String> properties = new ArrayList<>();
+    private final List<PropertyType> types = new ArrayList<>();
+    private final List<Boolean> required = new ArrayList<>();
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    private Builder() {
+    }
+
+    /**
+     * Declares a required property.
+     *
+     * @param property The property name.
+     * @param type The {@link PropertyType}.
+     * @return The {@link Builder}.
+     */
+    public Builder required(final String property, final PropertyType type) {
+      return add(property, type, true);
+    }
+
+    /**
+     * Declares an optional property.
+     *
+     * @param property The property name.
+     * @param type The {@link PropertyType}.
+     * @return The {@link Builder}.
+     */
+    public Builder optional(final String property, final PropertyType type) {
+      return add(property, type, false);
+    }
+
+    /**
+     * Builds the {@link RecordSchema}.
+     *
+     * @return The {@link RecordSchema}.
+     */
+    public RecordSchema build() {
+      return new RecordSchema(this);
+    }
+
+    private Builder add(
+        final String property,
+        final PropertyType type,
+        final boolean isRequired) {
+
+      if (slots.containsKey(property)) {
+        throw new IllegalArgumentException(
+            String.format("Property \"%s\" is already declared", property));
+      }
+
+      slots.put(property, properties.size());
+      properties.add(property);
+      types.add(type);
+      required.add(isRequired);
+      return this;
+    }
+  }
+}
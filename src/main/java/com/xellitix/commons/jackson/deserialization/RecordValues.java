@@ -0,0 +1,112 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.Arrays;
+
+/**
+ * Reusable holder for the property values extracted by a {@link RecordExtractor}.
+ *
+ * <p>Values are addressed by their {@link RecordSchema} slot index. Numeric values are held
+ * unboxed. Instances are not thread safe; reuse one per thread.
+ *
+ * @author Grayson Kuhns
+ */
+public final class RecordValues {
+
+  // Properties
+  private final Object[] objects;
+  private final long[] numbers;
+  private final boolean[] present;
+
+  /**
+   * Constructor.
+   *
+   * @param size The number of slots.
+   */
+  RecordValues(final int size) {
+    objects = new Object[size];
+    numbers = new long[size];
+    present = new boolean[size];
+  }
+
+  /**
+   * Checks whether a slot holds a value.
+   *
+   * @param slot The slot index.
+   * @return True if the property was defined and not null.
+   */
+  public boolean isPresent(final int slot) {
+    return present[slot];
+  }
+
+  /**
+   * Gets a {@link String} value.
+   *
+   * @param slot The slot index.
+   * @return The {@link String} value or null if the property was not present.
+   */
+  public String getString(final int slot) {
+    return (String) objects[slot];
+  }
+
+  /**
+   * Gets an integer value.
+   *
+   * @param slot The slot index.
+   * @return The integer value or 0 if the property was not present.
+   */
+  public int getInt(final int slot) {
+    return (int) numbers[slot];
+  }
+
+  /**
+   * Gets a long value.
+   *
+   * @param slot The slot index.
+   * @return The long value or 0 if the property was not present.
+   */
+  public long getLong(final int slot) {
+    return numbers[slot];
+  }
+
+  /**
+   * Gets a {@link URI} value.
+   *
+   * @param slot The slot index.
+   * @return The {@link URI} value or null if the property was not present.
+   */
+  public URI getUri(final int slot) {
+    return (URI) objects[slot];
+  }
+
+  /**
+   * Gets a {@link URL} value.
+   *
+   * @param slot The slot index.
+   * @return The {@link URL} value or null if the property was not present.
+   */
+  public URL getUrl(final int slot) {
+    return (URL) objects[slot];
+  }
+
+  int size() {
+    return present.length;
+  }
+
+  void clear() {
+    Arrays.fill(objects, null);
+    Arrays.fill(numbers, 0L);
+    Arrays.fill(present, false);
+  }
+
+  void setObject(final int slot, final Object value) {
+    objects[slot] = value;
+    present[slot] = true;
+  }
+
+  void setNumber(final int slot, final long value) {
+    numbers[slot] = value;
+    present[slot] = true;
+  }
+}
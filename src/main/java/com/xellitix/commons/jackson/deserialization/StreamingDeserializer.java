@@ -0,0 +1,112 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdNodeBasedDeserializer;
+import java.io.IOException;
+
+/**
+ * Tree-free alternative to {@link StdNodeBasedDeserializer}.
+ *
+ * <p>Properties are handed to {@link #readProperty} one at a time, straight from the
+ * {@link JsonParser}, and collected into a per-object state which {@link #build} then turns into
+ * the value. No intermediate {@code JsonNode} tree is created.
+ *
+ * @param <T> The deserialized type.
+ * @param <S> The per-object state type.
+ * @author Grayson Kuhns
+ */
+public abstract class StreamingDeserializer<T, S> extends StdDeserializer<T> {
+
+  /**
+   * Constructor.
+   *
+   * @param type The deserialized type.
+   */
+  protected StreamingDeserializer(final Class<T> type) {
+    super(type);
+  }
+
+  /**
+   * Deserializes an object.
+   *
+   * @param parser The {@link JsonParser}.
+   * @param ctx The {@link DeserializationContext}.
+   * @return The deserialized value.
+   * @throws IOException If an exception occurs.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T deserialize(
+      final JsonParser parser,
+      final DeserializationContext ctx)
+      throws IOException {
+
+    JsonToken token = parser.getCurrentToken();
+
+    if (token == JsonToken.START_OBJECT) {
+      token = parser.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (T) ctx.handleUnexpectedToken(handledType(), parser);
+    }
+
+    final S state = createState(ctx);
+
+    for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      final String property = parser.getCurrentName();
+
+      // Move to the value and let the subclass consume it
+      parser.nextToken();
+      if (!readProperty(state, property, parser, ctx)) {
+        parser.skipChildren();
+      }
+    }
+
+    return build(state, parser, ctx);
+  }
+
+  /**
+   * Creates the state the properties of a single object are collected into.
+   *
+   * @param ctx The {@link DeserializationContext}.
+   * @return The state.
+   */
+  protected abstract S createState(DeserializationContext ctx);
+
+  /**
+   * Reads a property value.
+   *
+   * <p>The {@link JsonParser} is positioned on the value. Implementations that recognize the
+   * property must consume the whole value; unrecognized properties are skipped.
+   *
+   * @param state The state.
+   * @param property The property name.
+   * @param parser The {@link JsonParser}.
+   * @param ctx The {@link DeserializationContext}.
+   * @return True if the property was consumed, false if it should be skipped.
+   * @throws IOException If an error occurs while reading the property value.
+   */
+  protected abstract boolean readProperty(
+      S state,
+      String property,
+      JsonParser parser,
+      DeserializationContext ctx)
+      throws IOException;
+
+  /**
+   * Builds the value once every property of the object has been read.
+   *
+   * @param state The state.
+   * @param parser The {@link JsonParser}.
+   * @param ctx The {@link DeserializationContext}.
+   * @return The value.
+   * @throws IOException If the value cannot be built.
+   */
+  protected abstract T build(
+      S state,
+      JsonParser parser,
+      DeserializationContext ctx)
+      throws IOException;
+}
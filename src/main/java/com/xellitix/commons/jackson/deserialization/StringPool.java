@@ -0,0 +1,26 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import com.xellitix.commons.jackson.cache.CacheStats;
+
+/**
+ * Canonicalizes {@link String} values so that equal values share a single instance.
+ *
+ * @author Grayson Kuhns
+ */
+public interface StringPool {
+
+  /**
+   * Gets the canonical instance of a {@link String}.
+   *
+   * @param value The {@link String} value.
+   * @return The canonical instance, which is the value itself if it was not pooled yet.
+   */
+  String canonicalize(String value);
+
+  /**
+   * Gets the pool statistics.
+   *
+   * @return The {@link CacheStats}.
+   */
+  CacheStats getStats();
+}
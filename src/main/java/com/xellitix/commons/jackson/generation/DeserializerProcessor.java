@@ -0,0 +1,356 @@
+package com.xellitix.commons.jackson.generation;
+
+import com.xellitix.commons.jackson.deserialization.PropertyType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates streaming deserializers for {@link GenerateDeserializer} factory methods.
+ *
+ * <p>For every package containing such methods a {@code GeneratedDeserializerModule} binding the
+ * deserializers into the {@code Set<JsonDeserializer>} multibinder is generated as well, and
+ * listed as a {@link DeserializerRegistration} service.
+ *
+ * @author Grayson Kuhns
+ */
+public class DeserializerProcessor extends AbstractProcessor {
+
+  // Constants
+  private static final String MODULE_NAME = "GeneratedDeserializerModule";
+  private static final String REGISTRATIONS =
+      "META-INF/services/" + DeserializerRegistration.class.getName();
+
+  // Properties
+  private final Set<String> packages = new HashSet<>();
+  private final Set<String> modules = new TreeSet<>();
+  private Filer filer;
+  private Messager messager;
+
+  /**
+   * Initializes the processor.
+   *
+   * @param processingEnv The {@link ProcessingEnvironment}.
+   */
+  @Override
+  public synchronized void init(final ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+
+    filer = processingEnv.getFiler();
+    messager = processingEnv.getMessager();
+  }
+
+  /**
+   * Gets the supported annotation types.
+   *
+   * @return The supported annotation types.
+   */
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(GenerateDeserializer.class.getCanonicalName());
+  }
+
+  /**
+   * Gets the supported source version.
+   *
+   * @return The latest supported {@link SourceVersion}.
+   */
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  /**
+   * Processes a round.
+   *
+   * @param annotations The annotation types requested to be processed.
+   * @param roundEnv The {@link RoundEnvironment}.
+   * @return True, the annotations are claimed by this processor.
+   */
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations,
+      final RoundEnvironment roundEnv) {
+
+    if (roundEnv.processingOver()) {
+      writeRegistrations();
+      return true;
+    }
+
+    // Group the factory methods by package
+    final Map<String, List<DeserializerSpec>> specs = new LinkedHashMap<>();
+    final Map<String, DeserializerSpec> names = new HashMap<>();
+
+    for (final Element element : roundEnv.getElementsAnnotatedWith(GenerateDeserializer.class)) {
+      final DeserializerSpec spec = inspect((ExecutableElement) element);
+
+      if (spec == null) {
+        continue;
+      }
+
+      // Deserializers are named after the value type, which may be shared by several factories
+      final DeserializerSpec existing = names.putIfAbsent(spec.getQualifiedName(), spec);
+
+      if (existing != null) {
+        final ExecutableElement method = existing.getMethod();
+        error(spec.getMethod(), "Deserializer " + spec.getQualifiedName()
+            + " is already generated for " + method.getEnclosingElement() + "#"
+            + method.getSimpleName() + ", move one of the factory methods to another package");
+        continue;
+      }
+
+      specs.computeIfAbsent(spec.getPackageName(), pkg -> new ArrayList<>()).add(spec);
+    }
+
+    for (final Map.Entry<String, List<DeserializerSpec>> entry : specs.entrySet()) {
+      write(entry.getKey(), entry.getValue());
+    }
+
+    return true;
+  }
+
+  private DeserializerSpec inspect(final ExecutableElement method) {
+    final Element enclosing = method.getEnclosingElement();
+    final boolean staticFactory = method.getModifiers().contains(Modifier.STATIC);
+
+    if (method.getModifiers().contains(Modifier.PRIVATE)) {
+      error(method, "Factory methods must not be private");
+      return null;
+    }
+
+    if (!method.getTypeParameters().isEmpty()) {
+      error(method, "Factory methods must not declare type parameters");
+      return null;
+    }
+
+    // The deserialized type
+    final TypeMirror returnType = method.getReturnType();
+
+    if (returnType.getKind() != TypeKind.DECLARED
+        || !((DeclaredType) returnType).getTypeArguments().isEmpty()) {
+      error(method, "Factory methods must return a non-generic class or interface");
+      return null;
+    }
+
+    final TypeElement valueType = (TypeElement) ((DeclaredType) returnType).asElement();
+    final TypeElement factoryType = (TypeElement) enclosing;
+
+    // The properties
+    final List<PropertySpec> properties = new ArrayList<>();
+    final Set<String> names = new HashSet<>();
+    final Set<String> constants = new HashSet<>();
+    boolean valid = true;
+
+    for (final VariableElement parameter : method.getParameters()) {
+      final Property annotation = parameter.getAnnotation(Property.class);
+      final String parameterName = parameter.getSimpleName().toString();
+      final String name = annotation == null || annotation.value().isEmpty()
+          ? parameterName
+          : annotation.value();
+      final boolean required = annotation == null || annotation.required();
+      final PropertyType type = typeOf(parameter.asType());
+
+      if (type == null) {
+        error(parameter, "Unsupported property type: " + parameter.asType());
+        valid = false;
+        continue;
+      }
+
+      if (!required && parameter.asType().getKind().isPrimitive()) {
+        error(parameter, "Optional properties cannot be primitive");
+        valid = false;
+        continue;
+      }
+
+      if (!names.add(name)) {
+        error(parameter, "Duplicate property: " + name);
+        valid = false;
+        continue;
+      }
+
+      properties.add(new PropertySpec(
+          name,
+          parameterName,
+          constantOf(parameterName, properties.size(), constants),
+          "FIELD_" + properties.size(),
+          type,
+          required));
+    }
+
+    if (!valid) {
+      return null;
+    }
+
+    return new DeserializerSpec(
+        method,
+        processingEnv.getElementUtils().getPackageOf(method).getQualifiedName().toString(),
+        "Generated" + valueType.getSimpleName() + "Deserializer",
+        valueType.getQualifiedName().toString(),
+        factoryType.getQualifiedName().toString(),
+        staticFactory,
+        properties);
+  }
+
+  private void write(final String packageName, final List<DeserializerSpec> specs) {
+    final String module = packageName.isEmpty() ? MODULE_NAME : packageName + "." + MODULE_NAME;
+
+    if (!packages.add(packageName)) {
+      for (final DeserializerSpec spec : specs) {
+        error(spec.getMethod(), "Deserializers of " + packageName
+            + " were already generated in an earlier round");
+      }
+      return;
+    }
+
+    try {
+      for (final DeserializerSpec spec : specs) {
+        try (Writer out = filer
+            .createSourceFile(spec.getQualifiedName(), spec.getMethod())
+            .openWriter()) {
+          new DeserializerWriter(out).writeDeserializer(spec);
+        }
+      }
+
+      final Element[] origins = new Element[specs.size()];
+      for (int i = 0; i < origins.length; i++) {
+        origins[i] = specs.get(i).getMethod();
+      }
+
+      try (Writer out = filer.createSourceFile(module, origins).openWriter()) {
+        new DeserializerWriter(out).writeModule(packageName, MODULE_NAME, specs);
+      }
+
+      modules.add(module);
+    } catch (IOException ex) {
+      error(specs.get(0).getMethod(), "Unable to write the generated deserializers: "
+          + ex.getMessage());
+    }
+  }
+
+  private void writeRegistrations() {
+    if (modules.isEmpty()) {
+      return;
+    }
+
+    // Keep the registrations of an earlier, incremental compilation
+    final Set<String> registrations = new TreeSet<>(modules);
+
+    try {
+      final FileObject existing =
+          filer.getResource(StandardLocation.CLASS_OUTPUT, "", REGISTRATIONS);
+
+      try (Reader in = new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8);
+           BufferedReader reader = new BufferedReader(in)) {
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.trim().isEmpty()) {
+            registrations.add(line.trim());
+          }
+        }
+      }
+    } catch (IOException ex) {
+      // There are no earlier registrations
+    }
+
+    try (Writer out = filer
+        .createResource(StandardLocation.CLASS_OUTPUT, "", REGISTRATIONS)
+        .openWriter()) {
+
+      for (final String registration : registrations) {
+        out.write(registration);
+        out.write('\n');
+      }
+    } catch (IOException ex) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR,
+          "Unable to write " + REGISTRATIONS + ": " + ex.getMessage());
+    }
+  }
+
+  private PropertyType typeOf(final TypeMirror type) {
+    switch (type.getKind()) {
+      case INT:
+        return PropertyType.INT;
+      case LONG:
+        return PropertyType.LONG;
+      case DECLARED:
+        break;
+      default:
+        return null;
+    }
+
+    final Element element = ((DeclaredType) type).asElement();
+    if (element.getKind() != ElementKind.CLASS) {
+      return null;
+    }
+
+    switch (((TypeElement) element).getQualifiedName().toString()) {
+      case "java.lang.String":
+        return PropertyType.STRING;
+      case "java.lang.Integer":
+        return PropertyType.INT;
+      case "java.lang.Long":
+        return PropertyType.LONG;
+      case "java.net.URI":
+        return PropertyType.URI;
+      case "java.net.URL":
+        return PropertyType.URL;
+      default:
+        return null;
+    }
+  }
+
+  private static String constantOf(
+      final String parameter,
+      final int index,
+      final Set<String> constants) {
+
+    // camelCase -> KEY_CAMEL_CASE, the FIELD_ prefix is left to the serialized names
+    final String base = "KEY_" + parameter
+        .replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+        .toUpperCase(Locale.ROOT);
+
+    String constant = base;
+    for (int suffix = index; !constants.add(constant); suffix++) {
+      constant = base + "_" + suffix;
+    }
+
+    return constant;
+  }
+
+  private void error(final Element element, final String message) {
+    messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
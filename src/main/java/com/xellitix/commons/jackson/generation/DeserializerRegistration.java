@@ -0,0 +1,15 @@
+package com.xellitix.commons.jackson.generation;
+
+import com.google.inject.Module;
+import java.util.ServiceLoader;
+
+/**
+ * Google Guice module registering generated deserializers.
+ *
+ * <p>The {@link DeserializerProcessor} lists the modules it generates as implementations of this
+ * interface so they can be found with a {@link ServiceLoader}.
+ *
+ * @author Grayson Kuhns
+ */
+public interface DeserializerRegistration extends Module {
+}
@@ -0,0 +1,132 @@
+package com.xellitix.commons.jackson.generation;
+
+import java.util.Collections;
+import java.util.List;
+import javax.lang.model.element.ExecutableElement;
+
+/**
+ * A deserializer to generate for a {@link GenerateDeserializer} factory method.
+ *
+ * @author Grayson Kuhns
+ */
+final class DeserializerSpec {
+
+  // Properties
+  private final ExecutableElement method;
+  private final String packageName;
+  private final String simpleName;
+  private final String valueType;
+  private final String factoryType;
+  private final boolean staticFactory;
+  private final List<PropertySpec> properties;
+
+  /**
+   * Constructor.
+   *
+   * @param method The factory method.
+   * @param packageName The package name.
+   * @param simpleName The simple name of the deserializer.
+   * @param valueType The canonical name of the deserialized type.
+   * @param factoryType The canonical name of the type declaring the factory method.
+   * @param staticFactory True if the factory method is static.
+   * @param properties The {@link PropertySpec}s in parameter order.
+   */
+  DeserializerSpec(
+      final ExecutableElement method,
+      final String packageName,
+      final String simpleName,
+      final String valueType,
+      final String factoryType,
+      final boolean staticFactory,
+      final List<PropertySpec> properties) {
+
+    this.method = method;
+    this.packageName = packageName;
+    this.simpleName = simpleName;
+    this.valueType = valueType;
+    this.factoryType = factoryType;
+    this.staticFactory = staticFactory;
+    this.properties = Collections.unmodifiableList(properties);
+  }
+
+  /**
+   * Gets the factory method.
+   *
+   * @return The factory method.
+   */
+  ExecutableElement getMethod() {
+    return method;
+  }
+
+  /**
+   * Gets the package name.
+   *
+   * @return The package name.
+   */
+  String getPackageName() {
+    return packageName;
+  }
+
+  /**
+   * Gets the simple name of the deserializer.
+   *
+   * @return The simple name.
+   */
+  String getSimpleName() {
+    return simpleName;
+  }
+
+  /**
+   * Gets the qualified name of the deserializer.
+   *
+   * @return The qualified name.
+   */
+  String getQualifiedName() {
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  /**
+   * Gets the canonical name of the deserialized type.
+   *
+   * @return The canonical name.
+   */
+  String getValueType() {
+    return valueType;
+  }
+
+  /**
+   * Gets the canonical name of the type declaring the factory method.
+   *
+   * @return The canonical name.
+   */
+  String getFactoryType() {
+    return factoryType;
+  }
+
+  /**
+   * Gets the name of the factory method.
+   *
+   * @return The method name.
+   */
+  String getFactoryMethod() {
+    return method.getSimpleName().toString();
+  }
+
+  /**
+   * Indicates whether the factory method is static, in which case no factory is injected.
+   *
+   * @return True if the factory method is static.
+   */
+  boolean isStaticFactory() {
+    return staticFactory;
+  }
+
+  /**
+   * Gets the properties.
+   *
+   * @return The {@link PropertySpec}s in parameter order.
+   */
+  List<PropertySpec> getProperties() {
+    return properties;
+  }
+}
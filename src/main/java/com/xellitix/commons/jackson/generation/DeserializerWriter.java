@@ -0,0 +1,314 @@
+package com.xellitix.commons.jackson.generation;
+
+import com.xellitix.commons.jackson.deserialization.PropertyType;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes the sources of generated deserializers and the modules registering them.
+ *
+ * <p>Every type is referenced by its canonical name, so the generated sources need no imports
+ * that could clash with the types of the package they are generated in.
+ *
+ * @author Grayson Kuhns
+ */
+final class DeserializerWriter {
+
+  // Constants
+  private static final String INDENT = "  ";
+
+  // Properties
+  private final Writer out;
+  private int depth;
+
+  /**
+   * Constructor.
+   *
+   * @param out The {@link Writer} the source is written to.
+   */
+  DeserializerWriter(final Writer out) {
+    this.out = out;
+  }
+
+  /**
+   * Writes a deserializer.
+   *
+   * <p>The deserializer first expects the properties in parameter order and matches each name
+   * with {@link com.fasterxml.jackson.core.JsonParser#nextFieldName}, which compares the raw
+   * bytes of the name instead of decoding it. On the first property out of order it continues
+   * with a {@code switch} over the decoded names.
+   *
+   * @param spec The {@link DeserializerSpec}.
+   * @throws IOException If an error occurs while writing.
+   */
+  void writeDeserializer(final DeserializerSpec spec) throws IOException {
+    final String type = spec.getValueType();
+    final List<PropertySpec> properties = spec.getProperties();
+
+    writePackage(spec.getPackageName());
+    line("/**");
+    line(" * {@link " + type + "} streaming deserializer generated from");
+    line(" * {@link " + spec.getFactoryType() + "#" + spec.getFactoryMethod() + "}.");
+    line(" */");
+    open("public final class " + spec.getSimpleName()
+        + " extends com.fasterxml.jackson.databind.deser.std.StdDeserializer<" + type + ">");
+    line("");
+
+    // Constants
+    line("private static final long serialVersionUID = 1L;");
+    for (final PropertySpec property : properties) {
+      line("private static final String " + property.getConstant() + " = \""
+          + escape(property.getName()) + "\";");
+      line("private static final com.fasterxml.jackson.core.SerializableString "
+          + property.getField() + " =");
+      line(INDENT + INDENT + "new com.fasterxml.jackson.core.io.SerializedString("
+          + property.getConstant() + ");");
+    }
+    line("");
+
+    // Dependencies
+    if (!spec.isStaticFactory()) {
+      line("private final transient " + spec.getFactoryType() + " factory;");
+    }
+    line("private final transient "
+        + "com.xellitix.commons.jackson.deserialization.JsonParserPropertyRetriever "
+        + "propertyRetriever;");
+    line("");
+
+    // Constructor
+    line("@com.google.inject.Inject");
+    line(spec.getSimpleName() + "(");
+    if (!spec.isStaticFactory()) {
+      line(INDENT + INDENT + "final " + spec.getFactoryType() + " factory,");
+    }
+    line(INDENT + INDENT + "final com.xellitix.commons.jackson.deserialization"
+        + ".JsonParserPropertyRetriever propertyRetriever) {");
+    depth++;
+    line("super(" + type + ".class);");
+    if (!spec.isStaticFactory()) {
+      line("this.factory = factory;");
+    }
+    line("this.propertyRetriever = propertyRetriever;");
+    close();
+    line("");
+
+    // Deserialization
+    line("@Override");
+    line("public " + type + " deserialize(");
+    line(INDENT + INDENT + "final com.fasterxml.jackson.core.JsonParser parser,");
+    line(INDENT + INDENT + "final com.fasterxml.jackson.databind.DeserializationContext ctx)");
+    line(INDENT + INDENT + "throws java.io.IOException {");
+    depth++;
+    for (final PropertySpec property : properties) {
+      line(boxed(property.getType()) + " " + property.getVariable() + " = null;");
+    }
+    line("");
+    line("com.fasterxml.jackson.core.JsonToken token = parser.getCurrentToken();");
+    line("boolean inOrder = token == com.fasterxml.jackson.core.JsonToken.START_OBJECT;");
+    line("if (!inOrder");
+    line(INDENT + INDENT + "&& token != com.fasterxml.jackson.core.JsonToken.FIELD_NAME");
+    line(INDENT + INDENT + "&& token != com.fasterxml.jackson.core.JsonToken.END_OBJECT) {");
+    depth++;
+    line("return (" + type + ") ctx.handleUnexpectedToken(handledType(), parser);");
+    close();
+    line("");
+    line("// Speculative fast path: the properties arrive in parameter order");
+    for (final PropertySpec property : properties) {
+      open("if (inOrder && (inOrder = parser.nextFieldName(" + property.getField() + ")))");
+      line("parser.nextToken();");
+      line(read(property));
+      close();
+    }
+    line("");
+    line("// Any remaining or reordered properties");
+    line("token = inOrder ? parser.nextToken() : parser.getCurrentToken();");
+    open("for (; token == com.fasterxml.jackson.core.JsonToken.FIELD_NAME; "
+        + "token = parser.nextToken())");
+    line("final String property = parser.getCurrentName();");
+    line("parser.nextToken();");
+    line("");
+    open("switch (property)");
+    for (final PropertySpec property : properties) {
+      line("case " + property.getConstant() + ":");
+      depth++;
+      line(read(property));
+      line("break;");
+      depth--;
+    }
+    line("default:");
+    depth++;
+    line("parser.skipChildren();");
+    line("break;");
+    depth--;
+    close();
+    close();
+    line("");
+    writeFactoryCall(spec);
+    close();
+    close();
+  }
+
+  /**
+   * Writes the module registering the deserializers of a package.
+   *
+   * <p>The module equals every other instance of itself so Google Guice installs it once, even
+   * if it is both discovered and installed explicitly.
+   *
+   * @param packageName The package name.
+   * @param simpleName The simple name of the module.
+   * @param specs The {@link DeserializerSpec}s of the package.
+   * @throws IOException If an error occurs while writing.
+   */
+  void writeModule(
+      final String packageName,
+      final String simpleName,
+      final List<DeserializerSpec> specs)
+      throws IOException {
+
+    writePackage(packageName);
+    line("/**");
+    line(" * Registers the deserializers generated for this package.");
+    line(" */");
+    line("public final class " + simpleName + " extends com.google.inject.AbstractModule");
+    line(INDENT + INDENT + "implements " + DeserializerRegistration.class.getCanonicalName()
+        + " {");
+    depth++;
+    line("");
+    line("@Override");
+    open("protected void configure()");
+    line("final com.google.inject.multibindings.Multibinder"
+        + "<com.fasterxml.jackson.databind.JsonDeserializer> deserializers =");
+    line(INDENT + INDENT + "com.google.inject.multibindings.Multibinder.newSetBinder(");
+    line(INDENT + INDENT + INDENT + INDENT
+        + "binder(), com.fasterxml.jackson.databind.JsonDeserializer.class);");
+    line("");
+    for (final DeserializerSpec spec : specs) {
+      line("deserializers.addBinding().to(" + spec.getSimpleName() + ".class);");
+    }
+    close();
+    line("");
+    line("@Override");
+    open("public boolean equals(final Object obj)");
+    line("return obj instanceof " + simpleName + ";");
+    close();
+    line("");
+    line("@Override");
+    open("public int hashCode()");
+    line("return " + simpleName + ".class.hashCode();");
+    close();
+    close();
+  }
+
+  private void writeFactoryCall(final DeserializerSpec spec) throws IOException {
+    final List<PropertySpec> properties = spec.getProperties();
+    final String target = spec.isStaticFactory() ? spec.getFactoryType() : "factory";
+
+    if (properties.isEmpty()) {
+      line("return " + target + "." + spec.getFactoryMethod() + "();");
+      return;
+    }
+
+    line("return " + target + "." + spec.getFactoryMethod() + "(");
+    for (int i = 0; i < properties.size(); i++) {
+      final PropertySpec property = properties.get(i);
+      final String argument = property.isRequired()
+          ? "propertyRetriever.require(" + property.getVariable() + ", "
+              + property.getConstant() + ", parser)"
+          : property.getVariable();
+
+      line(INDENT + INDENT + argument + (i + 1 < properties.size() ? "," : ");"));
+    }
+  }
+
+  private void writePackage(final String packageName) throws IOException {
+    if (!packageName.isEmpty()) {
+      line("package " + packageName + ";");
+      line("");
+    }
+  }
+
+  private void open(final String declaration) throws IOException {
+    line(declaration + " {");
+    depth++;
+  }
+
+  private void close() throws IOException {
+    depth--;
+    line("}");
+  }
+
+  private void line(final String text) throws IOException {
+    if (!text.isEmpty()) {
+      for (int i = 0; i < depth; i++) {
+        out.write(INDENT);
+      }
+      out.write(text);
+    }
+    out.write('\n');
+  }
+
+  private static String read(final PropertySpec property) {
+    final String method = property.isRequired()
+        ? getter(property.getType())
+        : getter(property.getType()) + "OrNull";
+
+    return property.getVariable() + " = propertyRetriever." + method + "(parser, "
+        + property.getConstant() + ");";
+  }
+
+  private static String getter(final PropertyType type) {
+    switch (type) {
+      case STRING:
+        return "getString";
+      case INT:
+        return "getInt";
+      case LONG:
+        return "getLong";
+      case URI:
+        return "getUri";
+      case URL:
+        return "getUrl";
+      default:
+        throw new IllegalArgumentException("Unsupported property type: " + type);
+    }
+  }
+
+  private static String boxed(final PropertyType type) {
+    switch (type) {
+      case STRING:
+        return "String";
+      case INT:
+        return "Integer";
+      case LONG:
+        return "Long";
+      case URI:
+        return "java.net.URI";
+      case URL:
+        return "java.net.URL";
+      default:
+        throw new IllegalArgumentException("Unsupported property type: " + type);
+    }
+  }
+
+  private static String escape(final String value) {
+    final StringBuilder escaped = new StringBuilder(value.length());
+
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+
+      if (c == '"' || c == '\\') {
+        escaped.append('\\').append(c);
+      } else if (c < 0x20) {
+        // Unicode escapes are translated before string literals, so line breaks must be octal
+        escaped.append(String.format("\\%03o", (int) c));
+      } else if (c > 0x7e) {
+        escaped.append(String.format("\\u%04x", (int) c));
+      } else {
+        escaped.append(c);
+      }
+    }
+
+    return escaped.toString();
+  }
+}
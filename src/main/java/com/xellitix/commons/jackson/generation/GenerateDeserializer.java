@@ -0,0 +1,31 @@
+package com.xellitix.commons.jackson.generation;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a streaming {@link JsonDeserializer} for the type returned by the annotated factory
+ * method.
+ *
+ * <p>Every parameter of the method is read from the property of the same name, or the one named
+ * by {@link Property}, and passed to the factory once the object has been read. Parameters may
+ * be {@link String}s, {@code int}s, {@code long}s, {@link java.net.URI}s or
+ * {@link java.net.URL}s, or their boxed counterparts. Instance methods are called on the factory
+ * injected into the deserializer, e.g. an assisted inject factory, static methods directly.
+ *
+ * <p>The {@link DeserializerProcessor} names the deserializer {@code Generated<Type>Deserializer}
+ * and registers the deserializers of a package with a {@code GeneratedDeserializerModule}. The
+ * module is either installed like any other or discovered by the
+ * {@link com.xellitix.commons.jackson.objectmapper.ObjectMapperModule}.
+ *
+ * @author Grayson Kuhns
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+public @interface GenerateDeserializer {
+}
@@ -0,0 +1,35 @@
+package com.xellitix.commons.jackson.generation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a parameter of a {@link GenerateDeserializer} factory method to a property.
+ *
+ * @author Grayson Kuhns
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.CLASS)
+public @interface Property {
+
+  /**
+   * Gets the property name.
+   *
+   * @return The property name, or an empty string to use the parameter name.
+   */
+  String value() default "";
+
+  /**
+   * Indicates whether the property must be present and not null.
+   *
+   * <p>Optional properties are passed to the factory as null when absent, so they cannot be bound
+   * to primitive parameters.
+   *
+   * @return True if the property is required.
+   */
+  boolean required() default true;
+}
@@ -0,0 +1,99 @@
+package com.xellitix.commons.jackson.generation;
+
+import com.xellitix.commons.jackson.deserialization.PropertyType;
+
+/**
+ * A property read by a generated deserializer, i.e. a parameter of the factory method.
+ *
+ * @author Grayson Kuhns
+ */
+final class PropertySpec {
+
+  // Properties
+  private final String name;
+  private final String parameter;
+  private final String constant;
+  private final String field;
+  private final PropertyType type;
+  private final boolean required;
+
+  /**
+   * Constructor.
+   *
+   * @param name The property name.
+   * @param parameter The factory method parameter name.
+   * @param constant The name of the constant holding the property name.
+   * @param field The name of the constant holding the serialized property name.
+   * @param type The {@link PropertyType}.
+   * @param required True if the property is required.
+   */
+  PropertySpec(
+      final String name,
+      final String parameter,
+      final String constant,
+      final String field,
+      final PropertyType type,
+      final boolean required) {
+
+    this.name = name;
+    this.parameter = parameter;
+    this.constant = constant;
+    this.field = field;
+    this.type = type;
+    this.required = required;
+  }
+
+  /**
+   * Gets the property name.
+   *
+   * @return The property name.
+   */
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the name of the local variable holding the value.
+   *
+   * @return The variable name.
+   */
+  String getVariable() {
+    return parameter + "Value";
+  }
+
+  /**
+   * Gets the name of the constant holding the property name.
+   *
+   * @return The constant name.
+   */
+  String getConstant() {
+    return constant;
+  }
+
+  /**
+   * Gets the name of the constant holding the serialized property name.
+   *
+   * @return The constant name.
+   */
+  String getField() {
+    return field;
+  }
+
+  /**
+   * Gets the {@link PropertyType}.
+   *
+   * @return The {@link PropertyType}.
+   */
+  PropertyType getType() {
+    return type;
+  }
+
+  /**
+   * Indicates whether the property is required.
+   *
+   * @return True if the property is required.
+   */
+  boolean isRequired() {
+    return required;
+  }
+}
@@ -0,0 +1,158 @@
+package com.xellitix.commons.jackson.io;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free {@link SharedBufferPool}.
+ *
+ * <p>Each buffer type holds a fixed number of slots. Threads start probing at a random slot so
+ * that concurrent callers rarely compete for the same one. A released buffer that finds every
+ * slot taken, or that grew beyond {@value #MAX_POOLED_LENGTH} elements, is left to the garbage
+ * collector; an empty pool allocates. Unlike Jackson's thread-local recycling, buffers are reused
+ * across threads, so short-lived threads such as virtual threads still benefit.
+ *
+ * @author Grayson Kuhns
+ */
+public class BoundedSharedBufferPool implements SharedBufferPool {
+
+  // Constants
+  static final int MAX_POOLED_LENGTH = 1 << 18;
+  private static final int TYPES = 4;
+
+  // Properties
+  private final int buffersPerType;
+  private final AtomicReferenceArray<byte[]> byteBuffers;
+  private final AtomicReferenceArray<char[]> charBuffers;
+
+  /**
+   * Constructor.
+   *
+   * @param buffersPerType The maximum number of free buffers kept for each buffer type.
+   */
+  public BoundedSharedBufferPool(final int buffersPerType) {
+    if (buffersPerType < 1) {
+      throw new IllegalArgumentException("The number of buffers must be positive");
+    }
+
+    this.buffersPerType = buffersPerType;
+    this.byteBuffers = new AtomicReferenceArray<>(TYPES * buffersPerType);
+    this.charBuffers = new AtomicReferenceArray<>(TYPES * buffersPerType);
+  }
+
+  /**
+   * Acquires a byte buffer.
+   *
+   * @param type The byte buffer index.
+   * @param minSize The minimum length.
+   * @return The buffer.
+   */
+  @Override
+  public byte[] allocByteBuffer(final int type, final int minSize) {
+    final int start = type * buffersPerType;
+    final int offset = probe();
+
+    for (int i = 0; i < buffersPerType; i++) {
+      final int slot = start + (offset + i) % buffersPerType;
+
+      if (byteBuffers.get(slot) != null) {
+        final byte[] buffer = byteBuffers.getAndSet(slot, null);
+
+        if (buffer != null) {
+          if (buffer.length >= minSize) {
+            return buffer;
+          }
+
+          // Too small for this caller; leave it for the next one
+          byteBuffers.compareAndSet(slot, null, buffer);
+        }
+      }
+    }
+
+    return new byte[minSize];
+  }
+
+  /**
+   * Returns a byte buffer.
+   *
+   * @param type The byte buffer index.
+   * @param buffer The buffer.
+   */
+  @Override
+  public void releaseByteBuffer(final int type, final byte[] buffer) {
+    if (buffer.length > MAX_POOLED_LENGTH) {
+      return;
+    }
+
+    final int start = type * buffersPerType;
+    final int offset = probe();
+
+    for (int i = 0; i < buffersPerType; i++) {
+      final int slot = start + (offset + i) % buffersPerType;
+
+      if (byteBuffers.get(slot) == null && byteBuffers.compareAndSet(slot, null, buffer)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Acquires a char buffer.
+   *
+   * @param type The char buffer index.
+   * @param minSize The minimum length.
+   * @return The buffer.
+   */
+  @Override
+  public char[] allocCharBuffer(final int type, final int minSize) {
+    final int start = type * buffersPerType;
+    final int offset = probe();
+
+    for (int i = 0; i < buffersPerType; i++) {
+      final int slot = start + (offset + i) % buffersPerType;
+
+      if (charBuffers.get(slot) != null) {
+        final char[] buffer = charBuffers.getAndSet(slot, null);
+
+        if (buffer != null) {
+          if (buffer.length >= minSize) {
+            return buffer;
+          }
+
+          // Too small for this caller; leave it for the next one
+          charBuffers.compareAndSet(slot, null, buffer);
+        }
+      }
+    }
+
+    return new char[minSize];
+  }
+
+  /**
+   * Returns a char buffer.
+   *
+   * @param type The char buffer index.
+   * @param buffer The buffer.
+   */
+  @Override
+  public void releaseCharBuffer(final int type, final char[] buffer) {
+    if (buffer.length > MAX_POOLED_LENGTH) {
+      return;
+    }
+
+    final int start = type * buffersPerType;
+    final int offset = probe();
+
+    for (int i = 0; i < buffersPerType; i++) {
+      final int slot = start + (offset + i) % buffersPerType;
+
+      if (charBuffers.get(slot) == null && charBuffers.compareAndSet(slot, null, buffer)) {
+        return;
+      }
+    }
+  }
+
+  private int probe() {
+    return buffersPerType == 1 ? 0 : ThreadLocalRandom.current().nextInt(buffersPerType);
+  }
+}
@@ -0,0 +1,80 @@
+package com.xellitix.commons.jackson.io;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+/**
+ * Releases memory mappings without waiting for the garbage collector.
+ *
+ * <p>The JDK offers no public API to unmap a {@link MappedByteBuffer}, so the internal cleaner is
+ * invoked reflectively: {@code sun.misc.Unsafe#invokeCleaner} on Java 9 and later, the buffer's
+ * {@code cleaner()} on Java 8. When neither is accessible, unmapping is left to the garbage
+ * collector.
+ *
+ * @author Grayson Kuhns
+ */
+final class BufferUnmapper {
+
+  // Constants
+  private static final Unmapper UNMAPPER = createUnmapper();
+
+  private BufferUnmapper() {
+  }
+
+  /**
+   * Unmaps a buffer. The buffer must not be used afterwards.
+   *
+   * @param buffer The {@link MappedByteBuffer} or null.
+   */
+  static void unmap(final MappedByteBuffer buffer) {
+    if (buffer == null) {
+      return;
+    }
+
+    try {
+      UNMAPPER.unmap(buffer);
+    } catch (Exception ex) {
+      // The mapping is released by the garbage collector instead
+    }
+  }
+
+  private static Unmapper createUnmapper() {
+    // Java 9 and later
+    try {
+      final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      final Object unsafe = theUnsafe.get(null);
+
+      return buffer -> invokeCleaner.invoke(unsafe, buffer);
+    } catch (Exception | LinkageError ex) {
+      // Fall back to the Java 8 cleaner
+    }
+
+    // Java 8
+    try {
+      final Method cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      final Method cleanMethod = Class.forName("sun.misc.Cleaner").getMethod("clean");
+
+      return buffer -> {
+        final Object cleaner = cleanerMethod.invoke(buffer);
+        if (cleaner != null) {
+          cleanMethod.invoke(cleaner);
+        }
+      };
+    } catch (Exception | LinkageError ex) {
+      return buffer -> {
+        // Unmapping is not supported; the garbage collector releases the mapping
+      };
+    }
+  }
+
+  @FunctionalInterface
+  private interface Unmapper {
+
+    void unmap(ByteBuffer buffer) throws Exception;
+  }
+}
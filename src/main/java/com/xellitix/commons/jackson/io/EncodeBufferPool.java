@@ -0,0 +1,110 @@
+package com.xellitix.commons.jackson.io;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pool of recycled byte arrays for encoding output.
+ *
+ * <p>Arrays come in power-of-two size classes from 1 KiB to 1 MiB, and each class holds a
+ * bounded number of free arrays in a lock-free slot array. Larger requests are allocated and
+ * dropped without pooling, so that occasional huge payloads are not retained. A pool with no
+ * arrays per class allocates every request.
+ *
+ * @author Grayson Kuhns
+ */
+public class EncodeBufferPool {
+
+  // Constants
+  static final int MIN_SHIFT = 10;
+  static final int MAX_SHIFT = 20;
+  private static final int CLASSES = MAX_SHIFT - MIN_SHIFT + 1;
+
+  // Properties
+  private final int buffersPerClass;
+  private final AtomicReferenceArray<byte[]> slots;
+
+  /**
+   * Constructor.
+   *
+   * @param buffersPerClass The maximum number of free arrays kept for each size class.
+   */
+  public EncodeBufferPool(final int buffersPerClass) {
+    if (buffersPerClass < 0) {
+      throw new IllegalArgumentException("The number of buffers must not be negative");
+    }
+
+    this.buffersPerClass = buffersPerClass;
+    this.slots = new AtomicReferenceArray<>(CLASSES * buffersPerClass);
+  }
+
+  /**
+   * Opens a {@link PooledOutputStream} that writes into arrays from this pool.
+   *
+   * @return The {@link PooledOutputStream}.
+   */
+  public PooledOutputStream openStream() {
+    return new PooledOutputStream(this);
+  }
+
+  /**
+   * Acquires an array of at least a given capacity.
+   *
+   * @param minCapacity The minimum capacity.
+   * @return The array, which is at least 1 KiB long.
+   */
+  public byte[] acquire(final int minCapacity) {
+    final int shift = shiftOf(minCapacity);
+
+    if (shift > MAX_SHIFT) {
+      return new byte[minCapacity];
+    }
+
+    // Take the first free array of the size class
+    final int start = (shift - MIN_SHIFT) * buffersPerClass;
+    for (int i = start; i < start + buffersPerClass; i++) {
+      if (slots.get(i) != null) {
+        final byte[] buffer = slots.getAndSet(i, null);
+
+        if (buffer != null) {
+          return buffer;
+        }
+      }
+    }
+
+    return new byte[1 << shift];
+  }
+
+  /**
+   * Returns an array to the pool. Arrays that are not of a pooled size class, or that find their
+   * size class full, are left to the garbage collector.
+   *
+   * @param buffer The array.
+   */
+  public void release(final byte[] buffer) {
+    final int length = buffer.length;
+
+    if (Integer.bitCount(length) != 1) {
+      return;
+    }
+
+    final int shift = Integer.numberOfTrailingZeros(length);
+    if (shift < MIN_SHIFT || shift > MAX_SHIFT) {
+      return;
+    }
+
+    final int start = (shift - MIN_SHIFT) * buffersPerClass;
+    for (int i = start; i < start + buffersPerClass; i++) {
+      if (slots.get(i) == null && slots.compareAndSet(i, null, buffer)) {
+        return;
+      }
+    }
+  }
+
+  private static int shiftOf(final int capacity) {
+    if (capacity <= 1 << MIN_SHIFT) {
+      return MIN_SHIFT;
+    }
+
+    return Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1);
+  }
+}
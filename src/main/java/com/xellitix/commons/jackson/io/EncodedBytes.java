@@ -0,0 +1,101 @@
+package com.xellitix.commons.jackson.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encoded bytes held in an array borrowed from an {@link EncodeBufferPool}.
+ *
+ * <p>The bytes occupy the start of the array, which is usually longer than the encoding. Closing
+ * returns the array to the pool; the bytes, and any {@link ByteBuffer} view of them, must not be
+ * used afterwards. Instances are not thread safe.
+ *
+ * @author Grayson Kuhns
+ */
+public final class EncodedBytes implements AutoCloseable {
+
+  // Properties
+  private final EncodeBufferPool pool;
+  private final int length;
+  private byte[] array;
+
+  /**
+   * Constructor.
+   *
+   * @param pool The {@link EncodeBufferPool} the array is returned to.
+   * @param array The array.
+   * @param length The number of encoded bytes.
+   */
+  EncodedBytes(final EncodeBufferPool pool, final byte[] array, final int length) {
+    this.pool = pool;
+    this.array = array;
+    this.length = length;
+  }
+
+  /**
+   * Gets the array holding the bytes.
+   *
+   * @return The array, of which only the first {@link #getLength()} bytes are encoded.
+   */
+  public byte[] getArray() {
+    return checkOpen();
+  }
+
+  /**
+   * Gets the number of encoded bytes.
+   *
+   * @return The number of bytes.
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Gets a {@link ByteBuffer} view of the bytes.
+   *
+   * @return The {@link ByteBuffer}.
+   */
+  public ByteBuffer asByteBuffer() {
+    return ByteBuffer.wrap(checkOpen(), 0, length);
+  }
+
+  /**
+   * Copies the bytes into a new array that outlives this instance.
+   *
+   * @return The bytes.
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(checkOpen(), length);
+  }
+
+  /**
+   * Writes the bytes to an {@link OutputStream}.
+   *
+   * @param out The {@link OutputStream}.
+   * @throws IOException If the bytes cannot be written.
+   */
+  public void writeTo(final OutputStream out) throws IOException {
+    out.write(checkOpen(), 0, length);
+  }
+
+  /**
+   * Returns the array to the pool.
+   */
+  @Override
+  public void close() {
+    if (array != null) {
+      pool.release(array);
+      array = null;
+    }
+  }
+
+  private byte[] checkOpen() {
+    if (array == null) {
+      throw new IllegalStateException("The encoded bytes were closed");
+    }
+
+    return array;
+  }
+}
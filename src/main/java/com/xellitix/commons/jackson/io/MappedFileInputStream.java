@@ -0,0 +1,164 @@
+package com.xellitix.commons.jackson.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link InputStream} reading a file through read-only memory mappings.
+ *
+ * <p>Bytes are copied straight from the page cache into the reader's buffer, with no
+ * intermediate heap copy. The file is mapped one region at a time so that files larger than 2 GB
+ * are supported; each region is unmapped as soon as it has been consumed, and closing the stream
+ * unmaps the current region. Instances are not thread safe.
+ *
+ * @author Grayson Kuhns
+ */
+public final class MappedFileInputStream extends InputStream {
+
+  // Constants
+  static final long DEFAULT_REGION_SIZE = 1L << 30;
+
+  // Properties
+  private final FileChannel channel;
+  private final long size;
+  private final long regionSize;
+
+  private MappedByteBuffer region;
+  private long regionEnd;
+  private boolean closed;
+
+  private MappedFileInputStream(
+      final FileChannel channel,
+      final long regionSize)
+      throws IOException {
+
+    this.channel = channel;
+    this.size = channel.size();
+    this.regionSize = regionSize;
+  }
+
+  /**
+   * Opens a file.
+   *
+   * @param path The file {@link Path}.
+   * @return The {@link MappedFileInputStream}.
+   * @throws IOException If the file cannot be opened.
+   */
+  public static MappedFileInputStream open(final Path path) throws IOException {
+    return open(path, DEFAULT_REGION_SIZE);
+  }
+
+  /**
+   * Opens a file, mapping it in regions of a given size.
+   *
+   * @param path The file {@link Path}.
+   * @param regionSize The maximum size of a mapped region in bytes.
+   * @return The {@link MappedFileInputStream}.
+   * @throws IOException If the file cannot be opened.
+   */
+  static MappedFileInputStream open(final Path path, final long regionSize) throws IOException {
+    if (regionSize < 1 || regionSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("The region size must be between 1 and 2^31 - 1");
+    }
+
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+    try {
+      return new MappedFileInputStream(channel, regionSize);
+    } catch (IOException | RuntimeException ex) {
+      channel.close();
+      throw ex;
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!nextRegion()) {
+      return -1;
+    }
+
+    return region.get() & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+
+    if (!nextRegion()) {
+      return -1;
+    }
+
+    final int count = Math.min(length, region.remaining());
+    region.get(buffer, offset, count);
+    return count;
+  }
+
+  @Override
+  public long skip(final long count) throws IOException {
+    if (count <= 0 || !nextRegion()) {
+      return 0;
+    }
+
+    final int skipped = (int) Math.min(count, region.remaining());
+    region.position(region.position() + skipped);
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    ensureOpen();
+
+    final long remaining = size - regionEnd + (region == null ? 0 : region.remaining());
+    return (int) Math.min(remaining, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    BufferUnmapper.unmap(region);
+    region = null;
+    channel.close();
+  }
+
+  /**
+   * Makes sure a region with remaining bytes is mapped.
+   *
+   * @return False if the end of the file was reached.
+   */
+  private boolean nextRegion() throws IOException {
+    ensureOpen();
+
+    if (region != null && region.hasRemaining()) {
+      return true;
+    }
+
+    if (regionEnd >= size) {
+      return false;
+    }
+
+    // Release the consumed region before mapping the next one
+    BufferUnmapper.unmap(region);
+    region = null;
+
+    final long length = Math.min(regionSize, size - regionEnd);
+    region = channel.map(FileChannel.MapMode.READ_ONLY, regionEnd, length);
+    regionEnd += length;
+    return true;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("The stream is closed");
+    }
+  }
+}
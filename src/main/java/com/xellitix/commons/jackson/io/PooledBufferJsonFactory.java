@@ -0,0 +1,72 @@
+package com.xellitix.commons.jackson.io;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+/**
+ * {@link JsonFactory} whose parsers and generators take their buffers from a
+ * {@link SharedBufferPool} instead of a thread-local {@link BufferRecycler}.
+ *
+ * @author Grayson Kuhns
+ */
+public class PooledBufferJsonFactory extends JsonFactory {
+
+  // Constants
+  private static final long serialVersionUID = 1L;
+
+  // Properties
+  private final transient SharedBufferPool pool;
+  private final transient BufferRecycler recycler;
+
+  /**
+   * Constructor.
+   *
+   * @param pool The {@link SharedBufferPool}.
+   */
+  public PooledBufferJsonFactory(final SharedBufferPool pool) {
+    this.pool = pool;
+    this.recycler = new PooledBufferRecycler(pool);
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param src The {@link PooledBufferJsonFactory} to copy.
+   * @param codec The {@link ObjectCodec}.
+   */
+  protected PooledBufferJsonFactory(final PooledBufferJsonFactory src, final ObjectCodec codec) {
+    super(src, codec);
+    this.pool = src.pool;
+    this.recycler = src.recycler;
+  }
+
+  /**
+   * Gets the {@link SharedBufferPool}.
+   *
+   * @return The {@link SharedBufferPool}.
+   */
+  public SharedBufferPool getPool() {
+    return pool;
+  }
+
+  /**
+   * Copies the factory, sharing the {@link SharedBufferPool}.
+   *
+   * @return The {@link PooledBufferJsonFactory}.
+   */
+  @Override
+  public JsonFactory copy() {
+    return new PooledBufferJsonFactory(this, null);
+  }
+
+  /**
+   * Gets the {@link BufferRecycler} shared by every parser and generator.
+   *
+   * @return The {@link BufferRecycler}.
+   */
+  @Override
+  public BufferRecycler _getBufferRecycler() {
+    return recycler;
+  }
+}
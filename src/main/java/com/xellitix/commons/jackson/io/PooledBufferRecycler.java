@@ -0,0 +1,44 @@
+package com.xellitix.commons.jackson.io;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+/**
+ * {@link BufferRecycler} that borrows every buffer from a {@link SharedBufferPool}, so that a
+ * single instance can serve all threads.
+ *
+ * @author Grayson Kuhns
+ */
+final class PooledBufferRecycler extends BufferRecycler {
+
+  // Dependencies
+  private final SharedBufferPool pool;
+
+  /**
+   * Constructor.
+   *
+   * @param pool The {@link SharedBufferPool}.
+   */
+  PooledBufferRecycler(final SharedBufferPool pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public byte[] allocByteBuffer(final int ix, final int minSize) {
+    return pool.allocByteBuffer(ix, Math.max(minSize, byteBufferLength(ix)));
+  }
+
+  @Override
+  public void releaseByteBuffer(final int ix, final byte[] buffer) {
+    pool.releaseByteBuffer(ix, buffer);
+  }
+
+  @Override
+  public char[] allocCharBuffer(final int ix, final int minSize) {
+    return pool.allocCharBuffer(ix, Math.max(minSize, charBufferLength(ix)));
+  }
+
+  @Override
+  public void releaseCharBuffer(final int ix, final char[] buffer) {
+    pool.releaseCharBuffer(ix, buffer);
+  }
+}
@@ -0,0 +1,110 @@
+package com.xellitix.commons.jackson.io;
+
+import java.io.OutputStream;
+
+/**
+ * {@link OutputStream} writing into arrays borrowed from an {@link EncodeBufferPool}.
+ *
+ * <p>When the current array is full, the next size class is acquired and the previous array is
+ * released. The written bytes are handed over with {@link #detach()}, or the array is returned
+ * with {@link #discard()}. Closing the stream has no effect, so that it may be passed to writers
+ * that close their target. Instances are not thread safe.
+ *
+ * @author Grayson Kuhns
+ */
+public final class PooledOutputStream extends OutputStream {
+
+  // Properties
+  private final EncodeBufferPool pool;
+  private byte[] buffer;
+  private int length;
+
+  /**
+   * Constructor.
+   *
+   * @param pool The {@link EncodeBufferPool}.
+   */
+  PooledOutputStream(final EncodeBufferPool pool) {
+    this.pool = pool;
+    this.buffer = pool.acquire(0);
+  }
+
+  /**
+   * Writes a byte.
+   *
+   * @param b The byte.
+   */
+  @Override
+  public void write(final int b) {
+    ensureCapacity(length + 1);
+    buffer[length++] = (byte) b;
+  }
+
+  /**
+   * Writes bytes.
+   *
+   * @param b The bytes.
+   * @param off The offset of the first byte.
+   * @param len The number of bytes.
+   */
+  @Override
+  public void write(final byte[] b, final int off, final int len) {
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+
+    ensureCapacity(length + len);
+    System.arraycopy(b, off, buffer, length, len);
+    length += len;
+  }
+
+  /**
+   * Hands the written bytes over to an {@link EncodedBytes}, which returns the array to the pool
+   * when it is closed. The stream cannot be written to afterwards.
+   *
+   * @return The {@link EncodedBytes}.
+   */
+  public EncodedBytes detach() {
+    final byte[] detached = checkOpen();
+    buffer = null;
+
+    return new EncodedBytes(pool, detached, length);
+  }
+
+  /**
+   * Returns the array to the pool, dropping the written bytes. Does nothing if the bytes were
+   * detached.
+   */
+  public void discard() {
+    if (buffer != null) {
+      pool.release(buffer);
+      buffer = null;
+    }
+  }
+
+  private void ensureCapacity(final int capacity) {
+    final byte[] current = checkOpen();
+
+    if (capacity < 0) {
+      throw new OutOfMemoryError("The encoded value exceeds the maximum array size");
+    }
+
+    if (capacity <= current.length) {
+      return;
+    }
+
+    // Move to the next size class that fits
+    final byte[] grown = pool.acquire(Math.max(capacity, current.length << 1));
+    System.arraycopy(current, 0, grown, 0, length);
+    pool.release(current);
+    buffer = grown;
+  }
+
+  private byte[] checkOpen() {
+    if (buffer == null) {
+      throw new IllegalStateException("The stream was detached or discarded");
+    }
+
+    return buffer;
+  }
+}
@@ -0,0 +1,49 @@
+package com.xellitix.commons.jackson.io;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+/**
+ * Pool of the parse and generation buffers of a {@link com.fasterxml.jackson.core.JsonFactory},
+ * shared by every thread.
+ *
+ * <p>Buffer types are the {@link BufferRecycler} {@code BYTE_*} and {@code CHAR_*} indexes.
+ * Implementations are called concurrently and must be thread safe.
+ *
+ * @author Grayson Kuhns
+ */
+public interface SharedBufferPool {
+
+  /**
+   * Acquires a byte buffer.
+   *
+   * @param type The {@link BufferRecycler} byte buffer index.
+   * @param minSize The minimum length.
+   * @return The buffer.
+   */
+  byte[] allocByteBuffer(int type, int minSize);
+
+  /**
+   * Returns a byte buffer.
+   *
+   * @param type The {@link BufferRecycler} byte buffer index.
+   * @param buffer The buffer.
+   */
+  void releaseByteBuffer(int type, byte[] buffer);
+
+  /**
+   * Acquires a char buffer.
+   *
+   * @param type The {@link BufferRecycler} char buffer index.
+   * @param minSize The minimum length.
+   * @return The buffer.
+   */
+  char[] allocCharBuffer(int type, int minSize);
+
+  /**
+   * Returns a char buffer.
+   *
+   * @param type The {@link BufferRecycler} char buffer index.
+   * @param buffer The buffer.
+   */
+  void releaseCharBuffer(int type, char[] buffer);
+}
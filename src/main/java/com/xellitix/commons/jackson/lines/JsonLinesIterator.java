@@ -0,0 +1,295 @@
+package com.xellitix.commons.jackson.lines;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily pulls the records of a JSON lines input.
+ *
+ * <p>Records are read on demand as the iterator advances. Failures to read the input are thrown
+ * as {@link UncheckedIOException}s; failures to read a record are too, unless the iterator skips
+ * failures, in which case they are counted. Instances are not thread safe and must be closed.
+ *
+ * @param <T> The record type.
+ * @author Grayson Kuhns
+ */
+public final class JsonLinesIterator<T> implements Iterator<T>, Closeable {
+
+  // Constants
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int INITIAL_LINE_SIZE = 8 * 1024;
+  private static final int END_OF_INPUT = -1;
+  private static final int LINE_TOO_LONG = -2;
+
+  // Properties
+  private final InputStream in;
+  private final ObjectReader reader;
+  private final boolean skipFailures;
+  private final int maxLineLength;
+
+  private final byte[] chunk = new byte[CHUNK_SIZE];
+  private int chunkPosition;
+  private int chunkLimit;
+  private byte[] line = new byte[INITIAL_LINE_SIZE];
+
+  private T next;
+  private boolean finished;
+  private long lineNumber;
+  private long recordCount;
+  private long failureCount;
+
+  /**
+   * Constructor.
+   *
+   * @param in The {@link InputStream}.
+   * @param reader The {@link ObjectReader} for the record type.
+   * @param skipFailures Whether records that cannot be read are skipped.
+   * @param maxLineLength The maximum line length in bytes.
+   */
+  JsonLinesIterator(
+      final InputStream in,
+      final ObjectReader reader,
+      final boolean skipFailures,
+      final int maxLineLength) {
+
+    this.in = in;
+    this.reader = reader;
+    this.skipFailures = skipFailures;
+    this.maxLineLength = maxLineLength;
+  }
+
+  /**
+   * Checks whether another record is available, reading it if needed.
+   *
+   * @return True if another record is available.
+   */
+  @Override
+  public boolean hasNext() {
+    if (next != null) {
+      return true;
+    }
+
+    if (finished) {
+      return false;
+    }
+
+    try {
+      return advance();
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read line " + lineNumber, ex);
+    }
+  }
+
+  /**
+   * Gets the next record.
+   *
+   * @return The record.
+   */
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    final T record = next;
+    next = null;
+    return record;
+  }
+
+  /**
+   * Creates a sequential {@link Stream} over the remaining records. Closing the stream closes the
+   * iterator.
+   *
+   * @return The {@link Stream}.
+   */
+  public Stream<T> stream() {
+    final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(
+        this,
+        Spliterator.ORDERED | Spliterator.NONNULL);
+
+    return StreamSupport.stream(spliterator, false).onClose(() -> {
+      try {
+        close();
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    });
+  }
+
+  /**
+   * Gets the number of lines read so far.
+   *
+   * @return The line number of the last line read.
+   */
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * Gets the number of records read so far.
+   *
+   * @return The number of records.
+   */
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Gets the number of records skipped so far because they could not be read.
+   *
+   * @return The number of failures.
+   */
+  public long getFailureCount() {
+    return failureCount;
+  }
+
+  /**
+   * Closes the input.
+   *
+   * @throws IOException If the input cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    finished = true;
+    next = null;
+    in.close();
+  }
+
+  private boolean advance() throws IOException {
+    while (true) {
+      final int length = readLine();
+
+      if (length == END_OF_INPUT) {
+        finished = true;
+        return false;
+      }
+
+      lineNumber++;
+
+      if (length == LINE_TOO_LONG) {
+        fail(new IOException("Line " + lineNumber + " exceeds " + maxLineLength + " bytes"));
+        continue;
+      }
+
+      if (isBlank(length)) {
+        continue;
+      }
+
+      try {
+        next = reader.readValue(line, 0, length);
+      } catch (IOException ex) {
+        fail(ex);
+        continue;
+      }
+
+      if (next != null) {
+        recordCount++;
+        return true;
+      }
+    }
+  }
+
+  private void fail(final IOException ex) throws IOException {
+    if (!skipFailures) {
+      throw ex;
+    }
+
+    failureCount++;
+  }
+
+  /**
+   * Copies the next line into the line buffer.
+   *
+   * @return The line length, {@link #END_OF_INPUT} or {@link #LINE_TOO_LONG}.
+   */
+  private int readLine() throws IOException {
+    int length = 0;
+    boolean tooLong = false;
+    boolean read = false;
+
+    while (true) {
+      if (chunkPosition == chunkLimit && !fill()) {
+        if (!read) {
+          return END_OF_INPUT;
+        }
+        break;
+      }
+
+      read = true;
+
+      // Find the end of the line within the buffered chunk
+      int end = chunkPosition;
+      while (end < chunkLimit && chunk[end] != '\n') {
+        end++;
+      }
+
+      final int count = end - chunkPosition;
+      if (!tooLong) {
+        if (length + count > maxLineLength) {
+          tooLong = true;
+        } else {
+          ensureLineCapacity(length + count);
+          System.arraycopy(chunk, chunkPosition, line, length, count);
+          length += count;
+        }
+      }
+
+      if (end < chunkLimit) {
+        chunkPosition = end + 1;
+        break;
+      }
+
+      chunkPosition = chunkLimit;
+    }
+
+    if (tooLong) {
+      return LINE_TOO_LONG;
+    }
+
+    // Support CRLF line endings
+    if (length > 0 && line[length - 1] == '\r') {
+      length--;
+    }
+
+    return length;
+  }
+
+  private boolean fill() throws IOException {
+    final int count = in.read(chunk, 0, chunk.length);
+
+    if (count <= 0) {
+      return false;
+    }
+
+    chunkPosition = 0;
+    chunkLimit = count;
+    return true;
+  }
+
+  private void ensureLineCapacity(final int capacity) {
+    if (capacity > line.length) {
+      line = Arrays.copyOf(line, Math.min(Math.max(capacity, line.length * 2), maxLineLength));
+    }
+  }
+
+  private boolean isBlank(final int length) {
+    for (int i = 0; i < length; i++) {
+      final byte b = line[i];
+      if (b != ' ' && b != '\t' && b != '\r') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,105 @@
+package com.xellitix.commons.jackson.lines;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads newline-delimited JSON (JSON lines) documents one record at a time.
+ *
+ * <p>Input is split into lines on raw bytes and each line is read on its own, so memory use is
+ * bounded by the longest line rather than by the size of the input, and a malformed line never
+ * affects the lines that follow it. Blank lines and JSON null records are skipped.
+ *
+ * <p>Instances are immutable and thread safe; the configuration methods return new instances.
+ *
+ * @param <T> The record type.
+ * @author Grayson Kuhns
+ */
+public final class JsonLinesReader<T> {
+
+  // Constants
+  public static final int DEFAULT_MAX_LINE_LENGTH = 16 * 1024 * 1024;
+
+  // Properties
+  private final ObjectReader reader;
+  private final boolean skipFailures;
+  private final int maxLineLength;
+
+  /**
+   * Constructor.
+   *
+   * @param reader The {@link ObjectReader} for the record type.
+   */
+  public JsonLinesReader(final ObjectReader reader) {
+    this(reader, false, DEFAULT_MAX_LINE_LENGTH);
+  }
+
+  private JsonLinesReader(
+      final ObjectReader reader,
+      final boolean skipFailures,
+      final int maxLineLength) {
+
+    this.reader = reader;
+    this.skipFailures = skipFailures;
+    this.maxLineLength = maxLineLength;
+  }
+
+  /**
+   * Creates a reader that skips and counts the records that cannot be read instead of failing.
+   *
+   * @return The {@link JsonLinesReader}.
+   */
+  public JsonLinesReader<T> skippingFailures() {
+    return new JsonLinesReader<>(reader, true, maxLineLength);
+  }
+
+  /**
+   * Creates a reader with a different maximum line length. Longer lines are record failures.
+   *
+   * @param maxLineLength The maximum line length in bytes.
+   * @return The {@link JsonLinesReader}.
+   */
+  public JsonLinesReader<T> withMaxLineLength(final int maxLineLength) {
+    if (maxLineLength < 1) {
+      throw new IllegalArgumentException("The maximum line length must be positive");
+    }
+
+    return new JsonLinesReader<>(reader, skipFailures, maxLineLength);
+  }
+
+  /**
+   * Reads the records of an {@link InputStream}. Closing the iterator closes the stream.
+   *
+   * @param in The {@link InputStream}.
+   * @return The {@link JsonLinesIterator}.
+   */
+  public JsonLinesIterator<T> read(final InputStream in) {
+    return new JsonLinesIterator<>(in, reader, skipFailures, maxLineLength);
+  }
+
+  /**
+   * Reads the records of a {@link ReadableByteChannel}. Closing the iterator closes the channel.
+   *
+   * @param channel The {@link ReadableByteChannel}.
+   * @return The {@link JsonLinesIterator}.
+   */
+  public JsonLinesIterator<T> read(final ReadableByteChannel channel) {
+    return read(Channels.newInputStream(channel));
+  }
+
+  /**
+   * Reads the records of a file.
+   *
+   * @param path The file {@link Path}.
+   * @return The {@link JsonLinesIterator}.
+   * @throws IOException If the file cannot be opened.
+   */
+  public JsonLinesIterator<T> read(final Path path) throws IOException {
+    return read(Files.newInputStream(path));
+  }
+}
@@ -0,0 +1,161 @@
+package com.xellitix.commons.jackson.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of the measurements of a deserialized type.
+ *
+ * <p>Latencies are kept in a histogram of power-of-two buckets: bucket {@code i} counts the calls
+ * that took less than {@code 2^i} and at least {@code 2^(i-1)} nanoseconds, with bucket 0 counting
+ * calls measured at zero. Percentiles are therefore reported as the upper bound of their bucket,
+ * within a factor of two of the actual value.
+ *
+ * @author Grayson Kuhns
+ */
+public final class DeserializerMetrics {
+
+  // Constants
+  public static final int BUCKETS = 64;
+
+  // Properties
+  private final Class<?> type;
+  private final long calls;
+  private final long failures;
+  private final long totalNanos;
+  private final long[] buckets;
+
+  /**
+   * Constructor.
+   *
+   * @param type The deserialized type.
+   * @param calls The number of calls.
+   * @param failures The number of calls that threw an exception.
+   * @param totalNanos The total duration of the calls in nanoseconds.
+   * @param buckets The latency histogram bucket counts.
+   */
+  public DeserializerMetrics(
+      final Class<?> type,
+      final long calls,
+      final long failures,
+      final long totalNanos,
+      final long[] buckets) {
+
+    if (buckets.length != BUCKETS) {
+      throw new IllegalArgumentException("The histogram must have " + BUCKETS + " buckets");
+    }
+
+    this.type = type;
+    this.calls = calls;
+    this.failures = failures;
+    this.totalNanos = totalNanos;
+    this.buckets = buckets.clone();
+  }
+
+  /**
+   * Gets the histogram bucket of a duration.
+   *
+   * @param nanos The duration in nanoseconds.
+   * @return The bucket index.
+   */
+  public static int bucketOf(final long nanos) {
+    return nanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+  }
+
+  /**
+   * Gets the deserialized type.
+   *
+   * @return The type.
+   */
+  public Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * Gets the number of calls.
+   *
+   * @return The number of calls.
+   */
+  public long getCalls() {
+    return calls;
+  }
+
+  /**
+   * Gets the number of calls that threw an exception.
+   *
+   * @return The number of failures.
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  /**
+   * Gets the total duration of the calls.
+   *
+   * @return The total duration in nanoseconds.
+   */
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  /**
+   * Gets the mean duration of a call.
+   *
+   * @return The mean duration in nanoseconds, or 0 if no call was made.
+   */
+  public double getMeanNanos() {
+    return calls == 0 ? 0.0 : (double) totalNanos / calls;
+  }
+
+  /**
+   * Gets the latency histogram bucket counts.
+   *
+   * @return A copy of the bucket counts.
+   */
+  public long[] getBuckets() {
+    return buckets.clone();
+  }
+
+  /**
+   * Gets an upper bound of a latency percentile.
+   *
+   * @param percentile The percentile, between 0 and 100.
+   * @return The upper bound in nanoseconds, or 0 if no call was made.
+   */
+  public long getPercentileNanos(final double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("The percentile must be between 0 and 100: " + percentile);
+    }
+
+    long recorded = 0;
+    for (final long count : buckets) {
+      recorded += count;
+    }
+
+    if (recorded == 0) {
+      return 0;
+    }
+
+    // Find the bucket holding the ranked call
+    final long rank = Math.max(1, (long) Math.ceil(recorded * percentile / 100));
+    long seen = 0;
+
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += buckets[i];
+
+      if (seen >= rank) {
+        return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+      }
+    }
+
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public String toString() {
+    return "DeserializerMetrics{type=" + type.getName()
+        + ", calls=" + calls
+        + ", failures=" + failures
+        + ", meanNanos=" + getMeanNanos()
+        + ", buckets=" + Arrays.toString(buckets) + "}";
+  }
+}
@@ -0,0 +1,20 @@
+package com.xellitix.commons.jackson.metrics;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+/**
+ * Receives the measurements of instrumented {@link JsonDeserializer}s.
+ *
+ * @author Grayson Kuhns
+ */
+public interface DeserializerMetricsSink {
+
+  /**
+   * Gets the {@link DeserializerRecorder} for a deserialized type. Called once for each
+   * registered {@link JsonDeserializer} when a mapper is created.
+   *
+   * @param type The type handled by the {@link JsonDeserializer}.
+   * @return The {@link DeserializerRecorder}.
+   */
+  DeserializerRecorder recorder(Class<?> type);
+}
@@ -0,0 +1,24 @@
+package com.xellitix.commons.jackson.metrics;
+
+/**
+ * Records the calls to a single instrumented deserializer. Called concurrently from every thread
+ * that deserializes the type, so implementations should avoid shared locks.
+ *
+ * @author Grayson Kuhns
+ */
+public interface DeserializerRecorder {
+
+  /**
+   * Records a call that returned a value.
+   *
+   * @param nanos The duration of the call in nanoseconds.
+   */
+  void recordSuccess(long nanos);
+
+  /**
+   * Records a call that threw an exception.
+   *
+   * @param nanos The duration of the call in nanoseconds.
+   */
+  void recordFailure(long nanos);
+}
@@ -0,0 +1,131 @@
+package com.xellitix.commons.jackson.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DeserializerMetricsSink} that keeps the measurements of every type in memory.
+ *
+ * <p>Every counter is a {@link LongAdder}, so concurrent calls update separate cells instead of
+ * contending on a shared one. Snapshots sum the cells and may miss calls that are recorded while
+ * they are taken.
+ *
+ * @author Grayson Kuhns
+ */
+public class InMemoryDeserializerMetricsSink implements DeserializerMetricsSink {
+
+  // Properties
+  private final ConcurrentMap<Class<?>, Recorder> recorders = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the {@link DeserializerRecorder} for a deserialized type.
+   *
+   * @param type The type handled by the deserializer.
+   * @return The {@link DeserializerRecorder}.
+   */
+  @Override
+  public DeserializerRecorder recorder(final Class<?> type) {
+    return recorders.computeIfAbsent(type, Recorder::new);
+  }
+
+  /**
+   * Gets a snapshot of the measurements of a type.
+   *
+   * @param type The deserialized type.
+   * @return The {@link DeserializerMetrics}, or null if the type is not instrumented.
+   */
+  public DeserializerMetrics getMetrics(final Class<?> type) {
+    final Recorder recorder = recorders.get(type);
+    return recorder == null ? null : recorder.snapshot();
+  }
+
+  /**
+   * Gets a snapshot of the measurements of every type.
+   *
+   * @return The {@link DeserializerMetrics} by type.
+   */
+  public Map<Class<?>, DeserializerMetrics> getMetrics() {
+    final Map<Class<?>, DeserializerMetrics> metrics = new LinkedHashMap<>();
+    recorders.forEach((type, recorder) -> metrics.put(type, recorder.snapshot()));
+
+    return Collections.unmodifiableMap(metrics);
+  }
+
+  /**
+   * Clears the measurements of every type.
+   */
+  public void reset() {
+    recorders.values().forEach(Recorder::reset);
+  }
+
+  /**
+   * {@link DeserializerRecorder} of a single type.
+   */
+  private static final class Recorder implements DeserializerRecorder {
+
+    // Properties
+    private final Class<?> type;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[DeserializerMetrics.BUCKETS];
+
+    /**
+     * Constructor.
+     *
+     * @param type The deserialized type.
+     */
+    private Recorder(final Class<?> type) {
+      this.type = type;
+
+      for (int i = 0; i < buckets.length; i++) {
+        buckets[i] = new LongAdder();
+      }
+    }
+
+    @Override
+    public void recordSuccess(final long nanos) {
+      record(nanos);
+    }
+
+    @Override
+    public void recordFailure(final long nanos) {
+      failures.increment();
+      record(nanos);
+    }
+
+    private void record(final long nanos) {
+      calls.increment();
+      totalNanos.add(Math.max(0, nanos));
+      buckets[DeserializerMetrics.bucketOf(nanos)].increment();
+    }
+
+    private DeserializerMetrics snapshot() {
+      final long[] counts = new long[buckets.length];
+      for (int i = 0; i < buckets.length; i++) {
+        counts[i] = buckets[i].sum();
+      }
+
+      return new DeserializerMetrics(
+          type,
+          calls.sum(),
+          failures.sum(),
+          totalNanos.sum(),
+          counts);
+    }
+
+    private void reset() {
+      calls.reset();
+      failures.reset();
+      totalNanos.reset();
+
+      for (final LongAdder bucket : buckets) {
+        bucket.reset();
+      }
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.xellitix.commons.jackson.metrics;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import java.io.IOException;
+
+/**
+ * {@link JsonDeserializer} that times every call to the wrapped deserializer.
+ *
+ * <p>Durations include any nested values the wrapped deserializer reads through the mapper.
+ * Resolution and contextualization are delegated, and a contextualized delegate keeps recording
+ * to the same {@link DeserializerRecorder}.
+ *
+ * @author Grayson Kuhns
+ */
+public final class InstrumentedDeserializer extends DelegatingDeserializer {
+
+  // Constants
+  private static final long serialVersionUID = 1L;
+
+  // Dependencies
+  private final transient DeserializerRecorder recorder;
+
+  /**
+   * Constructor.
+   *
+   * @param delegate The wrapped {@link JsonDeserializer}.
+   * @param recorder The {@link DeserializerRecorder}.
+   */
+  public InstrumentedDeserializer(
+      final JsonDeserializer<?> delegate,
+      final DeserializerRecorder recorder) {
+
+    super(delegate);
+    this.recorder = recorder;
+  }
+
+  /**
+   * Deserializes a value.
+   *
+   * @param parser The {@link JsonParser}.
+   * @param context The {@link DeserializationContext}.
+   * @return The value.
+   * @throws IOException If the value cannot be deserialized.
+   */
+  @Override
+  public Object deserialize(
+      final JsonParser parser,
+      final DeserializationContext context)
+      throws IOException {
+
+    final long start = System.nanoTime();
+    final Object value;
+
+    try {
+      value = _delegatee.deserialize(parser, context);
+    } catch (IOException | RuntimeException ex) {
+      recorder.recordFailure(System.nanoTime() - start);
+      throw ex;
+    }
+
+    recorder.recordSuccess(System.nanoTime() - start);
+    return value;
+  }
+
+  /**
+   * Deserializes into an existing value.
+   *
+   * @param parser The {@link JsonParser}.
+   * @param context The {@link DeserializationContext}.
+   * @param intoValue The value to update.
+   * @return The value.
+   * @throws IOException If the value cannot be deserialized.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Object deserialize(
+      final JsonParser parser,
+      final DeserializationContext context,
+      final Object intoValue)
+      throws IOException {
+
+    final long start = System.nanoTime();
+    final Object value;
+
+    try {
+      value = ((JsonDeserializer<Object>) _delegatee).deserialize(parser, context, intoValue);
+    } catch (IOException | RuntimeException ex) {
+      recorder.recordFailure(System.nanoTime() - start);
+      throw ex;
+    }
+
+    recorder.recordSuccess(System.nanoTime() - start);
+    return value;
+  }
+
+  /**
+   * Deserializes a polymorphic value.
+   *
+   * @param parser The {@link JsonParser}.
+   * @param context The {@link DeserializationContext}.
+   * @param typeDeserializer The {@link TypeDeserializer}.
+   * @return The value.
+   * @throws IOException If the value cannot be deserialized.
+   */
+  @Override
+  public Object deserializeWithType(
+      final JsonParser parser,
+      final DeserializationContext context,
+      final TypeDeserializer typeDeserializer)
+      throws IOException {
+
+    final long start = System.nanoTime();
+    final Object value;
+
+    try {
+      value = _delegatee.deserializeWithType(parser, context, typeDeserializer);
+    } catch (IOException | RuntimeException ex) {
+      recorder.recordFailure(System.nanoTime() - start);
+      throw ex;
+    }
+
+    recorder.recordSuccess(System.nanoTime() - start);
+    return value;
+  }
+
+  /**
+   * Wraps a resolved or contextualized delegate.
+   *
+   * @param newDelegatee The new delegate.
+   * @return The {@link InstrumentedDeserializer}.
+   */
+  @Override
+  protected JsonDeserializer<?> newDelegatingInstance(final JsonDeserializer<?> newDelegatee) {
+    return new InstrumentedDeserializer(newDelegatee, recorder);
+  }
+}
@@ -1,34 +1,125 @@
 package com.xellitix.commons.jackson.objectmapper;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import com.google.inject.Singleton;
+import com.xellitix.commons.jackson.cache.DecodeCache;
+import com.xellitix.commons.jackson.io.EncodeBufferPool;
+import com.xellitix.commons.jackson.io.EncodedBytes;
+import com.xellitix.commons.jackson.io.PooledBufferJsonFactory;
+import com.xellitix.commons.jackson.io.PooledOutputStream;
+import com.xellitix.commons.jackson.io.SharedBufferPool;
+import com.xellitix.commons.jackson.metrics.DeserializerMetricsSink;
+import com.xellitix.commons.jackson.metrics.InstrumentedDeserializer;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Default {@link ObjectMapperProvider} implementation.
  *
+ * <p>Registers the {@link JsonDeserializer}s bound into the {@code Set<JsonDeserializer>}
+ * multibinder, and the ones bound by handled type into the
+ * {@code Map<Class, JsonDeserializer>} map binder. The latter, with their dependencies, are only
+ * created once their type is first deserialized.
+ *
  * @author Grayson Kuhns
  */
 @Singleton
 public class AutoRegistrationObjectMapperProvider implements ObjectMapperProvider {
 
   // Properties
-  private ObjectMapper mapper;
+  private volatile ObjectMapper mapper;
+
+  private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<FeatureKey, ObjectReader> featureReaders = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<FeatureKey, ObjectWriter> featureWriters = new ConcurrentHashMap<>();
 
   // Dependencies
   private final Set<JsonDeserializer> deserializers;
+  private final Map<Class, Provider<JsonDeserializer>> deserializerProviders;
+  private final Set<JsonSerializer> serializers;
+  private final JsonFactory factory;
+  private final DeserializerMetricsSink metricsSink;
+  private final EncodeBufferPool encodeBufferPool;
+  private final DecodeCache decodeCache;
 
   /**
    * Constructor.
    *
    * @param deserializers The {@link JsonDeserializer}s to register.
+   * @param deserializerProviders The {@link JsonDeserializer} {@link Provider}s by handled type.
+   * @param serializers The {@link JsonSerializer}s to register.
+   * @param metricsSink The {@link DeserializerMetricsSink}, if the deserializers are instrumented.
+   * @param encodeBufferPool The {@link EncodeBufferPool}.
+   * @param bufferPool The {@link SharedBufferPool}, if parse buffers are shared across threads.
+   * @param decodeCache The {@link DecodeCache}, if decoded values are cached.
    */
   @Inject
-  AutoRegistrationObjectMapperProvider(final Set<JsonDeserializer> deserializers) {
+  AutoRegistrationObjectMapperProvider(
+      final Set<JsonDeserializer> deserializers,
+      final Map<Class, Provider<JsonDeserializer>> deserializerProviders,
+      final Set<JsonSerializer> serializers,
+      final Optional<DeserializerMetricsSink> metricsSink,
+      final EncodeBufferPool encodeBufferPool,
+      final Optional<SharedBufferPool> bufferPool,
+      final Optional<DecodeCache> decodeCache) {
+
+    this(
+        deserializers,
+        deserializerProviders,
+        serializers,
+        bufferPool.map(PooledBufferJsonFactory::new).orElse(null),
+        metricsSink.orElse(null),
+        encodeBufferPool,
+        decodeCache.orElse(null));
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param deserializers The {@link JsonDeserializer}s to register.
+   * @param deserializerProviders The {@link JsonDeserializer} {@link Provider}s by handled type.
+   * @param serializers The {@link JsonSerializer}s to register.
+   * @param factory The {@link JsonFactory} of the data format, or null for JSON.
+   * @param metricsSink The {@link DeserializerMetricsSink}, or null to register the deserializers
+   *     as they are.
+   * @param encodeBufferPool The {@link EncodeBufferPool}.
+   * @param decodeCache The {@link DecodeCache}, or null to decode every time.
+   */
+  AutoRegistrationObjectMapperProvider(
+      final Set<JsonDeserializer> deserializers,
+      final Map<Class, Provider<JsonDeserializer>> deserializerProviders,
+      final Set<JsonSerializer> serializers,
+      final JsonFactory factory,
+      final DeserializerMetricsSink metricsSink,
+      final EncodeBufferPool encodeBufferPool,
+      final DecodeCache decodeCache) {
+
     this.deserializers = deserializers;
+    this.deserializerProviders = deserializerProviders;
+    this.serializers = serializers;
+    this.factory = factory;
+    this.metricsSink = metricsSink;
+    this.encodeBufferPool = encodeBufferPool;
+    this.decodeCache = decodeCache;
   }
 
   /**
@@ -38,24 +129,279 @@ public class AutoRegistrationObjectMapperProvider implements ObjectMapperProvide
    */
   @Override
   public ObjectMapper get() {
+    ObjectMapper result = mapper;
+
     // ObjectMapper lazy initialization
-    if (mapper == null) {
-      mapper = create();
+    if (result == null) {
+      synchronized (this) {
+        result = mapper;
+
+        if (result == null) {
+          result = create();
+          mapper = result;
+        }
+      }
     }
 
-    return mapper;
+    return result;
+  }
+
+  /**
+   * Gets a cached {@link ObjectReader} for a type.
+   *
+   * @param type The {@link JavaType} to read.
+   * @return The {@link ObjectReader}.
+   */
+  @Override
+  public ObjectReader getReader(final JavaType type) {
+    final ObjectReader reader = readers.get(type);
+
+    if (reader != null) {
+      return reader;
+    }
+
+    return readers.computeIfAbsent(type, key -> get().readerFor(key));
+  }
+
+  /**
+   * Gets a cached {@link ObjectReader} for a type and feature set.
+   *
+   * @param type The {@link JavaType} to read.
+   * @param enabled The {@link DeserializationFeature}s to enable.
+   * @param disabled The {@link DeserializationFeature}s to disable.
+   * @return The {@link ObjectReader}.
+   */
+  @Override
+  public ObjectReader getReader(
+      final JavaType type,
+      final Set<DeserializationFeature> enabled,
+      final Set<DeserializationFeature> disabled) {
+
+    final FeatureKey featureKey = new FeatureKey(type, enabled, disabled);
+    final ObjectReader reader = featureReaders.get(featureKey);
+
+    if (reader != null) {
+      return reader;
+    }
+
+    return featureReaders.computeIfAbsent(featureKey, key -> {
+      ObjectReader created = getReader(type);
+
+      for (final DeserializationFeature feature : enabled) {
+        created = created.with(feature);
+      }
+
+      for (final DeserializationFeature feature : disabled) {
+        created = created.without(feature);
+      }
+
+      return created;
+    });
+  }
+
+  /**
+   * Gets a cached {@link ObjectWriter} for a type.
+   *
+   * @param type The type to write.
+   * @return The {@link ObjectWriter}.
+   */
+  @Override
+  public ObjectWriter getWriter(final Class<?> type) {
+    final ObjectWriter writer = writers.get(type);
+
+    if (writer != null) {
+      return writer;
+    }
+
+    return writers.computeIfAbsent(type, key -> get().writerFor(key));
+  }
+
+  /**
+   * Gets a cached {@link ObjectWriter} for a type and feature set.
+   *
+   * @param type The type to write.
+   * @param enabled The {@link SerializationFeature}s to enable.
+   * @param disabled The {@link SerializationFeature}s to disable.
+   * @return The {@link ObjectWriter}.
+   */
+  @Override
+  public ObjectWriter getWriter(
+      final Class<?> type,
+      final Set<SerializationFeature> enabled,
+      final Set<SerializationFeature> disabled) {
+
+    final FeatureKey featureKey = new FeatureKey(type, enabled, disabled);
+    final ObjectWriter writer = featureWriters.get(featureKey);
+
+    if (writer != null) {
+      return writer;
+    }
+
+    return featureWriters.computeIfAbsent(featureKey, key -> {
+      ObjectWriter created = getWriter(type);
+
+      for (final SerializationFeature feature : enabled) {
+        created = created.with(feature);
+      }
+
+      for (final SerializationFeature feature : disabled) {
+        created = created.without(feature);
+      }
+
+      return created;
+    });
+  }
+
+  /**
+   * Encodes a value into a recycled buffer.
+   *
+   * @param value The value.
+   * @return The {@link EncodedBytes}, which must be closed to recycle the buffer.
+   * @throws IOException If the value cannot be encoded.
+   */
+  @Override
+  public EncodedBytes encode(final Object value) throws IOException {
+    final ObjectWriter writer = value == null ? get().writer() : getWriter(value.getClass());
+    final PooledOutputStream out = encodeBufferPool.openStream();
+
+    try {
+      writer.writeValue(out, value);
+      return out.detach();
+    } catch (IOException | RuntimeException ex) {
+      out.discard();
+      throw ex;
+    }
+  }
+
+  /**
+   * Reads a value, reusing the value previously read from identical bytes if the mapper has a
+   * {@link DecodeCache}.
+   *
+   * @param src The bytes.
+   * @param type The {@link JavaType} to read.
+   * @param <T> The type to read.
+   * @return The value.
+   * @throws IOException If the bytes cannot be read.
+   */
+  @Override
+  public <T> T readCachedValue(final byte[] src, final JavaType type) throws IOException {
+    final ObjectReader reader = getReader(type);
+
+    if (decodeCache == null) {
+      return reader.readValue(src);
+    }
+
+    return decodeCache.get(type, src, content -> reader.readValue(content));
+  }
+
+  /**
+   * Gets the {@link ObjectReader} cached for a type, without creating it.
+   *
+   * @param type The type to read.
+   * @return The {@link ObjectReader} or null if none is cached.
+   */
+  ObjectReader getCachedReader(final Class<?> type) {
+    return readers.get(get().getTypeFactory().constructType(type));
+  }
+
+  /**
+   * Creates the {@link ObjectMapper} and caches a reader, with its root deserializer resolved,
+   * for every registered type so that the first read of each type does not pay for deserializer
+   * construction. The deserializers bound by handled type are created as well.
+   */
+  void initialize() {
+    // Creating a reader resolves its root deserializer, the cached reader keeps it
+    for (final JsonDeserializer<?> des : deserializers) {
+      if (des.handledType() != null) {
+        getReader(des.handledType());
+      }
+    }
+
+    for (final Class<?> type : deserializerProviders.keySet()) {
+      getReader(type);
+    }
   }
 
   private ObjectMapper create() {
-    final ObjectMapper mapper = new ObjectMapper();
+    final ObjectMapper mapper = new ObjectMapper(factory);
     final SimpleModule module = new SimpleModule();
 
+    // Look the lazily created deserializers up by type
+    module.setDeserializers(new LazyDeserializers(deserializerProviders, this::instrument));
+
     // Register the deserializers
     deserializers.forEach(des ->
-        module.addDeserializer(des.handledType(), des));
+        module.addDeserializer(des.handledType(), instrument(des)));
+
+    // Register the serializers
+    serializers.forEach(ser ->
+        module.addSerializer(ser.handledType(), ser));
 
     // Register the module
     mapper.registerModule(module);
     return mapper;
   }
+
+  /**
+   * Wraps a {@link JsonDeserializer} with an {@link InstrumentedDeserializer} when a
+   * {@link DeserializerMetricsSink} is configured.
+   *
+   * @param deserializer The {@link JsonDeserializer}.
+   * @return The {@link JsonDeserializer} to register.
+   */
+  private JsonDeserializer instrument(final JsonDeserializer deserializer) {
+    if (metricsSink == null) {
+      return deserializer;
+    }
+
+    return new InstrumentedDeserializer(
+        deserializer,
+        metricsSink.recorder(deserializer.handledType()));
+  }
+
+  /**
+   * Reader/writer cache key combining a type with the features enabled and disabled on top of the
+   * mapper defaults.
+   */
+  private static final class FeatureKey {
+
+    private final Object type;
+    private final Set<?> enabled;
+    private final Set<?> disabled;
+
+    private <E extends Enum<E>> FeatureKey(
+        final Object type,
+        final Set<E> enabled,
+        final Set<E> disabled) {
+
+      this.type = type;
+      this.enabled = copy(enabled);
+      this.disabled = copy(disabled);
+    }
+
+    private static <E extends Enum<E>> Set<E> copy(final Set<E> features) {
+      return features.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(features);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      if (!(obj instanceof FeatureKey)) {
+        return false;
+      }
+
+      final FeatureKey other = (FeatureKey) obj;
+      return type.equals(other.type)
+          && enabled.equals(other.enabled)
+          && disabled.equals(other.disabled);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, enabled, disabled);
+    }
+  }
 }
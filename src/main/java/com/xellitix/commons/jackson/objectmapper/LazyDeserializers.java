@@ -0,0 +1,109 @@
+package com.xellitix.commons.jackson.objectmapper;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.google.inject.Provider;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link SimpleDeserializers} that also look deserializers up by handled type, creating each of
+ * them the first time its type is requested.
+ *
+ * <p>Deserializers registered as instances take precedence over the lazily created ones.
+ *
+ * @author Grayson Kuhns
+ */
+final class LazyDeserializers extends SimpleDeserializers {
+
+  // Constants
+  private static final long serialVersionUID = 1L;
+
+  // Properties
+  private final transient ConcurrentMap<Class<?>, JsonDeserializer<?>> created =
+      new ConcurrentHashMap<>();
+
+  // Dependencies
+  private final transient Map<Class, Provider<JsonDeserializer>> providers;
+  private final transient UnaryOperator<JsonDeserializer> decorator;
+
+  /**
+   * Constructor.
+   *
+   * @param providers The {@link JsonDeserializer} {@link Provider}s by handled type.
+   * @param decorator Decorates each {@link JsonDeserializer} once it is created.
+   */
+  LazyDeserializers(
+      final Map<Class, Provider<JsonDeserializer>> providers,
+      final UnaryOperator<JsonDeserializer> decorator) {
+
+    this.providers = providers;
+    this.decorator = decorator;
+  }
+
+  /**
+   * Finds the {@link JsonDeserializer} of a bean type.
+   *
+   * @param type The {@link JavaType}.
+   * @param config The {@link DeserializationConfig}.
+   * @param beanDesc The {@link BeanDescription}.
+   * @return The {@link JsonDeserializer} or null if none is registered for the type.
+   * @throws JsonMappingException If the {@link JsonDeserializer} cannot be found.
+   */
+  @Override
+  public JsonDeserializer<?> findBeanDeserializer(
+      final JavaType type,
+      final DeserializationConfig config,
+      final BeanDescription beanDesc)
+      throws JsonMappingException {
+
+    final JsonDeserializer<?> deserializer = super.findBeanDeserializer(type, config, beanDesc);
+    return deserializer != null ? deserializer : find(type.getRawClass());
+  }
+
+  /**
+   * Finds the {@link JsonDeserializer} of an enum type.
+   *
+   * @param type The enum type.
+   * @param config The {@link DeserializationConfig}.
+   * @param beanDesc The {@link BeanDescription}.
+   * @return The {@link JsonDeserializer} or null if none is registered for the type.
+   * @throws JsonMappingException If the {@link JsonDeserializer} cannot be found.
+   */
+  @Override
+  public JsonDeserializer<?> findEnumDeserializer(
+      final Class<?> type,
+      final DeserializationConfig config,
+      final BeanDescription beanDesc)
+      throws JsonMappingException {
+
+    final JsonDeserializer<?> deserializer = super.findEnumDeserializer(type, config, beanDesc);
+    return deserializer != null ? deserializer : find(type);
+  }
+
+  private JsonDeserializer<?> find(final Class<?> type) {
+    final JsonDeserializer<?> existing = created.get(type);
+
+    if (existing != null) {
+      return existing;
+    }
+
+    final Provider<JsonDeserializer> provider = providers.get(type);
+
+    if (provider == null) {
+      return null;
+    }
+
+    // Not created inside computeIfAbsent, creating a deserializer may request other types
+    final JsonDeserializer<?> deserializer = decorator.apply(provider.get());
+    final JsonDeserializer<?> raced = created.putIfAbsent(type, deserializer);
+
+    return raced != null ? raced : deserializer;
+  }
+}
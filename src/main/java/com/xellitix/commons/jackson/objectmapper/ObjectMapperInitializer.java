@@ -0,0 +1,22 @@
+package com.xellitix.commons.jackson.objectmapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Inject;
+
+/**
+ * Eagerly creates and warms the {@link ObjectMapper} when bound as an eager singleton.
+ *
+ * @author Grayson Kuhns
+ */
+class ObjectMapperInitializer {
+
+  /**
+   * Constructor.
+   *
+   * @param objectMapperProvider The {@link AutoRegistrationObjectMapperProvider}.
+   */
+  @Inject
+  ObjectMapperInitializer(final AutoRegistrationObjectMapperProvider objectMapperProvider) {
+    objectMapperProvider.initialize();
+  }
+}
@@ -1,15 +1,179 @@
 package com.xellitix.commons.jackson.objectmapper;
 
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import com.google.inject.multibindings.MapBinder;
+import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.OptionalBinder;
+import com.xellitix.commons.jackson.cache.DecodeCache;
+import com.xellitix.commons.jackson.generation.DeserializerRegistration;
+import com.xellitix.commons.jackson.io.BoundedSharedBufferPool;
+import com.xellitix.commons.jackson.io.EncodeBufferPool;
+import com.xellitix.commons.jackson.io.SharedBufferPool;
+import com.xellitix.commons.jackson.metrics.DeserializerMetricsSink;
+import com.xellitix.commons.jackson.metrics.InMemoryDeserializerMetricsSink;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
 
 /**
  * {@link ObjectMapper} Google Guice module.
  *
+ * <p>Besides the JSON mapper, binds {@link Smile} and {@link Cbor} qualified mappers and
+ * providers for binary service-to-service traffic, and {@link Yaml} qualified ones for
+ * configuration files. Every mapper registers the same {@link JsonDeserializer}s, instrumented
+ * if configured, and {@link JsonSerializer}s, and is only created when first used.
+ *
+ * <p>Deserializers are registered either through the {@code Set<JsonDeserializer>} multibinder,
+ * which creates all of them with the injector, or by handled type through the
+ * {@code Map<Class, JsonDeserializer>} map binder, which creates each of them the first time its
+ * type is deserialized:
+ *
+ * <pre>{@code
+ * MapBinder.newMapBinder(binder(), Class.class, JsonDeserializer.class)
+ *     .addBinding(Person.class)
+ *     .to(PersonDeserializer.class);
+ * }</pre>
+ *
  * @author Grayson Kuhns
  */
 public class ObjectMapperModule extends AbstractModule {
 
+  // Constants
+  private static final int DEFAULT_ENCODE_BUFFERS = 16;
+
+  // Properties
+  private boolean eager;
+  private boolean discoverDeserializers;
+  private int encodeBuffers = DEFAULT_ENCODE_BUFFERS;
+  private DeserializerMetricsSink metricsSink;
+  private SharedBufferPool bufferPool;
+  private DecodeCache decodeCache;
+
+  /**
+   * Creates and warms the {@link ObjectMapper} when the injector is created instead of on first
+   * use.
+   *
+   * @return The {@link ObjectMapperModule}.
+   */
+  public ObjectMapperModule eager() {
+    eager = true;
+    return this;
+  }
+
+  /**
+   * Installs every {@link DeserializerRegistration} found on the class path, i.e. the modules
+   * registering the generated deserializers, so they need not be installed one by one. The
+   * factories the deserializers depend on must be bound.
+   *
+   * @return The {@link ObjectMapperModule}.
+   */
+  public ObjectMapperModule discoverGeneratedDeserializers() {
+    discoverDeserializers = true;
+    return this;
+  }
+
+  /**
+   * Times every registered {@link JsonDeserializer}, keeping the measurements in an
+   * {@link InMemoryDeserializerMetricsSink} that is bound for injection.
+   *
+   * @return The {@link ObjectMapperModule}.
+   */
+  public ObjectMapperModule instrumented() {
+    return instrumented(new InMemoryDeserializerMetricsSink());
+  }
+
+  /**
+   * Times every registered {@link JsonDeserializer}, reporting the measurements to a
+   * {@link DeserializerMetricsSink}. Without instrumentation the deserializers are registered as
+   * they are.
+   *
+   * @param metricsSink The {@link DeserializerMetricsSink}.
+   * @return The {@link ObjectMapperModule}.
+   */
+  public ObjectMapperModule instrumented(final DeserializerMetricsSink metricsSink) {
+    this.metricsSink = metricsSink;
+    return this;
+  }
+
+  /**
+   * Sets the number of free buffers of each size class kept by the {@link EncodeBufferPool}.
+   *
+   * @param buffersPerSizeClass The number of buffers, or zero to allocate every buffer.
+   * @return The {@link ObjectMapperModule}.
+   */
+  public ObjectMapperModule encodeBuffers(final int buffersPerSizeClass) {
+    if (buffersPerSizeClass < 0) {
+      throw new IllegalArgumentException("The number of buffers must not be negative");
+    }
+
+    this.encodeBuffers = buffersPerSizeClass;
+    return this;
+  }
+
+  /**
+   * Shares the parse and generation buffers of the JSON mapper across threads through a
+   * {@link BoundedSharedBufferPool}. By default Jackson recycles buffers per thread, which does
+   * not help when every request runs on a new, short-lived thread such as a virtual thread.
+   *
+   * @param buffersPerType The maximum number of free buffers kept for each buffer type.
+   * @return The {@link ObjectMapperModule}.
+   */
+  public ObjectMapperModule sharedBuffers(final int buffersPerType) {
+    return sharedBuffers(new BoundedSharedBufferPool(buffersPerType));
+  }
+
+  /**
+   * Shares the parse and generation buffers of the JSON mapper across threads through a
+   * {@link SharedBufferPool}.
+   *
+   * @param bufferPool The {@link SharedBufferPool}.
+   * @return The {@link ObjectMapperModule}.
+   */
+  public ObjectMapperModule sharedBuffers(final SharedBufferPool bufferPool) {
+    this.bufferPool = bufferPool;
+    return this;
+  }
+
+  /**
+   * Caches the values read by {@link ObjectMapperProvider#readCachedValue} from the JSON mapper by
+   * the bytes they were read from, in a {@link DecodeCache} that is bound for injection.
+   *
+   * @param capacity The maximum number of values.
+   * @param maxEntryBytes The size of the largest input to cache.
+   * @param maxAge The age after which a value is read again.
+   * @return The {@link ObjectMapperModule}.
+   */
+  public ObjectMapperModule decodeCache(
+      final int capacity,
+      final int maxEntryBytes,
+      final Duration maxAge) {
+
+    return decodeCache(new DecodeCache(capacity, maxEntryBytes, maxAge));
+  }
+
+  /**
+   * Caches the values read by {@link ObjectMapperProvider#readCachedValue} from the JSON mapper by
+   * the bytes they were read from. Without a cache every read decodes the bytes.
+   *
+   * @param decodeCache The {@link DecodeCache}.
+   * @return The {@link ObjectMapperModule}.
+   */
+  public ObjectMapperModule decodeCache(final DecodeCache decodeCache) {
+    this.decodeCache = decodeCache;
+    return this;
+  }
+
   /**
    * Configures the module.
    */
@@ -17,5 +181,188 @@ public class ObjectMapperModule extends AbstractModule {
   protected void configure() {
     bind(ObjectMapperProvider.class).to(AutoRegistrationObjectMapperProvider.class);
     bind(ObjectMapper.class).toProvider(ObjectMapperProvider.class);
+
+    if (eager) {
+      bind(ObjectMapperInitializer.class).asEagerSingleton();
+    }
+
+    // Deserializers, either way, and serializers are optional
+    Multibinder.newSetBinder(binder(), JsonDeserializer.class);
+    MapBinder.newMapBinder(binder(), Class.class, JsonDeserializer.class);
+    Multibinder.newSetBinder(binder(), JsonSerializer.class);
+
+    // Generated deserializers
+    if (discoverDeserializers) {
+      for (final DeserializerRegistration registration
+          : ServiceLoader.load(DeserializerRegistration.class)) {
+        install(registration);
+      }
+    }
+
+    // Deserializer instrumentation
+    final OptionalBinder<DeserializerMetricsSink> metricsSinkBinder =
+        OptionalBinder.newOptionalBinder(binder(), DeserializerMetricsSink.class);
+
+    if (metricsSink != null) {
+      metricsSinkBinder.setBinding().toInstance(metricsSink);
+    }
+
+    if (metricsSink instanceof InMemoryDeserializerMetricsSink) {
+      bind(InMemoryDeserializerMetricsSink.class)
+          .toInstance((InMemoryDeserializerMetricsSink) metricsSink);
+    }
+
+    // Shared parse buffers
+    final OptionalBinder<SharedBufferPool> bufferPoolBinder =
+        OptionalBinder.newOptionalBinder(binder(), SharedBufferPool.class);
+
+    if (bufferPool != null) {
+      bufferPoolBinder.setBinding().toInstance(bufferPool);
+    }
+
+    // Decoded value cache
+    final OptionalBinder<DecodeCache> decodeCacheBinder =
+        OptionalBinder.newOptionalBinder(binder(), DecodeCache.class);
+
+    if (decodeCache != null) {
+      decodeCacheBinder.setBinding().toInstance(decodeCache);
+    }
+  }
+
+  /**
+   * Provides the {@link EncodeBufferPool} shared by the mappers of every format.
+   *
+   * @return The {@link EncodeBufferPool}.
+   */
+  @Provides
+  @Singleton
+  EncodeBufferPool provideEncodeBufferPool() {
+    return new EncodeBufferPool(encodeBuffers);
+  }
+
+  /**
+   * Provides the Smile {@link ObjectMapperProvider}.
+   *
+   * @param deserializers The {@link JsonDeserializer}s to register.
+   * @param deserializerProviders The {@link JsonDeserializer} {@link Provider}s by handled type.
+   * @param serializers The {@link JsonSerializer}s to register.
+   * @param metricsSink The {@link DeserializerMetricsSink}, if the deserializers are instrumented.
+   * @param encodeBufferPool The {@link EncodeBufferPool}.
+   * @return The {@link ObjectMapperProvider}.
+   */
+  @Provides
+  @Singleton
+  @Smile
+  ObjectMapperProvider provideSmileObjectMapperProvider(
+      final Set<JsonDeserializer> deserializers,
+      final Map<Class, Provider<JsonDeserializer>> deserializerProviders,
+      final Set<JsonSerializer> serializers,
+      final Optional<DeserializerMetricsSink> metricsSink,
+      final EncodeBufferPool encodeBufferPool) {
+
+    return new AutoRegistrationObjectMapperProvider(
+        deserializers,
+        deserializerProviders,
+        serializers,
+        new SmileFactory(),
+        metricsSink.orElse(null),
+        encodeBufferPool,
+        null);
+  }
+
+  /**
+   * Provides the Smile {@link ObjectMapper}.
+   *
+   * @param objectMapperProvider The Smile {@link ObjectMapperProvider}.
+   * @return The {@link ObjectMapper}.
+   */
+  @Provides
+  @Smile
+  ObjectMapper provideSmileObjectMapper(@Smile final ObjectMapperProvider objectMapperProvider) {
+    return objectMapperProvider.get();
+  }
+
+  /**
+   * Provides the CBOR {@link ObjectMapperProvider}.
+   *
+   * @param deserializers The {@link JsonDeserializer}s to register.
+   * @param deserializerProviders The {@link JsonDeserializer} {@link Provider}s by handled type.
+   * @param serializers The {@link JsonSerializer}s to register.
+   * @param metricsSink The {@link DeserializerMetricsSink}, if the deserializers are instrumented.
+   * @param encodeBufferPool The {@link EncodeBufferPool}.
+   * @return The {@link ObjectMapperProvider}.
+   */
+  @Provides
+  @Singleton
+  @Cbor
+  ObjectMapperProvider provideCborObjectMapperProvider(
+      final Set<JsonDeserializer> deserializers,
+      final Map<Class, Provider<JsonDeserializer>> deserializerProviders,
+      final Set<JsonSerializer> serializers,
+      final Optional<DeserializerMetricsSink> metricsSink,
+      final EncodeBufferPool encodeBufferPool) {
+
+    return new AutoRegistrationObjectMapperProvider(
+        deserializers,
+        deserializerProviders,
+        serializers,
+        new CBORFactory(),
+        metricsSink.orElse(null),
+        encodeBufferPool,
+        null);
+  }
+
+  /**
+   * Provides the CBOR {@link ObjectMapper}.
+   *
+   * @param objectMapperProvider The CBOR {@link ObjectMapperProvider}.
+   * @return The {@link ObjectMapper}.
+   */
+  @Provides
+  @Cbor
+  ObjectMapper provideCborObjectMapper(@Cbor final ObjectMapperProvider objectMapperProvider) {
+    return objectMapperProvider.get();
+  }
+
+  /**
+   * Provides the YAML {@link ObjectMapperProvider}.
+   *
+   * @param deserializers The {@link JsonDeserializer}s to register.
+   * @param deserializerProviders The {@link JsonDeserializer} {@link Provider}s by handled type.
+   * @param serializers The {@link JsonSerializer}s to register.
+   * @param metricsSink The {@link DeserializerMetricsSink}, if the deserializers are instrumented.
+   * @param encodeBufferPool The {@link EncodeBufferPool}.
+   * @return The {@link ObjectMapperProvider}.
+   */
+  @Provides
+  @Singleton
+  @Yaml
+  ObjectMapperProvider provideYamlObjectMapperProvider(
+      final Set<JsonDeserializer> deserializers,
+      final Map<Class, Provider<JsonDeserializer>> deserializerProviders,
+      final Set<JsonSerializer> serializers,
+      final Optional<DeserializerMetricsSink> metricsSink,
+      final EncodeBufferPool encodeBufferPool) {
+
+    return new AutoRegistrationObjectMapperProvider(
+        deserializers,
+        deserializerProviders,
+        serializers,
+        new YAMLFactory(),
+        metricsSink.orElse(null),
+        encodeBufferPool,
+        null);
+  }
+
+  /**
+   * Provides the YAML {@link ObjectMapper}.
+   *
+   * @param objectMapperProvider The YAML {@link ObjectMapperProvider}.
+   * @return The {@link ObjectMapper}.
+   */
+  @Provides
+  @Yaml
+  ObjectMapper provideYamlObjectMapper(@Yaml final ObjectMapperProvider objectMapperProvider) {
+    return objectMapperProvider.get();
   }
 }
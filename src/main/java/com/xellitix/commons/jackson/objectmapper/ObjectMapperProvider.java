@@ -1,12 +1,324 @@
 package com.xellitix.commons.jackson.objectmapper;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.inject.Provider;
+import com.xellitix.commons.jackson.async.AsyncDecoder;
+import com.xellitix.commons.jackson.cache.DecodeCache;
+import com.xellitix.commons.jackson.io.EncodeBufferPool;
+import com.xellitix.commons.jackson.io.EncodedBytes;
+import com.xellitix.commons.jackson.io.MappedFileInputStream;
+import com.xellitix.commons.jackson.io.PooledOutputStream;
+import com.xellitix.commons.jackson.lines.JsonLinesReader;
+import com.xellitix.commons.jackson.reactive.ChunkSource;
+import com.xellitix.commons.jackson.reactive.RecordPublisher;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.reactivestreams.Publisher;
 
 /**
  * {@link ObjectMapper} {@link Provider}.
  *
+ * <p>Only {@link #get()} must be implemented. The other methods default to implementations built
+ * on the provided mapper that cache no readers or writers, pool no encoding buffers and cache no
+ * decoded values. The {@link AutoRegistrationObjectMapperProvider} overrides them with cached and
+ * pooled implementations.
+ *
  * @author Grayson Kuhns
  */
 public interface ObjectMapperProvider extends Provider<ObjectMapper> {
+
+  /**
+   * Gets a cached {@link ObjectReader} for a type.
+   *
+   * @param type The type to read.
+   * @return The {@link ObjectReader}.
+   */
+  default ObjectReader getReader(final Class<?> type) {
+    return getReader(get().getTypeFactory().constructType(type));
+  }
+
+  /**
+   * Gets a cached {@link ObjectReader} for a type.
+   *
+   * @param type The {@link JavaType} to read.
+   * @return The {@link ObjectReader}.
+   */
+  default ObjectReader getReader(final JavaType type) {
+    return get().readerFor(type);
+  }
+
+  /**
+   * Gets a cached {@link ObjectReader} for a type and feature set.
+   *
+   * @param type The {@link JavaType} to read.
+   * @param enabled The {@link DeserializationFeature}s to enable.
+   * @param disabled The {@link DeserializationFeature}s to disable.
+   * @return The {@link ObjectReader}.
+   */
+  default ObjectReader getReader(
+      final JavaType type,
+      final Set<DeserializationFeature> enabled,
+      final Set<DeserializationFeature> disabled) {
+
+    ObjectReader reader = getReader(type);
+
+    for (final DeserializationFeature feature : enabled) {
+      reader = reader.with(feature);
+    }
+
+    for (final DeserializationFeature feature : disabled) {
+      reader = reader.without(feature);
+    }
+
+    return reader;
+  }
+
+  /**
+   * Gets a cached {@link ObjectWriter} for a type.
+   *
+   * @param type The type to write.
+   * @return The {@link ObjectWriter}.
+   */
+  default ObjectWriter getWriter(final Class<?> type) {
+    return get().writerFor(type);
+  }
+
+  /**
+   * Gets a cached {@link ObjectWriter} for a type and feature set.
+   *
+   * @param type The type to write.
+   * @param enabled The {@link SerializationFeature}s to enable.
+   * @param disabled The {@link SerializationFeature}s to disable.
+   * @return The {@link ObjectWriter}.
+   */
+  default ObjectWriter getWriter(
+      final Class<?> type,
+      final Set<SerializationFeature> enabled,
+      final Set<SerializationFeature> disabled) {
+
+    ObjectWriter writer = getWriter(type);
+
+    for (final SerializationFeature feature : enabled) {
+      writer = writer.with(feature);
+    }
+
+    for (final SerializationFeature feature : disabled) {
+      writer = writer.without(feature);
+    }
+
+    return writer;
+  }
+
+  /**
+   * Gets a {@link JsonLinesReader} for newline-delimited JSON records of a type.
+   *
+   * @param type The record type.
+   * @param <T> The record type.
+   * @return The {@link JsonLinesReader}.
+   */
+  default <T> JsonLinesReader<T> getJsonLinesReader(final Class<T> type) {
+    return new JsonLinesReader<>(getReader(type));
+  }
+
+  /**
+   * Encodes a value into a buffer borrowed from a pool of size-classed buffers, avoiding the
+   * allocation and growth of a fresh array for every value.
+   *
+   * @param value The value.
+   * @return The {@link EncodedBytes}, which must be closed once the bytes have been used to
+   *     return the buffer to the pool.
+   * @throws IOException If the value cannot be encoded.
+   */
+  default EncodedBytes encode(final Object value) throws IOException {
+    final ObjectWriter writer = value == null ? get().writer() : getWriter(value.getClass());
+
+    // A pool without free arrays allocates every buffer
+    final PooledOutputStream out = new EncodeBufferPool(0).openStream();
+    writer.writeValue(out, value);
+    return out.detach();
+  }
+
+  /**
+   * Creates an {@link AsyncDecoder} that decodes values of a type from byte chunks as they arrive.
+   *
+   * <p>Only formats with a non-blocking parser, such as JSON and Smile, are supported.
+   *
+   * @param type The value type.
+   * @param <T> The value type.
+   * @return The {@link AsyncDecoder}.
+   * @throws IOException If the non-blocking parser cannot be created.
+   */
+  default <T> AsyncDecoder<T> createAsyncDecoder(final Class<T> type) throws IOException {
+    return new AsyncDecoder<>(getReader(type));
+  }
+
+  /**
+   * Creates a {@link Publisher} of the root-level values of an {@link InputStream} that only
+   * parses as far as the subscriber has requested.
+   *
+   * <p>On Java 9 and later {@code FlowAdapters.toFlowPublisher(...)} bridges the
+   * {@link Publisher} to {@code java.util.concurrent.Flow}.
+   *
+   * @param in The {@link InputStream}.
+   * @param type The value type.
+   * @param executor The {@link Executor} that reads and signals the values.
+   * @param <T> The value type.
+   * @return The {@link Publisher}.
+   */
+  default <T> Publisher<T> createPublisher(
+      final InputStream in,
+      final Class<T> type,
+      final Executor executor) {
+
+    return RecordPublisher.fromStream(getReader(type), in, executor);
+  }
+
+  /**
+   * Creates a {@link Publisher} of the root-level values of a {@link ChunkSource} that only reads
+   * chunks as far as the subscriber has requested.
+   *
+   * <p>On Java 9 and later {@code FlowAdapters.toFlowPublisher(...)} bridges the
+   * {@link Publisher} to {@code java.util.concurrent.Flow}.
+   *
+   * @param chunks The {@link ChunkSource}.
+   * @param type The value type.
+   * @param executor The {@link Executor} that reads and signals the values.
+   * @param <T> The value type.
+   * @return The {@link Publisher}.
+   */
+  default <T> Publisher<T> createPublisher(
+      final ChunkSource chunks,
+      final Class<T> type,
+      final Executor executor) {
+
+    return RecordPublisher.fromChunks(getReader(type), chunks, executor);
+  }
+
+  /**
+   * Reads a value, reusing the value previously read from identical bytes if the mapper has a
+   * {@link DecodeCache}. Only use for immutable types, cached values are shared.
+   *
+   * @param src The bytes.
+   * @param type The type to read.
+   * @param <T> The type to read.
+   * @return The value.
+   * @throws IOException If the bytes cannot be read.
+   */
+  default <T> T readCachedValue(final byte[] src, final Class<T> type) throws IOException {
+    return readCachedValue(src, get().getTypeFactory().constructType(type));
+  }
+
+  /**
+   * Reads a value, reusing the value previously read from identical bytes if the mapper has a
+   * {@link DecodeCache}. Only use for immutable types, cached values are shared.
+   *
+   * @param src The bytes.
+   * @param type The {@link JavaType} to read.
+   * @param <T> The type to read.
+   * @return The value.
+   * @throws IOException If the bytes cannot be read.
+   */
+  default <T> T readCachedValue(final byte[] src, final JavaType type) throws IOException {
+    return getReader(type).readValue(src);
+  }
+
+  /**
+   * Reads a value from a memory-mapped file.
+   *
+   * @param path The file {@link Path}.
+   * @param type The type to read.
+   * @param <T> The type to read.
+   * @return The value.
+   * @throws IOException If the file cannot be read.
+   */
+  default <T> T readValue(final Path path, final Class<T> type) throws IOException {
+    try (InputStream in = MappedFileInputStream.open(path)) {
+      return getReader(type).readValue(in);
+    }
+  }
+
+  /**
+   * Reads a value from a memory-mapped file.
+   *
+   * @param path The file {@link Path}.
+   * @param type The {@link JavaType} to read.
+   * @param <T> The type to read.
+   * @return The value.
+   * @throws IOException If the file cannot be read.
+   */
+  default <T> T readValue(final Path path, final JavaType type) throws IOException {
+    try (InputStream in = MappedFileInputStream.open(path)) {
+      return getReader(type).readValue(in);
+    }
+  }
+
+  /**
+   * Reads a tree from a memory-mapped file.
+   *
+   * @param path The file {@link Path}.
+   * @return The {@link JsonNode}.
+   * @throws IOException If the file cannot be read.
+   */
+  default JsonNode readTree(final Path path) throws IOException {
+    try (InputStream in = MappedFileInputStream.open(path)) {
+      return get().readTree(in);
+    }
+  }
+
+  /**
+   * Lazily reads a sequence of root-level values, one at a time.
+   *
+   * <p>For JSON these are whitespace separated values; for YAML, the documents of a multi-document
+   * stream. Closing the iterator closes the {@link InputStream}.
+   *
+   * @param in The {@link InputStream}.
+   * @param type The type to read.
+   * @param <T> The type to read.
+   * @return The {@link MappingIterator}.
+   * @throws IOException If the input cannot be read.
+   */
+  default <T> MappingIterator<T> readValues(
+      final InputStream in,
+      final Class<T> type)
+      throws IOException {
+
+    return getReader(type).readValues(in);
+  }
+
+  /**
+   * Lazily reads a sequence of root-level values from a memory-mapped file, one at a time.
+   *
+   * <p>For JSON these are whitespace separated values; for YAML, the documents of a multi-document
+   * file. Closing the iterator releases the file.
+   *
+   * @param path The file {@link Path}.
+   * @param type The type to read.
+   * @param <T> The type to read.
+   * @return The {@link MappingIterator}.
+   * @throws IOException If the file cannot be read.
+   */
+  default <T> MappingIterator<T> readValues(
+      final Path path,
+      final Class<T> type)
+      throws IOException {
+
+    final InputStream in = MappedFileInputStream.open(path);
+
+    try {
+      return readValues(in, type);
+    } catch (IOException | RuntimeException ex) {
+      in.close();
+      throw ex;
+    }
+  }
 }
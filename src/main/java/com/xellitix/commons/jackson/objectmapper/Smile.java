@@ -0,0 +1,19 @@
+package com.xellitix.commons.jackson.objectmapper;
+
+import com.google.inject.BindingAnnotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Qualifies the {@link com.fasterxml.jackson.databind.ObjectMapper} and
+ * {@link ObjectMapperProvider} that read and write Smile (binary JSON).
+ *
+ * @author Grayson Kuhns
+ */
+@BindingAnnotation
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Smile {
+}
@@ -0,0 +1,86 @@
+package com.xellitix.commons.jackson.reactive;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.xellitix.commons.jackson.async.AsyncDecoder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * {@link RecordSource} that decodes root-level values from a {@link ChunkSource}.
+ *
+ * <p>A chunk is only read once every record decoded from the previous one has been taken, so
+ * at most one chunk's worth of records is ever buffered.
+ *
+ * @param <T> The record type.
+ * @author Grayson Kuhns
+ */
+final class ChunkRecordSource<T> implements RecordSource<T> {
+
+  // Properties
+  private final ObjectReader reader;
+  private final ChunkSource chunks;
+  private final Deque<T> decoded = new ArrayDeque<>();
+  private AsyncDecoder<T> decoder;
+  private boolean finished;
+
+  /**
+   * Constructor.
+   *
+   * @param reader The {@link ObjectReader} for the record type.
+   * @param chunks The {@link ChunkSource}.
+   */
+  ChunkRecordSource(final ObjectReader reader, final ChunkSource chunks) {
+    this.reader = reader;
+    this.chunks = chunks;
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @return The record, or null at the end of the input.
+   * @throws IOException If the record cannot be read.
+   */
+  @Override
+  public T next() throws IOException {
+    if (decoder == null) {
+      decoder = new AsyncDecoder<>(reader);
+    }
+
+    while (decoded.isEmpty() && !finished) {
+      final ByteBuffer chunk = chunks.nextChunk();
+
+      if (chunk == null) {
+        finished = true;
+        decoder.finish(this::enqueue);
+      } else {
+        decoder.feed(chunk, this::enqueue);
+      }
+    }
+
+    return decoded.poll();
+  }
+
+  /**
+   * Closes the {@link ChunkSource}.
+   *
+   * @throws IOException If the source cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      if (decoder != null) {
+        decoder.close();
+      }
+    } finally {
+      chunks.close();
+    }
+  }
+
+  private void enqueue(final T value) {
+    if (value != null) {
+      decoded.add(value);
+    }
+  }
+}
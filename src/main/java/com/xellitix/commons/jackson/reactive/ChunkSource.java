@@ -0,0 +1,21 @@
+package com.xellitix.commons.jackson.reactive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A source of byte chunks that is read only on demand.
+ *
+ * @author Grayson Kuhns
+ */
+public interface ChunkSource extends Closeable {
+
+  /**
+   * Reads the next chunk.
+   *
+   * @return The chunk, or null at the end of the input.
+   * @throws IOException If the chunk cannot be read.
+   */
+  ByteBuffer nextChunk() throws IOException;
+}
@@ -0,0 +1,278 @@
+package com.xellitix.commons.jackson.reactive;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * {@link Publisher} of records deserialized from a stream as the subscriber requests them.
+ *
+ * <p>Parsing only advances while the subscriber has outstanding demand, so a slow subscriber
+ * holds back the input rather than causing records to be buffered. Records are read and
+ * signalled on the {@link Executor}, never on the thread calling
+ * {@link Subscription#request(long)}. The input is consumed once, so only a single subscriber is
+ * supported; the input is closed on completion, failure or cancellation.
+ *
+ * <p>On Java 9 and later the publisher can be handed to {@code java.util.concurrent.Flow} APIs
+ * through {@code org.reactivestreams.FlowAdapters.toFlowPublisher(publisher)}.
+ *
+ * @param <T> The record type.
+ * @author Grayson Kuhns
+ */
+public final class RecordPublisher<T> implements Publisher<T> {
+
+  // Constants
+  private static final Subscription NO_OP = new Subscription() {
+    @Override
+    public void request(final long n) {
+    }
+
+    @Override
+    public void cancel() {
+    }
+  };
+
+  // Properties
+  private final RecordSource<T> source;
+  private final Executor executor;
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+
+  /**
+   * Constructor.
+   *
+   * @param source The {@link RecordSource}.
+   * @param executor The {@link Executor} that reads and signals the records.
+   */
+  RecordPublisher(final RecordSource<T> source, final Executor executor) {
+    this.source = source;
+    this.executor = executor;
+  }
+
+  /**
+   * Creates a {@link RecordPublisher} of the root-level values of an {@link InputStream}.
+   *
+   * @param reader The {@link ObjectReader} for the record type.
+   * @param in The {@link InputStream}.
+   * @param executor The {@link Executor} that reads and signals the records.
+   * @param <T> The record type.
+   * @return The {@link RecordPublisher}.
+   */
+  public static <T> RecordPublisher<T> fromStream(
+      final ObjectReader reader,
+      final InputStream in,
+      final Executor executor) {
+
+    return new RecordPublisher<>(new StreamRecordSource<>(reader, in), executor);
+  }
+
+  /**
+   * Creates a {@link RecordPublisher} of the root-level values of a {@link ChunkSource}.
+   *
+   * <p>The chunks are decoded with a non-blocking parser, so only formats that provide one, such
+   * as JSON and Smile, are supported.
+   *
+   * @param reader The {@link ObjectReader} for the record type.
+   * @param chunks The {@link ChunkSource}.
+   * @param executor The {@link Executor} that reads and signals the records.
+   * @param <T> The record type.
+   * @return The {@link RecordPublisher}.
+   */
+  public static <T> RecordPublisher<T> fromChunks(
+      final ObjectReader reader,
+      final ChunkSource chunks,
+      final Executor executor) {
+
+    return new RecordPublisher<>(new ChunkRecordSource<>(reader, chunks), executor);
+  }
+
+  /**
+   * Subscribes to the records.
+   *
+   * @param subscriber The {@link Subscriber}.
+   */
+  @Override
+  public void subscribe(final Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(NO_OP);
+      subscriber.onError(new IllegalStateException("The publisher supports a single subscriber"));
+      return;
+    }
+
+    subscriber.onSubscribe(new RecordSubscription(subscriber));
+  }
+
+  /**
+   * {@link Subscription} that reads a record from the source for each unit of demand.
+   *
+   * <p>Every signal is emitted from {@link #run()}, which is scheduled on the {@link Executor}
+   * whenever the demand changes and never runs concurrently with itself.
+   */
+  private final class RecordSubscription implements Subscription, Runnable {
+
+    // Properties
+    private final Subscriber<? super T> subscriber;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger scheduled = new AtomicInteger();
+
+    private volatile boolean cancelled;
+    private volatile IllegalArgumentException invalidRequest;
+    private boolean done;
+
+    /**
+     * Constructor.
+     *
+     * @param subscriber The {@link Subscriber}.
+     */
+    private RecordSubscription(final Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    /**
+     * Requests more records.
+     *
+     * @param n The number of records.
+     */
+    @Override
+    public void request(final long n) {
+      if (n <= 0) {
+        invalidRequest = new IllegalArgumentException(
+            "The number of requested records must be positive: " + n);
+      } else {
+        addDemand(n);
+      }
+
+      schedule();
+    }
+
+    /**
+     * Cancels the subscription and closes the input.
+     */
+    @Override
+    public void cancel() {
+      cancelled = true;
+      schedule();
+    }
+
+    /**
+     * Emits records until the demand is met or the input ends.
+     */
+    @Override
+    public void run() {
+      int missed = 1;
+
+      do {
+        drain();
+        missed = scheduled.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void addDemand(final long n) {
+      long current;
+      long next;
+
+      do {
+        current = requested.get();
+        if (current == Long.MAX_VALUE) {
+          return;
+        }
+
+        // Demand is capped rather than allowed to overflow
+        next = current + n;
+        if (next < 0) {
+          next = Long.MAX_VALUE;
+        }
+      } while (!requested.compareAndSet(current, next));
+    }
+
+    private void schedule() {
+      if (scheduled.getAndIncrement() != 0) {
+        return;
+      }
+
+      try {
+        executor.execute(this);
+      } catch (RejectedExecutionException ex) {
+        done = true;
+        closeQuietly();
+        subscriber.onError(ex);
+      }
+    }
+
+    private void drain() {
+      if (done) {
+        return;
+      }
+
+      if (cancelled) {
+        done = true;
+        closeQuietly();
+        return;
+      }
+
+      if (invalidRequest != null) {
+        fail(invalidRequest);
+        return;
+      }
+
+      while (requested.get() > 0 && !cancelled) {
+        final T record;
+
+        try {
+          record = source.next();
+        } catch (IOException | RuntimeException ex) {
+          fail(ex);
+          return;
+        }
+
+        if (record == null) {
+          complete();
+          return;
+        }
+
+        subscriber.onNext(record);
+
+        if (requested.get() != Long.MAX_VALUE) {
+          requested.decrementAndGet();
+        }
+      }
+    }
+
+    private void complete() {
+      done = true;
+
+      try {
+        source.close();
+      } catch (IOException ex) {
+        subscriber.onError(ex);
+        return;
+      }
+
+      subscriber.onComplete();
+    }
+
+    private void fail(final Throwable error) {
+      done = true;
+      closeQuietly();
+      subscriber.onError(error);
+    }
+
+    private void closeQuietly() {
+      try {
+        source.close();
+      } catch (IOException ex) {
+        // Nobody is left to report the failure to
+      }
+    }
+  }
+}
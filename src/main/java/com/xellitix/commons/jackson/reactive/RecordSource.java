@@ -0,0 +1,21 @@
+package com.xellitix.commons.jackson.reactive;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A source of deserialized records that parses only as far as each read requires.
+ *
+ * @param <T> The record type.
+ * @author Grayson Kuhns
+ */
+interface RecordSource<T> extends Closeable {
+
+  /**
+   * Reads the next record.
+   *
+   * @return The record, or null at the end of the input.
+   * @throws IOException If the record cannot be read.
+   */
+  T next() throws IOException;
+}
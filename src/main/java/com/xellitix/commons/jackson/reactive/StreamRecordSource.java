@@ -0,0 +1,70 @@
+package com.xellitix.commons.jackson.reactive;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link RecordSource} that reads root-level values from an {@link InputStream}.
+ *
+ * @param <T> The record type.
+ * @author Grayson Kuhns
+ */
+final class StreamRecordSource<T> implements RecordSource<T> {
+
+  // Properties
+  private final ObjectReader reader;
+  private final InputStream in;
+  private MappingIterator<T> values;
+
+  /**
+   * Constructor.
+   *
+   * @param reader The {@link ObjectReader} for the record type.
+   * @param in The {@link InputStream}.
+   */
+  StreamRecordSource(final ObjectReader reader, final InputStream in) {
+    this.reader = reader;
+    this.in = in;
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @return The record, or null at the end of the input.
+   * @throws IOException If the record cannot be read.
+   */
+  @Override
+  public T next() throws IOException {
+    // The parser is created on the first read so that nothing is read before it is requested
+    if (values == null) {
+      values = reader.readValues(in);
+    }
+
+    while (values.hasNextValue()) {
+      final T value = values.nextValue();
+      if (value != null) {
+        return value;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Closes the {@link InputStream}.
+   *
+   * @throws IOException If the stream cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      if (values != null) {
+        values.close();
+      }
+    } finally {
+      in.close();
+    }
+  }
+}
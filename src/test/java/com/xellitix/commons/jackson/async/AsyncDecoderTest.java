@@ -0,0 +1,98 @@
+package com.xellitix.commons.jackson.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link AsyncDecoder} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class AsyncDecoderTest {
+
+  // Constants
+  private static final String CONTENT = "{\"name\":\"Bob\",\"age\":20} "
+      + "{\"name\":\"Ann\",\"tags\":[\"a\",{\"b\":1}],\"age\":31}\n"
+      + "{\"name\":\"Joe\",\"age\":45}";
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // Fixtures
+  private AsyncDecoder<Member> decoder;
+  private List<Member> members;
+
+  @Test
+  public void feedEmitsEveryValue__WhenChunksSplitValues__Test() throws Exception {
+    final byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+
+    // Feed the content three bytes at a time through direct buffers
+    for (int offset = 0; offset < content.length; offset += 3) {
+      final int length = Math.min(3, content.length - offset);
+      final ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+      chunk.put(content, offset, length).flip();
+
+      decoder.feed(chunk, members::add);
+      assertThat(chunk.hasRemaining()).isFalse();
+    }
+
+    decoder.finish(members::add);
+
+    assertThat(members).extracting(member -> member.name).containsExactly("Bob", "Ann", "Joe");
+    assertThat(members.get(1).age).isEqualTo(31);
+    assertThat(decoder.isWithinValue()).isFalse();
+  }
+
+  @Test
+  public void feedEmitsEveryValue__WhenChunkHoldsSeveralValues__Test() throws Exception {
+    decoder.feed(chunk(CONTENT), members::add);
+
+    // The last value is complete once its closing brace is read
+    assertThat(members).hasSize(3);
+  }
+
+  @Test
+  public void feedRetainsPartialValue__WhenValueIsIncomplete__Test() throws Exception {
+    decoder.feed(chunk("{\"name\":\"Bob\""), members::add);
+
+    assertThat(members).isEmpty();
+    assertThat(decoder.isWithinValue()).isTrue();
+  }
+
+  @Test
+  public void finishThrowsException__WhenInputEndsWithinValue__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonEOFException.class);
+
+    decoder.feed(chunk("{\"name\":"), members::add);
+    decoder.finish(members::add);
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    decoder = new AsyncDecoder<>(new ObjectMapper().readerFor(Member.class));
+    members = new ArrayList<>();
+  }
+
+  private static ByteBuffer chunk(final String content) {
+    return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static class Member {
+
+    public String name;
+    public int age;
+    public List<Object> tags;
+  }
+}
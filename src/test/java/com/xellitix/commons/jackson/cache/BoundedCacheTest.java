@@ -0,0 +1,67 @@
+package com.xellitix.commons.jackson.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link BoundedCache} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class BoundedCacheTest {
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void capacityIsRoundedUpToPowerOfTwo__Test() {
+    assertThat(new BoundedCache<String>(1).capacity()).isEqualTo(1);
+    assertThat(new BoundedCache<String>(100).capacity()).isEqualTo(128);
+    assertThat(new BoundedCache<String>(128).capacity()).isEqualTo(128);
+  }
+
+  @Test
+  public void constructorThrowsIllegalArgumentException__WhenCapacityIsNotPositive__Test() {
+    thrown.expect(IllegalArgumentException.class);
+    new BoundedCache<String>(0);
+  }
+
+  @Test
+  public void getIfPresentReturnsStoredValue__Test() {
+    final BoundedCache<String> cache = new BoundedCache<>(16);
+    cache.put("a", "A");
+
+    assertThat(cache.getIfPresent("a")).isEqualTo("A");
+    assertThat(cache.getIfPresent("b")).isNull();
+
+    final CacheStats stats = cache.getStats();
+    assertThat(stats.getHits()).isEqualTo(1);
+    assertThat(stats.getMisses()).isEqualTo(1);
+    assertThat(stats.getHitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  public void putEvictsPreviousValue__WhenKeysShareSlot__Test() {
+    final BoundedCache<String> cache = new BoundedCache<>(1);
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.put("b", "B");
+
+    assertThat(cache.getIfPresent("a")).isNull();
+    assertThat(cache.getIfPresent("b")).isEqualTo("B");
+    assertThat(cache.getStats().getEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  public void clearRemovesEveryValue__Test() {
+    final BoundedCache<String> cache = new BoundedCache<>(16);
+    cache.put("a", "A");
+    cache.clear();
+
+    assertThat(cache.getIfPresent("a")).isNull();
+  }
+}
@@ -0,0 +1,95 @@
+package com.xellitix.commons.jackson.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link DecodeCache} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DecodeCacheTest {
+
+  // Constants
+  private static final byte[] CONTENT = "{\"flag\":true}".getBytes(StandardCharsets.UTF_8);
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // Fixtures
+  private long now;
+  private int decodes;
+  private DecodeCache cache;
+
+  @Test
+  public void constructorThrowsIllegalArgumentException__WhenMaxAgeIsNotPositive__Test() {
+    thrown.expect(IllegalArgumentException.class);
+    new DecodeCache(16, 1024, Duration.ZERO);
+  }
+
+  @Test
+  public void getReturnsTheCachedValue__WhenBytesAreIdentical__Test() throws Exception {
+    final String value = cache.get(String.class, CONTENT, this::decode);
+
+    assertThat(cache.get(String.class, CONTENT.clone(), this::decode)).isSameAs(value);
+    assertThat(decodes).isEqualTo(1);
+
+    final CacheStats stats = cache.getStats();
+    assertThat(stats.getHits()).isEqualTo(1);
+    assertThat(stats.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void getDecodesAgain__WhenTypeDiffers__Test() throws Exception {
+    cache.get(String.class, CONTENT, this::decode);
+    cache.get(Object.class, CONTENT, this::decode);
+
+    assertThat(decodes).isEqualTo(2);
+  }
+
+  @Test
+  public void getDecodesAgain__WhenValueHasExpired__Test() throws Exception {
+    cache.get(String.class, CONTENT, this::decode);
+    now += TimeUnit.MINUTES.toNanos(2);
+    cache.get(String.class, CONTENT, this::decode);
+
+    assertThat(decodes).isEqualTo(2);
+    assertThat(cache.getStats().getEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  public void getDoesNotCache__WhenContentExceedsMaxEntrySize__Test() throws Exception {
+    final byte[] large = new byte[2048];
+    cache.get(String.class, large, this::decode);
+    cache.get(String.class, large, this::decode);
+
+    assertThat(decodes).isEqualTo(2);
+  }
+
+  @Test
+  public void hashDiffers__WhenSingleByteDiffers__Test() {
+    final byte[] other = CONTENT.clone();
+    other[other.length - 2] ^= 1;
+
+    assertThat(DecodeCache.hash(other)).isNotEqualTo(DecodeCache.hash(CONTENT));
+    assertThat(DecodeCache.hash(CONTENT.clone())).isEqualTo(DecodeCache.hash(CONTENT));
+  }
+
+  @Before
+  public void setUp() {
+    cache = new DecodeCache(16, 1024, Duration.ofMinutes(1), () -> now);
+  }
+
+  private String decode(final byte[] content) {
+    decodes++;
+    return new String(content, StandardCharsets.UTF_8);
+  }
+}
@@ -30,6 +30,8 @@ public class AbstractJsonNodePropertyRetrieverTest {
 
   protected UriFactory uriFactory;
   protected UrlFactory urlFactory;
+  protected StringPool stringPool;
+  protected PropertyFailureCounter failureCounter;
   protected JsonNodePropertyRetriever propertyRetriever;
 
   @Before
@@ -50,7 +52,17 @@ public class AbstractJsonNodePropertyRetrieverTest {
     // Mock the URL factory
     urlFactory = mock(UrlFactory.class);
 
+    // Create the string pool
+    stringPool = new DefaultStringPool(16);
+
+    // Create the failure counter
+    failureCounter = new DefaultPropertyFailureCounter(16);
+
     // Create the test subject
-    propertyRetriever = new DefaultJsonNodePropertyRetriever(uriFactory, urlFactory);
+    propertyRetriever = new DefaultJsonNodePropertyRetriever(
+        new DefaultNetValueCache(uriFactory, urlFactory, 0),
+        stringPool,
+        PropertyFailureMode.DETAILED,
+        failureCounter);
   }
 }
@@ -0,0 +1,157 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdNodeBasedDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link CompositeNodeDeserializer} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class CompositeNodeDeserializerTest {
+
+  // Fixtures
+  private ObjectMapper mapper;
+  private MemberDeserializer memberDeserializer;
+
+  @Test
+  public void convertUsesChildDeserializers__Test() throws Exception {
+    final Team team = mapper.readValue(
+        "{\"leader\":{\"name\":\"Bob\"},\"badge\":{\"code\":\"B-7\",\"level\":3}}",
+        Team.class);
+
+    assertThat(team.leader.name).isEqualTo("Bob");
+    assertThat(team.badge.code).isEqualTo("B-7");
+    assertThat(team.badge.level).isEqualTo(3);
+  }
+
+  @Test
+  public void convertPassesSubtreeToNodeBasedChild__Test() throws Exception {
+    mapper.readValue("{\"leader\":{\"name\":\"Bob\"}}", Team.class);
+    mapper.readValue("{\"leader\":{\"name\":\"Ann\"}}", Team.class);
+
+    // The subtree was converted without being read again
+    assertThat(memberDeserializer.conversions.get()).isEqualTo(2);
+    assertThat(memberDeserializer.deserializations.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void convertOrNullReturnsNull__WhenChildIsMissingOrNull__Test() throws Exception {
+    final Team team = mapper.readValue("{\"leader\":null}", Team.class);
+
+    assertThat(team.leader).isNull();
+    assertThat(team.badge).isNull();
+  }
+
+  @Test
+  public void convertUsesTheChildDeserializersOfEachMapper__WhenSharedByMappers__Test()
+      throws Exception {
+
+    // Prepare the test
+    final TeamDeserializer teamDeserializer = new TeamDeserializer();
+    final MemberDeserializer firstMemberDeserializer = new MemberDeserializer();
+    final MemberDeserializer secondMemberDeserializer = new MemberDeserializer();
+    final ObjectMapper firstMapper = createMapper(firstMemberDeserializer, teamDeserializer);
+    final ObjectMapper secondMapper = createMapper(secondMemberDeserializer, teamDeserializer);
+
+    // Attempt to read with both mappers, in turn
+    firstMapper.readValue("{\"leader\":{\"name\":\"Bob\"}}", Team.class);
+    secondMapper.readValue("{\"leader\":{\"name\":\"Ann\"}}", Team.class);
+    firstMapper.readValue("{\"leader\":{\"name\":\"Bob\"}}", Team.class);
+
+    assertThat(firstMemberDeserializer.conversions.get()).isEqualTo(2);
+    assertThat(secondMemberDeserializer.conversions.get()).isEqualTo(1);
+  }
+
+  @Before
+  public void setUp() {
+    memberDeserializer = new MemberDeserializer();
+    mapper = createMapper(memberDeserializer, new TeamDeserializer());
+  }
+
+  private static ObjectMapper createMapper(
+      final MemberDeserializer memberDeserializer,
+      final TeamDeserializer teamDeserializer) {
+
+    final ObjectMapper mapper = new ObjectMapper();
+    mapper.registerModule(new SimpleModule()
+        .addDeserializer(Member.class, memberDeserializer)
+        .addDeserializer(Team.class, teamDeserializer));
+
+    return mapper;
+  }
+
+  private static class Team {
+
+    private Member leader;
+    private Badge badge;
+  }
+
+  private static class Member {
+
+    private String name;
+  }
+
+  public static class Badge {
+
+    public String code;
+    public int level;
+  }
+
+  private static class TeamDeserializer extends CompositeNodeDeserializer<Team> {
+
+    private final ChildDeserializer<Member> leader = child(Member.class);
+    private final ChildDeserializer<Badge> badge = child(Badge.class);
+
+    TeamDeserializer() {
+      super(Team.class);
+    }
+
+    @Override
+    public Team convert(final JsonNode root, final DeserializationContext ctx) throws IOException {
+      final Team team = new Team();
+      team.leader = convertChildOrNull(leader, root.get("leader"), ctx);
+      team.badge = convertChildOrNull(badge, root.get("badge"), ctx);
+      return team;
+    }
+  }
+
+  private static class MemberDeserializer extends StdNodeBasedDeserializer<Member> {
+
+    private final AtomicInteger conversions = new AtomicInteger();
+    private final AtomicInteger deserializations = new AtomicInteger();
+
+    MemberDeserializer() {
+      super(Member.class);
+    }
+
+    @Override
+    public Member deserialize(
+        final JsonParser parser,
+        final DeserializationContext ctx)
+        throws IOException {
+
+      deserializations.incrementAndGet();
+      return super.deserialize(parser, ctx);
+    }
+
+    @Override
+    public Member convert(final JsonNode root, final DeserializationContext ctx) {
+      conversions.incrementAndGet();
+
+      final Member member = new Member();
+      member.name = root.get("name").asText();
+      return member;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xellitix.commons.net.compat.java.uri.UriFactory;
+import com.xellitix.commons.net.compat.java.url.UrlFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link DefaultCollectingJsonNodePropertyRetriever} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultCollectingJsonNodePropertyRetrieverTest {
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // Fixtures
+  private ObjectMapper mapper;
+  private JsonParser parser;
+  private JsonNodePropertyRetriever propertyRetriever;
+
+  @Test
+  public void collectingRecordsEveryFailure__WhenPropertiesAreMissingOrInvalid__Test()
+      throws Exception {
+
+    // Prepare the test
+    final JsonNode root = mapper.readTree("{\"name\":42,\"active\":true}");
+    final CollectingJsonNodePropertyRetriever collecting = propertyRetriever.collecting();
+
+    // Attempt to get the property values
+    assertThat(collecting.getString(root, "name", parser)).isNull();
+    assertThat(collecting.getInt(root, "age", parser)).isEqualTo(0);
+    assertThat(collecting.getBoolean(root, "active", parser)).isTrue();
+
+    // Validate the failures
+    assertThat(collecting.hasFailures()).isTrue();
+    assertThat(collecting.getFailures())
+        .extracting(PropertyRetrievalException::getError)
+        .containsExactly(PropertyError.STRING_INVALID, PropertyError.MISSING);
+    assertThat(collecting.getFailures())
+        .extracting(PropertyRetrievalException::getProperty)
+        .containsExactly("name", "age");
+  }
+
+  @Test
+  public void throwIfFailedReportsEveryFailure__WhenFailuresWereCollected__Test()
+      throws Exception {
+
+    // Describe the exception to expect
+    thrown.expect(PropertyValidationException.class);
+    thrown.expectMessage("Expected property \"name\" to be a string; "
+        + "Expected property \"age\" to be defined");
+
+    // Prepare the test
+    final JsonNode root = mapper.readTree("{\"name\":42}");
+    final CollectingJsonNodePropertyRetriever collecting = propertyRetriever.collecting();
+    collecting.getStringOrNull(root, "name", parser);
+    collecting.getIntOrNull(root, "age", parser);
+    collecting.getInt(root, "age", parser);
+
+    // Attempt to report the failures
+    collecting.throwIfFailed(parser);
+  }
+
+  @Test
+  public void throwIfFailedDoesNothing__WhenNoFailureWasCollected__Test() throws Exception {
+    // Prepare the test
+    final JsonNode root = mapper.readTree("{\"name\":\"Bob\"}");
+    final CollectingJsonNodePropertyRetriever collecting = propertyRetriever.collecting();
+
+    // Attempt to get the property value
+    assertThat(collecting.getString(root, "name", parser)).isEqualTo("Bob");
+
+    assertThat(collecting.hasFailures()).isFalse();
+    collecting.throwIfFailed(parser);
+  }
+
+  @Test
+  public void stacklessModeThrowsStructuredException__WhenPropertyIsInvalid__Test()
+      throws Exception {
+
+    // Prepare the test
+    final JsonNodePropertyRetriever stackless = new DefaultJsonNodePropertyRetriever(
+        new DefaultNetValueCache(mock(UriFactory.class), mock(UrlFactory.class), 0),
+        new DefaultStringPool(0),
+        PropertyFailureMode.STACKLESS,
+        new DefaultPropertyFailureCounter(0));
+
+    // Attempt to get the property value
+    try {
+      stackless.getLong(mapper.readTree("{\"id\":\"7\"}"), "id", parser);
+    } catch (PropertyRetrievalException ex) {
+      assertThat(ex.getError()).isEqualTo(PropertyError.LONG_INVALID);
+      assertThat(ex.getProperty()).isEqualTo("id");
+      assertThat(ex.getStackTrace()).isEmpty();
+      assertThat(ex.getMessage()).contains("Expected property \"id\" to be a long");
+      return;
+    }
+
+    throw new AssertionError("Expected a PropertyRetrievalException");
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    mapper = new ObjectMapper();
+    parser = mapper.getFactory().createParser("{}");
+
+    // Create the test subject
+    propertyRetriever = new DefaultJsonNodePropertyRetriever(
+        new DefaultNetValueCache(mock(UriFactory.class), mock(UrlFactory.class), 0),
+        new DefaultStringPool(0),
+        PropertyFailureMode.DETAILED,
+        new DefaultPropertyFailureCounter(0));
+  }
+}
@@ -0,0 +1,162 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.xellitix.commons.net.compat.java.uri.UriFactory;
+import com.xellitix.commons.net.compat.java.url.UrlFactory;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link DefaultJsonNodeListRetriever} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultJsonNodeListRetrieverTest {
+
+  // Constants
+  private static final int PARALLELISM_THRESHOLD = 16;
+  private static final int SIZE = 1000;
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // Fixtures
+  private ObjectMapper mapper;
+  private JsonParser parser;
+  private JsonNodePropertyRetriever propertyRetriever;
+  private JsonNodeListRetriever listRetriever;
+
+  @Test
+  public void getListReturnsElementsInOrder__WhenArrayIsSmall__Test() throws Exception {
+    final JsonNode root = mapper.readTree("{\"values\":[3,1,2]}");
+
+    assertThat(listRetriever.getList(root, "values", Integer.class, parser))
+        .containsExactly(3, 1, 2);
+  }
+
+  @Test
+  public void getListReturnsElementsInOrder__WhenArrayIsConvertedInParallel__Test()
+      throws Exception {
+
+    final List<Integer> expected = IntStream.range(0, SIZE)
+        .boxed()
+        .collect(Collectors.toList());
+    final JsonNode root = mapper.readTree("{\"values\":" + expected + "}");
+
+    assertThat(listRetriever.getList(root, "values", Integer.class, parser))
+        .containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  public void getListReportsFailingIndex__WhenElementIsInvalid__Test() throws Exception {
+    final String values = IntStream.range(0, SIZE)
+        .mapToObj(i -> i == 700 ? "\"x\"" : String.valueOf(i))
+        .collect(Collectors.joining(",", "[", "]"));
+    final JsonNode root = mapper.readTree("{\"values\":" + values + "}");
+
+    try {
+      listRetriever.getList(root, "values", Integer.class, parser);
+    } catch (PropertyRetrievalException ex) {
+      assertThat(ex.getError()).isEqualTo(PropertyError.ELEMENT_INVALID);
+      assertThat(ex.getProperty()).isEqualTo("values[700]");
+      assertThat(ex.getCause()).isNotNull();
+      return;
+    }
+
+    throw new AssertionError("Expected a PropertyRetrievalException");
+  }
+
+  @Test
+  public void getListReportsFailingIndex__WhenElementDeserializerThrowsRuntimeException__Test()
+      throws Exception {
+
+    // Prepare the test
+    final ObjectMapper failingMapper = new ObjectMapper().registerModule(new SimpleModule()
+        .addDeserializer(Widget.class, new StdDeserializer<Widget>(Widget.class) {
+          @Override
+          public Widget deserialize(final JsonParser parser, final DeserializationContext ctx)
+              throws IOException {
+
+            if (parser.getIntValue() == 700) {
+              throw new IllegalStateException("Broken widget");
+            }
+
+            return new Widget();
+          }
+        }));
+    final JsonNode root = failingMapper.readTree("{\"values\":" + IntStream.range(0, SIZE)
+        .boxed()
+        .collect(Collectors.toList()) + "}");
+
+    try {
+      listRetriever.getList(root, "values", Widget.class, failingMapper.createParser("{}"));
+    } catch (PropertyRetrievalException ex) {
+      assertThat(ex.getError()).isEqualTo(PropertyError.ELEMENT_INVALID);
+      assertThat(ex.getProperty()).isEqualTo("values[700]");
+      assertThat(ex.getCause()).isInstanceOf(IllegalStateException.class);
+      return;
+    }
+
+    throw new AssertionError("Expected a PropertyRetrievalException");
+  }
+
+  @Test
+  public void getListThrowsException__WhenPropertyIsNotArray__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(PropertyRetrievalException.class);
+    thrown.expectMessage("Expected property \"values\" to be an array");
+
+    // Attempt to get the property value
+    listRetriever.getList(mapper.readTree("{\"values\":1}"), "values", Integer.class, parser);
+  }
+
+  @Test
+  public void getListOrNullReturnsNull__WhenPropertyDoesNotExist__Test() throws Exception {
+    final JsonNode root = mapper.readTree("{}");
+
+    assertThat(listRetriever.getListOrNull(root, "values", Integer.class, parser)).isNull();
+    assertThat(listRetriever.getListOrNull(
+        root,
+        JsonPointer.compile("/a/values"),
+        Integer.class,
+        parser))
+        .isNull();
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    mapper = new ObjectMapper();
+    parser = mapper.getFactory().createParser("{}");
+
+    propertyRetriever = new DefaultJsonNodePropertyRetriever(
+        new DefaultNetValueCache(mock(UriFactory.class), mock(UrlFactory.class), 0),
+        new DefaultStringPool(0),
+        PropertyFailureMode.DETAILED,
+        new DefaultPropertyFailureCounter(0));
+
+    // Create the test subject
+    listRetriever = new DefaultJsonNodeListRetriever(
+        propertyRetriever,
+        PropertyFailureMode.DETAILED,
+        PARALLELISM_THRESHOLD);
+  }
+
+  private static final class Widget {
+  }
+}
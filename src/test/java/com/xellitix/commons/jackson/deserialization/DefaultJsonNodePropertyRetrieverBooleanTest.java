@@ -0,0 +1,125 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
+import static org.powermock.api.mockito.PowerMockito.doReturn;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * {@link DefaultJsonNodePropertyRetriever} boolean value retrieval test case.
+ *
+ * @author Grayson Kuhns
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(JsonNode.class)
+public class DefaultJsonNodePropertyRetrieverBooleanTest extends AbstractJsonNodePropertyRetrieverTest {
+
+  // Constants
+  private static final boolean VALUE = true;
+  private static final String EX_MSG_PROP_INVALID =
+      "Expected property \"foo\" to be a boolean";
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // #getBoolean
+  @Test
+  public void getBooleanReturnsTheValue__WhenPropertyIsValid__Test() throws Exception {
+    // Prepare the test
+    doReturn(VALUE)
+        .when(prop)
+        .asBoolean();
+    doReturn(true)
+        .when(prop)
+        .isBoolean();
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getBoolean(root, PROPERTY, parser))
+        .isEqualTo(VALUE);
+  }
+
+  @Test
+  public void getBooleanThrowsException__WhenPropertyDoesNotExist__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_NULL);
+
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to get the property value
+    propertyRetriever.getBoolean(root, PROPERTY, parser);
+  }
+
+  @Test
+  public void getBooleanThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_INVALID);
+
+    // Prepare the test
+    doReturn(false)
+        .when(prop)
+        .isBoolean();
+
+    // Attempt to get the property value
+    propertyRetriever.getBoolean(root, PROPERTY, parser);
+  }
+
+  // #getBooleanOrDefault
+  @Test
+  public void getBooleanOrDefaultReturnsTheValue__WhenPropertyIsValid__Test() throws Exception {
+    // Prepare the test
+    doReturn(VALUE)
+        .when(prop)
+        .asBoolean();
+    doReturn(true)
+        .when(prop)
+        .isBoolean();
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getBooleanOrDefault(root, PROPERTY, false, parser))
+        .isEqualTo(VALUE);
+  }
+
+  @Test
+  public void getBooleanOrDefaultReturnsTheDefault__WhenPropertyDoesNotExist__Test() throws Exception {
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getBooleanOrDefault(root, PROPERTY, false, parser))
+        .isEqualTo(false);
+  }
+
+  @Test
+  public void getBooleanOrDefaultThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_INVALID);
+
+    // Prepare the test
+    doReturn(false)
+        .when(prop)
+        .isBoolean();
+
+    // Attempt to get the property value
+    propertyRetriever.getBooleanOrDefault(root, PROPERTY, false, parser);
+  }
+}
@@ -0,0 +1,125 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
+import static org.powermock.api.mockito.PowerMockito.doReturn;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * {@link DefaultJsonNodePropertyRetriever} double value retrieval test case.
+ *
+ * @author Grayson Kuhns
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(JsonNode.class)
+public class DefaultJsonNodePropertyRetrieverDoubleTest extends AbstractJsonNodePropertyRetrieverTest {
+
+  // Constants
+  private static final double VALUE = 4.2;
+  private static final String EX_MSG_PROP_INVALID =
+      "Expected property \"foo\" to be a double";
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // #getDouble
+  @Test
+  public void getDoubleReturnsTheValue__WhenPropertyIsValid__Test() throws Exception {
+    // Prepare the test
+    doReturn(VALUE)
+        .when(prop)
+        .asDouble();
+    doReturn(true)
+        .when(prop)
+        .isNumber();
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getDouble(root, PROPERTY, parser))
+        .isEqualTo(VALUE);
+  }
+
+  @Test
+  public void getDoubleThrowsException__WhenPropertyDoesNotExist__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_NULL);
+
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to get the property value
+    propertyRetriever.getDouble(root, PROPERTY, parser);
+  }
+
+  @Test
+  public void getDoubleThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_INVALID);
+
+    // Prepare the test
+    doReturn(false)
+        .when(prop)
+        .isNumber();
+
+    // Attempt to get the property value
+    propertyRetriever.getDouble(root, PROPERTY, parser);
+  }
+
+  // #getDoubleOrDefault
+  @Test
+  public void getDoubleOrDefaultReturnsTheValue__WhenPropertyIsValid__Test() throws Exception {
+    // Prepare the test
+    doReturn(VALUE)
+        .when(prop)
+        .asDouble();
+    doReturn(true)
+        .when(prop)
+        .isNumber();
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getDoubleOrDefault(root, PROPERTY, 7.0, parser))
+        .isEqualTo(VALUE);
+  }
+
+  @Test
+  public void getDoubleOrDefaultReturnsTheDefault__WhenPropertyDoesNotExist__Test() throws Exception {
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getDoubleOrDefault(root, PROPERTY, 7.0, parser))
+        .isEqualTo(7.0);
+  }
+
+  @Test
+  public void getDoubleOrDefaultThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_INVALID);
+
+    // Prepare the test
+    doReturn(false)
+        .when(prop)
+        .isNumber();
+
+    // Attempt to get the property value
+    propertyRetriever.getDoubleOrDefault(root, PROPERTY, 7.0, parser);
+  }
+}
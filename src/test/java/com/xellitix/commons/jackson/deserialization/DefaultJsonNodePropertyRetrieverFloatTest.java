@@ -0,0 +1,125 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
+import static org.powermock.api.mockito.PowerMockito.doReturn;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * {@link DefaultJsonNodePropertyRetriever} float value retrieval test case.
+ *
+ * @author Grayson Kuhns
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(JsonNode.class)
+public class DefaultJsonNodePropertyRetrieverFloatTest extends AbstractJsonNodePropertyRetrieverTest {
+
+  // Constants
+  private static final float VALUE = 4.5f;
+  private static final String EX_MSG_PROP_INVALID =
+      "Expected property \"foo\" to be a float";
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // #getFloat
+  @Test
+  public void getFloatReturnsTheValue__WhenPropertyIsValid__Test() throws Exception {
+    // Prepare the test
+    doReturn((double) VALUE)
+        .when(prop)
+        .asDouble();
+    doReturn(true)
+        .when(prop)
+        .isNumber();
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getFloat(root, PROPERTY, parser))
+        .isEqualTo(VALUE);
+  }
+
+  @Test
+  public void getFloatThrowsException__WhenPropertyDoesNotExist__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_NULL);
+
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to get the property value
+    propertyRetriever.getFloat(root, PROPERTY, parser);
+  }
+
+  @Test
+  public void getFloatThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_INVALID);
+
+    // Prepare the test
+    doReturn(false)
+        .when(prop)
+        .isNumber();
+
+    // Attempt to get the property value
+    propertyRetriever.getFloat(root, PROPERTY, parser);
+  }
+
+  // #getFloatOrDefault
+  @Test
+  public void getFloatOrDefaultReturnsTheValue__WhenPropertyIsValid__Test() throws Exception {
+    // Prepare the test
+    doReturn((double) VALUE)
+        .when(prop)
+        .asDouble();
+    doReturn(true)
+        .when(prop)
+        .isNumber();
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getFloatOrDefault(root, PROPERTY, 7.0f, parser))
+        .isEqualTo(VALUE);
+  }
+
+  @Test
+  public void getFloatOrDefaultReturnsTheDefault__WhenPropertyDoesNotExist__Test() throws Exception {
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getFloatOrDefault(root, PROPERTY, 7.0f, parser))
+        .isEqualTo(7.0f);
+  }
+
+  @Test
+  public void getFloatOrDefaultThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_INVALID);
+
+    // Prepare the test
+    doReturn(false)
+        .when(prop)
+        .isNumber();
+
+    // Attempt to get the property value
+    propertyRetriever.getFloatOrDefault(root, PROPERTY, 7.0f, parser);
+  }
+}
@@ -94,6 +94,28 @@ public class DefaultJsonNodePropertyRetrieverIntegerTest extends AbstractJsonNod
     propertyRetriever.getInt(root, PROPERTY, parser);
   }
 
+  @Test
+  public void getIntCountsTheFailure__WhenPropertyIsInvalid__Test() throws Exception {
+    // Prepare the test
+    doReturn(false)
+        .when(prop)
+        .isInt();
+
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_INVALID);
+
+    // Attempt to get the property value
+    try {
+      propertyRetriever.getInt(root, PROPERTY, parser);
+    } finally {
+      final PropertyFailureCount failure = failureCounter.getTopFailures(1).get(0);
+      assertThat(failure.getProperty()).isEqualTo(PROPERTY);
+      assertThat(failure.getError()).isEqualTo(PropertyError.INT_INVALID);
+      assertThat(failure.getCount()).isEqualTo(1);
+    }
+  }
+
   // #getIntOrNull
   @Test
   public void getIntOrNullReturnsTheValue__WhenPropertyIsInt__Test() throws Exception {
@@ -155,4 +177,49 @@ public class DefaultJsonNodePropertyRetrieverIntegerTest extends AbstractJsonNod
     // Attempt to get the property value
     propertyRetriever.getIntOrNull(root, PROPERTY, parser);
   }
+
+  // #getIntOrDefault
+  @Test
+  public void getIntOrDefaultReturnsTheValue__WhenPropertyIsValid__Test() throws Exception {
+    // Prepare the test
+    doReturn(VALUE)
+        .when(prop)
+        .asInt();
+    doReturn(true)
+        .when(prop)
+        .isInt();
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getIntOrDefault(root, PROPERTY, 7, parser))
+        .isEqualTo(VALUE);
+  }
+
+  @Test
+  public void getIntOrDefaultReturnsTheDefault__WhenPropertyDoesNotExist__Test() throws Exception {
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getIntOrDefault(root, PROPERTY, 7, parser))
+        .isEqualTo(7);
+  }
+
+  @Test
+  public void getIntOrDefaultThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_INVALID);
+
+    // Prepare the test
+    doReturn(false)
+        .when(prop)
+        .isInt();
+
+    // Attempt to get the property value
+    propertyRetriever.getIntOrDefault(root, PROPERTY, 7, parser);
+  }
 }
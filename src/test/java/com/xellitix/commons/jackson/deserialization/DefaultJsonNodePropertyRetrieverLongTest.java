@@ -186,4 +186,49 @@ public class DefaultJsonNodePropertyRetrieverLongTest extends AbstractJsonNodePr
     // Attempt to get the property value
     propertyRetriever.getLongOrNull(root, PROPERTY, parser);
   }
+
+  // #getLongOrDefault
+  @Test
+  public void getLongOrDefaultReturnsTheValue__WhenPropertyIsValid__Test() throws Exception {
+    // Prepare the test
+    doReturn(VALUE)
+        .when(prop)
+        .asLong();
+    doReturn(true)
+        .when(prop)
+        .isLong();
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getLongOrDefault(root, PROPERTY, 7L, parser))
+        .isEqualTo(VALUE);
+  }
+
+  @Test
+  public void getLongOrDefaultReturnsTheDefault__WhenPropertyDoesNotExist__Test() throws Exception {
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever
+        .getLongOrDefault(root, PROPERTY, 7L, parser))
+        .isEqualTo(7L);
+  }
+
+  @Test
+  public void getLongOrDefaultThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_INVALID);
+
+    // Prepare the test
+    doReturn(false)
+        .when(prop)
+        .isLong();
+
+    // Attempt to get the property value
+    propertyRetriever.getLongOrDefault(root, PROPERTY, 7L, parser);
+  }
 }
@@ -0,0 +1,91 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xellitix.commons.net.compat.java.uri.UriFactory;
+import com.xellitix.commons.net.compat.java.url.UrlFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link DefaultJsonNodePropertyRetriever} JSON Pointer retrieval test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultJsonNodePropertyRetrieverPathTest {
+
+  // Constants
+  private static final JsonPointer CITY = JsonPointer.compile("/address/city");
+  private static final JsonPointer LAT = JsonPointer.compile("/address/geo/0/lat");
+  private static final JsonPointer ZIP = JsonPointer.compile("/address/zip");
+  private static final String JSON = "{\"address\":{\"city\":\"Paris\",\"zip\":null,"
+      + "\"geo\":[{\"lat\":48.85,\"lng\":2.35}]}}";
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // Fixtures
+  private JsonNode root;
+  private JsonParser parser;
+  private JsonNodePropertyRetriever propertyRetriever;
+
+  @Test
+  public void getStringReturnsTheValue__WhenPathExists__Test() throws Exception {
+    assertThat(propertyRetriever.getString(root, CITY, parser)).isEqualTo("Paris");
+  }
+
+  @Test
+  public void getDoubleReturnsTheValue__WhenPathTraversesArray__Test() throws Exception {
+    assertThat(propertyRetriever.getDouble(root, LAT, parser)).isEqualTo(48.85);
+  }
+
+  @Test
+  public void getStringOrNullReturnsNull__WhenPathValueIsNull__Test() throws Exception {
+    assertThat(propertyRetriever.getStringOrNull(root, ZIP, parser)).isNull();
+    assertThat(propertyRetriever.hasProperty(root, ZIP)).isFalse();
+    assertThat(propertyRetriever.hasProperty(root, CITY)).isTrue();
+  }
+
+  @Test
+  public void getIntThrowsException__WhenPathDoesNotExist__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage("Expected property \"/address/geo/1/lat\" to be defined");
+
+    // Attempt to get the property value
+    propertyRetriever.getInt(root, JsonPointer.compile("/address/geo/1/lat"), parser);
+  }
+
+  @Test
+  public void getIntThrowsException__WhenPathValueIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage("Expected property \"/address/city\" to be an integer");
+
+    // Attempt to get the property value
+    propertyRetriever.getInt(root, CITY, parser);
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    final ObjectMapper mapper = new ObjectMapper();
+    root = mapper.readTree(JSON);
+    parser = mapper.getFactory().createParser(JSON);
+
+    // Create the test subject
+    propertyRetriever = new DefaultJsonNodePropertyRetriever(
+        new DefaultNetValueCache(mock(UriFactory.class), mock(UrlFactory.class), 0),
+        new DefaultStringPool(0),
+        PropertyFailureMode.DETAILED,
+        new DefaultPropertyFailureCounter(0));
+  }
+}
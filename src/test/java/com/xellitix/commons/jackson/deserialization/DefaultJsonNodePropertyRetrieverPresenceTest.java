@@ -0,0 +1,56 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
+import static org.powermock.api.mockito.PowerMockito.doReturn;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * {@link DefaultJsonNodePropertyRetriever} property presence test case.
+ *
+ * @author Grayson Kuhns
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(JsonNode.class)
+public class DefaultJsonNodePropertyRetrieverPresenceTest
+    extends AbstractJsonNodePropertyRetrieverTest {
+
+  // #hasProperty
+  @Test
+  public void hasPropertyReturnsTrue__WhenPropertyIsDefined__Test() throws Exception {
+    assertThat(propertyRetriever
+        .hasProperty(root, PROPERTY))
+        .isTrue();
+  }
+
+  @Test
+  public void hasPropertyReturnsFalse__WhenPropertyDoesNotExist__Test() throws Exception {
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to check the property
+    assertThat(propertyRetriever
+        .hasProperty(root, PROPERTY))
+        .isFalse();
+  }
+
+  @Test
+  public void hasPropertyReturnsFalse__WhenPropertyIsNull__Test() throws Exception {
+    // Prepare the test
+    doReturn(true)
+        .when(prop)
+        .isNull();
+
+    // Attempt to check the property
+    assertThat(propertyRetriever
+        .hasProperty(root, PROPERTY))
+        .isFalse();
+  }
+}
@@ -124,4 +124,38 @@ public class DefaultJsonNodePropertyRetrieverStringTest extends AbstractJsonNode
     // Attempt to get the property value
     propertyRetriever.getStringOrNull(root, PROPERTY, parser);
   }
+
+  // #getPooledString
+  @Test
+  public void getPooledStringReturnsCanonicalInstance__WhenValuesAreEqual__Test()
+      throws Exception {
+
+    // Prepare the test
+    final String first = new String(VALUE);
+    final String second = new String(VALUE);
+    doReturn(first, second)
+        .when(prop)
+        .asText();
+    doReturn(true)
+        .when(prop)
+        .isTextual();
+
+    // Attempt to get the property values
+    assertThat(propertyRetriever.getPooledString(root, PROPERTY, parser)).isSameAs(first);
+    assertThat(propertyRetriever.getPooledString(root, PROPERTY, parser)).isSameAs(first);
+    assertThat(stringPool.getStats().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  public void getPooledStringOrNullReturnsNull__WhenPropertyDoesNotExist__Test()
+      throws Exception {
+
+    // Prepare the test
+    doReturn(null)
+        .when(root)
+        .get(eq(PROPERTY));
+
+    // Attempt to get the property value
+    assertThat(propertyRetriever.getPooledStringOrNull(root, PROPERTY, parser)).isNull();
+  }
 }
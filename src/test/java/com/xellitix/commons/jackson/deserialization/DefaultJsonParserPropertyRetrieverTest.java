@@ -0,0 +1,190 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
+import static org.powermock.api.mockito.PowerMockito.doReturn;
+import static org.powermock.api.mockito.PowerMockito.doThrow;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.xellitix.commons.net.compat.java.uri.UriFactory;
+import com.xellitix.commons.net.compat.java.url.UrlFactory;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link DefaultJsonParserPropertyRetriever} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultJsonParserPropertyRetrieverTest {
+
+  // Constants
+  private static final String PROPERTY = "foo";
+  private static final String URI_VALUE = "https://foo.bar";
+
+  private static final String EX_MSG_PROP_NULL =
+      "Expected property \"foo\" to be defined";
+  private static final String EX_MSG_STRING_INVALID =
+      "Expected property \"foo\" to be a string";
+  private static final String EX_MSG_INT_INVALID =
+      "Expected property \"foo\" to be an integer";
+  private static final String EX_MSG_LONG_INVALID =
+      "Expected property \"foo\" to be a long";
+  private static final String EX_MSG_URI_INVALID =
+      "Expected property \"foo\" to be a valid URI";
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // Fixtures
+  private JsonFactory jsonFactory;
+  private UriFactory uriFactory;
+  private JsonParserPropertyRetriever propertyRetriever;
+
+  // #getString
+  @Test
+  public void getStringReturnsTheValue__WhenValueIsString__Test() throws Exception {
+    assertThat(propertyRetriever
+        .getString(parserAt("\"bar\""), PROPERTY))
+        .isEqualTo("bar");
+  }
+
+  @Test
+  public void getStringThrowsException__WhenValueIsNull__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_NULL);
+
+    // Attempt to get the property value
+    propertyRetriever.getString(parserAt("null"), PROPERTY);
+  }
+
+  @Test
+  public void getStringOrNullThrowsException__WhenValueIsNotString__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_STRING_INVALID);
+
+    // Attempt to get the property value
+    propertyRetriever.getStringOrNull(parserAt("42"), PROPERTY);
+  }
+
+  // #getInt
+  @Test
+  public void getIntReturnsTheValue__WhenValueIsInt__Test() throws Exception {
+    assertThat(propertyRetriever
+        .getInt(parserAt("42"), PROPERTY))
+        .isEqualTo(42);
+  }
+
+  @Test
+  public void getIntOrNullReturnsNull__WhenValueIsNull__Test() throws Exception {
+    assertThat(propertyRetriever
+        .getIntOrNull(parserAt("null"), PROPERTY))
+        .isNull();
+  }
+
+  @Test
+  public void getIntThrowsException__WhenValueIsLong__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_INT_INVALID);
+
+    // Attempt to get the property value
+    propertyRetriever.getInt(parserAt("4200000000"), PROPERTY);
+  }
+
+  // #getLong
+  @Test
+  public void getLongReturnsTheValue__WhenValueIsLong__Test() throws Exception {
+    assertThat(propertyRetriever
+        .getLong(parserAt("4200000000"), PROPERTY))
+        .isEqualTo(4200000000L);
+  }
+
+  @Test
+  public void getLongReturnsTheValue__WhenValueIsInt__Test() throws Exception {
+    assertThat(propertyRetriever
+        .getLong(parserAt("42"), PROPERTY))
+        .isEqualTo(42L);
+  }
+
+  @Test
+  public void getLongThrowsException__WhenValueIsFloat__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_LONG_INVALID);
+
+    // Attempt to get the property value
+    propertyRetriever.getLong(parserAt("4.2"), PROPERTY);
+  }
+
+  // #getUri
+  @Test
+  public void getUriReturnsTheValue__WhenValueIsValidUri__Test() throws Exception {
+    assertThat(propertyRetriever
+        .getUri(parserAt("\"" + URI_VALUE + "\""), PROPERTY))
+        .isEqualTo(new URI(URI_VALUE));
+  }
+
+  @Test
+  public void getUriThrowsException__WhenValueIsNotValidUri__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_URI_INVALID);
+
+    // Prepare the test
+    doThrow(new URISyntaxException(URI_VALUE, "because"))
+        .when(uriFactory)
+        .create(eq(URI_VALUE));
+
+    // Attempt to get the property value
+    propertyRetriever.getUri(parserAt("\"" + URI_VALUE + "\""), PROPERTY);
+  }
+
+  // #require
+  @Test
+  public void requireThrowsException__WhenValueIsNull__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage(EX_MSG_PROP_NULL);
+
+    // Attempt to require the value
+    propertyRetriever.require(null, PROPERTY, parserAt("null"));
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    jsonFactory = new JsonFactory();
+
+    // Mock the URI factory
+    uriFactory = mock(UriFactory.class);
+    doReturn(new URI(URI_VALUE))
+        .when(uriFactory)
+        .create(eq(URI_VALUE));
+
+    // Create the test subject
+    propertyRetriever = new DefaultJsonParserPropertyRetriever(
+        new DefaultNetValueCache(uriFactory, mock(UrlFactory.class), 0),
+        PropertyFailureMode.DETAILED);
+  }
+
+  private JsonParser parserAt(final String value) throws IOException {
+    final JsonParser parser = jsonFactory.createParser("{\"" + PROPERTY + "\":" + value + "}");
+
+    // START_OBJECT, FIELD_NAME, value
+    parser.nextToken();
+    parser.nextToken();
+    parser.nextToken();
+    return parser;
+  }
+}
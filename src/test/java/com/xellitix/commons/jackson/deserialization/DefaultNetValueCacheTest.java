@@ -0,0 +1,105 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.doReturn;
+import static org.powermock.api.mockito.PowerMockito.doThrow;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import com.xellitix.commons.net.compat.java.uri.UriFactory;
+import com.xellitix.commons.net.compat.java.url.UrlFactory;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link DefaultNetValueCache} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultNetValueCacheTest {
+
+  // Constants
+  private static final String VALUE = "https://example.com/members";
+
+  // Fixtures
+  private UriFactory uriFactory;
+  private UrlFactory urlFactory;
+  private URI uri;
+  private URL url;
+
+  @Test
+  public void getUriReusesValue__WhenCachingIsEnabled__Test() throws Exception {
+    final NetValueCache cache = new DefaultNetValueCache(uriFactory, urlFactory, 16);
+
+    assertThat(cache.getUri(VALUE)).isSameAs(uri);
+    assertThat(cache.getUri(VALUE)).isSameAs(uri);
+
+    verify(uriFactory, times(1)).create(eq(VALUE));
+    assertThat(cache.getUriStats().getHits()).isEqualTo(1);
+    assertThat(cache.getUriStats().getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void getUrlReusesValue__WhenCachingIsEnabled__Test() throws Exception {
+    final NetValueCache cache = new DefaultNetValueCache(uriFactory, urlFactory, 16);
+
+    assertThat(cache.getUrl(VALUE)).isSameAs(url);
+    assertThat(cache.getUrl(VALUE)).isSameAs(url);
+
+    verify(urlFactory, times(1)).create(eq(VALUE));
+    assertThat(cache.getUrlStats().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  public void getUrlCreatesEveryValue__WhenCachingIsDisabled__Test() throws Exception {
+    final NetValueCache cache = new DefaultNetValueCache(uriFactory, urlFactory, 0);
+
+    cache.getUrl(VALUE);
+    cache.getUrl(VALUE);
+
+    verify(urlFactory, times(2)).create(eq(VALUE));
+    assertThat(cache.getUrlStats().getRequests()).isEqualTo(0);
+  }
+
+  @Test
+  public void getUrlDoesNotCacheFailures__Test() throws Exception {
+    doThrow(new MalformedURLException())
+        .when(urlFactory)
+        .create(eq("bad"));
+
+    final NetValueCache cache = new DefaultNetValueCache(uriFactory, urlFactory, 16);
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        cache.getUrl("bad");
+      } catch (MalformedURLException ex) {
+        // Expected
+      }
+    }
+
+    verify(urlFactory, times(2)).create(eq("bad"));
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    uri = new URI(VALUE);
+    url = new URL(VALUE);
+
+    // Mock the URI factory
+    uriFactory = mock(UriFactory.class);
+    doReturn(uri)
+        .when(uriFactory)
+        .create(eq(VALUE));
+
+    // Mock the URL factory
+    urlFactory = mock(UrlFactory.class);
+    doReturn(url)
+        .when(urlFactory)
+        .create(eq(VALUE));
+  }
+}
@@ -0,0 +1,63 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * {@link DefaultPropertyFailureCounter} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultPropertyFailureCounterTest {
+
+  @Test
+  public void getTopFailuresReturnsMostFrequentFirst__Test() {
+    // Prepare the test
+    final PropertyFailureCounter counter = new DefaultPropertyFailureCounter(16);
+    counter.record("age", PropertyError.INT_INVALID);
+    counter.record("website", PropertyError.URL_INVALID);
+    counter.record("website", PropertyError.URL_INVALID);
+    counter.record("website", PropertyError.MISSING);
+    counter.record("website", PropertyError.URL_INVALID);
+
+    // Attempt to get the top failures
+    final List<PropertyFailureCount> failures = counter.getTopFailures(2);
+
+    assertThat(failures).hasSize(2);
+    assertThat(failures.get(0).getProperty()).isEqualTo("website");
+    assertThat(failures.get(0).getError()).isEqualTo(PropertyError.URL_INVALID);
+    assertThat(failures.get(0).getCount()).isEqualTo(3);
+    assertThat(failures.get(1).getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void recordCountsOverflow__WhenCounterIsFull__Test() {
+    final PropertyFailureCounter counter = new DefaultPropertyFailureCounter(1);
+    counter.record("age", PropertyError.INT_INVALID);
+    counter.record("name", PropertyError.MISSING);
+    counter.record("age", PropertyError.MISSING);
+
+    assertThat(counter.getTopFailures(10)).hasSize(2);
+    assertThat(counter.getOverflowCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void recordDoesNothing__WhenCountingIsDisabled__Test() {
+    final PropertyFailureCounter counter = new DefaultPropertyFailureCounter(0);
+    counter.record("age", PropertyError.INT_INVALID);
+
+    assertThat(counter.getTopFailures(10)).isEmpty();
+    assertThat(counter.getOverflowCount()).isZero();
+  }
+
+  @Test
+  public void resetClearsTheCounts__Test() {
+    final PropertyFailureCounter counter = new DefaultPropertyFailureCounter(16);
+    counter.record("age", PropertyError.INT_INVALID);
+    counter.reset();
+
+    assertThat(counter.getTopFailures(10)).isEmpty();
+  }
+}
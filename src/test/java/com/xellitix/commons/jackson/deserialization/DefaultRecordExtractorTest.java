@@ -0,0 +1,109 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
+import static org.powermock.api.mockito.PowerMockito.doReturn;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xellitix.commons.net.compat.java.uri.UriFactory;
+import com.xellitix.commons.net.compat.java.url.UrlFactory;
+import java.net.URI;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link DefaultRecordExtractor} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultRecordExtractorTest {
+
+  // Constants
+  private static final String URI_VALUE = "https://foo.bar";
+
+  private static final RecordSchema SCHEMA = RecordSchema.builder()
+      .required("name", PropertyType.STRING)
+      .required("age", PropertyType.INT)
+      .optional("id", PropertyType.LONG)
+      .optional("site", PropertyType.URI)
+      .build();
+
+  private static final int NAME = SCHEMA.indexOf("name");
+  private static final int AGE = SCHEMA.indexOf("age");
+  private static final int ID = SCHEMA.indexOf("id");
+  private static final int SITE = SCHEMA.indexOf("site");
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // Fixtures
+  private ObjectMapper mapper;
+  private JsonParser parser;
+  private RecordExtractor extractor;
+  private RecordValues values;
+
+  @Test
+  public void extractFillsTheValues__WhenPropertiesAreValid__Test() throws Exception {
+    // Attempt to extract the values
+    extractor.extract(
+        mapper.readTree("{\"name\":\"Bob\",\"age\":20,\"site\":\"" + URI_VALUE + "\",\"x\":1}"),
+        parser,
+        values);
+
+    assertThat(values.getString(NAME)).isEqualTo("Bob");
+    assertThat(values.getInt(AGE)).isEqualTo(20);
+    assertThat(values.isPresent(ID)).isFalse();
+    assertThat(values.getUri(SITE)).isEqualTo(new URI(URI_VALUE));
+  }
+
+  @Test
+  public void extractClearsTheValues__WhenHolderIsReused__Test() throws Exception {
+    // Prepare the test
+    extractor.extract(mapper.readTree("{\"name\":\"Bob\",\"age\":20,\"id\":7}"), parser, values);
+
+    // Attempt to extract the values
+    extractor.extract(mapper.readTree("{\"name\":\"Sally\",\"age\":32}"), parser, values);
+
+    assertThat(values.getString(NAME)).isEqualTo("Sally");
+    assertThat(values.isPresent(ID)).isFalse();
+    assertThat(values.getLong(ID)).isEqualTo(0L);
+  }
+
+  @Test
+  public void extractReportsEveryFailure__WhenPropertiesAreMissingOrInvalid__Test()
+      throws Exception {
+
+    // Describe the exception to expect
+    thrown.expect(PropertyValidationException.class);
+    thrown.expectMessage("Expected property \"age\" to be an integer; "
+        + "Expected property \"id\" to be a long; "
+        + "Expected property \"name\" to be defined");
+
+    // Attempt to extract the values
+    extractor.extract(mapper.readTree("{\"age\":\"20\",\"id\":4.2}"), parser, values);
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    mapper = new ObjectMapper();
+    parser = mapper.getFactory().createParser("{}");
+
+    // Mock the URI factory
+    final UriFactory uriFactory = mock(UriFactory.class);
+    doReturn(new URI(URI_VALUE))
+        .when(uriFactory)
+        .create(eq(URI_VALUE));
+
+    // Create the test subject
+    extractor = new DefaultRecordExtractorFactory(
+        new DefaultNetValueCache(uriFactory, mock(UrlFactory.class), 0),
+        PropertyFailureMode.DETAILED)
+        .create(SCHEMA);
+    values = extractor.newValues();
+  }
+}
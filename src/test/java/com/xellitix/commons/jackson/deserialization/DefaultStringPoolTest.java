@@ -0,0 +1,43 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * {@link DefaultStringPool} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultStringPoolTest {
+
+  // Constants
+  private static final String VALUE = "US";
+
+  @Test
+  public void canonicalizeReturnsFirstInstance__WhenPoolingIsEnabled__Test() {
+    final StringPool pool = new DefaultStringPool(16);
+    final String first = new String(VALUE);
+    final String second = new String(VALUE);
+
+    assertThat(pool.canonicalize(first)).isSameAs(first);
+    assertThat(pool.canonicalize(second)).isSameAs(first);
+    assertThat(pool.getStats().getHits()).isEqualTo(1);
+    assertThat(pool.getStats().getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void canonicalizeReturnsValue__WhenPoolingIsDisabled__Test() {
+    final StringPool pool = new DefaultStringPool(0);
+    final String second = new String(VALUE);
+
+    pool.canonicalize(new String(VALUE));
+    assertThat(pool.canonicalize(second)).isSameAs(second);
+    assertThat(pool.getStats().getRequests()).isEqualTo(0);
+  }
+
+  @Test
+  public void canonicalizeReturnsNull__WhenValueIsNull__Test() {
+    assertThat(new DefaultStringPool(16).canonicalize(null)).isNull();
+  }
+}
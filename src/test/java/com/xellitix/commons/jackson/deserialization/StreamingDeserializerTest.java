@@ -0,0 +1,127 @@
+package com.xellitix.commons.jackson.deserialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.powermock.api.mockito.PowerMockito.mock;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.xellitix.commons.net.compat.java.uri.UriFactory;
+import com.xellitix.commons.net.compat.java.url.UrlFactory;
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link StreamingDeserializer} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class StreamingDeserializerTest {
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // Fixtures
+  private ObjectMapper mapper;
+
+  @Test
+  public void deserializeReadsTheProperties__WhenObjectIsValid__Test() throws Exception {
+    final Member member = mapper.readValue(
+        "{\"name\":\"Bob\",\"ignored\":{\"a\":[1,2]},\"age\":20}",
+        Member.class);
+
+    assertThat(member.name).isEqualTo("Bob");
+    assertThat(member.age).isEqualTo(20);
+  }
+
+  @Test
+  public void deserializeThrowsException__WhenPropertyIsMissing__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage("Expected property \"age\" to be defined");
+
+    // Attempt to deserialize the value
+    mapper.readValue("{\"name\":\"Bob\"}", Member.class);
+  }
+
+  @Test
+  public void deserializeThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage("Expected property \"name\" to be a string");
+
+    // Attempt to deserialize the value
+    mapper.readValue("{\"name\":42,\"age\":20}", Member.class);
+  }
+
+  @Before
+  public void setUp() {
+    final JsonParserPropertyRetriever propertyRetriever = new DefaultJsonParserPropertyRetriever(
+        new DefaultNetValueCache(mock(UriFactory.class), mock(UrlFactory.class), 0),
+        PropertyFailureMode.DETAILED);
+
+    mapper = new ObjectMapper();
+    mapper.registerModule(new SimpleModule()
+        .addDeserializer(Member.class, new MemberDeserializer(propertyRetriever)));
+  }
+
+  private static class Member {
+
+    private String name;
+    private Integer age;
+  }
+
+  private static class MemberDeserializer extends StreamingDeserializer<Member, Member> {
+
+    private final JsonParserPropertyRetriever propertyRetriever;
+
+    MemberDeserializer(final JsonParserPropertyRetriever propertyRetriever) {
+      super(Member.class);
+      this.propertyRetriever = propertyRetriever;
+    }
+
+    @Override
+    protected Member createState(final DeserializationContext ctx) {
+      return new Member();
+    }
+
+    @Override
+    protected boolean readProperty(
+        final Member state,
+        final String property,
+        final JsonParser parser,
+        final DeserializationContext ctx)
+        throws IOException {
+
+      switch (property) {
+        case "name":
+          state.name = propertyRetriever.getString(parser, property);
+          return true;
+
+        case "age":
+          state.age = propertyRetriever.getInt(parser, property);
+          return true;
+
+        default:
+          return false;
+      }
+    }
+
+    @Override
+    protected Member build(
+        final Member state,
+        final JsonParser parser,
+        final DeserializationContext ctx)
+        throws IOException {
+
+      propertyRetriever.require(state.age, "age", parser);
+      return state;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.xellitix.commons.jackson.generation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Guice;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.xellitix.commons.jackson.deserialization.JsonDeserializationUtilsModule;
+import com.xellitix.commons.jackson.generation.test.GeneratedDeserializerModule;
+import com.xellitix.commons.jackson.generation.test.GeneratedShipmentDeserializer;
+import com.xellitix.commons.jackson.generation.test.Label;
+import com.xellitix.commons.jackson.generation.test.Shipment;
+import com.xellitix.commons.jackson.generation.test.ShipmentModule;
+import com.xellitix.commons.jackson.objectmapper.ObjectMapperModule;
+import com.xellitix.commons.net.compat.java.JavaNetCompatibilityModule;
+import java.net.URI;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test case for the deserializers generated by the {@link DeserializerProcessor}.
+ *
+ * @author Grayson Kuhns
+ */
+public class GeneratedDeserializerTest {
+
+  // Constants
+  private static final String TRACKING_URI = "https://track.example.com/42";
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  // Fixtures
+  private ObjectMapper mapper;
+
+  @Test
+  public void deserializeReadsTheProperties__WhenPropertiesAreInOrder__Test() throws Exception {
+    final Shipment shipment = mapper.readValue(
+        "{\"id\":42,\"carrier\":\"UPS\",\"weight_grams\":1200,\"tracking_uri\":\""
+            + TRACKING_URI + "\"}",
+        Shipment.class);
+
+    assertThat(shipment.getId()).isEqualTo(42L);
+    assertThat(shipment.getCarrier()).isEqualTo("UPS");
+    assertThat(shipment.getWeight()).isEqualTo(1200);
+    assertThat(shipment.getTrackingUri()).isEqualTo(URI.create(TRACKING_URI));
+  }
+
+  @Test
+  public void deserializeReadsTheProperties__WhenPropertiesAreReordered__Test() throws Exception {
+    final Shipment shipment = mapper.readValue(
+        "{\"weight_grams\":1200,\"ignored\":{\"a\":[1,2]},\"carrier\":\"UPS\",\"id\":42}",
+        Shipment.class);
+
+    assertThat(shipment.getId()).isEqualTo(42L);
+    assertThat(shipment.getCarrier()).isEqualTo("UPS");
+    assertThat(shipment.getWeight()).isEqualTo(1200);
+    assertThat(shipment.getTrackingUri()).isNull();
+  }
+
+  @Test
+  public void deserializeSkipsUnknownProperties__WhenFastPathIsInterrupted__Test()
+      throws Exception {
+
+    final Shipment[] shipments = mapper.readValue(
+        "[{\"id\":1,\"carrier\":\"UPS\",\"extra\":[{}],\"weight_grams\":5,\"tracking_uri\":null},"
+            + "{\"id\":2,\"carrier\":\"DHL\",\"weight_grams\":6}]",
+        Shipment[].class);
+
+    assertThat(shipments).hasSize(2);
+    assertThat(shipments[0].getWeight()).isEqualTo(5);
+    assertThat(shipments[0].getTrackingUri()).isNull();
+    assertThat(shipments[1].getId()).isEqualTo(2L);
+    assertThat(shipments[1].getCarrier()).isEqualTo("DHL");
+  }
+
+  @Test
+  public void deserializeThrowsException__WhenRequiredPropertyIsMissing__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage("Expected property \"carrier\" to be defined");
+
+    // Attempt to deserialize the value
+    mapper.readValue("{\"id\":42,\"weight_grams\":1200}", Shipment.class);
+  }
+
+  @Test
+  public void deserializeThrowsException__WhenPropertyIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(JsonMappingException.class);
+    thrown.expectMessage("Expected property \"carrier\" to be a string");
+
+    // Attempt to deserialize the value
+    mapper.readValue("{\"id\":42,\"carrier\":7,\"weight_grams\":1200}", Shipment.class);
+  }
+
+  @Test
+  public void deserializeReadsTheProperties__WhenConstantNamesSharePrefix__Test()
+      throws Exception {
+
+    final Label label = mapper.readValue(
+        "{\"name\":\"Shipping\",\"nameField\":\"address\"}",
+        Label.class);
+
+    assertThat(label.getName()).isEqualTo("Shipping");
+    assertThat(label.getNameField()).isEqualTo("address");
+
+    final Label reordered = mapper.readValue(
+        "{\"nameField\":\"address\",\"name\":\"Shipping\"}",
+        Label.class);
+
+    assertThat(reordered.getName()).isEqualTo("Shipping");
+    assertThat(reordered.getNameField()).isEqualTo("address");
+  }
+
+  @Test
+  public void generatedModuleIsInstalledOnce__WhenAlsoInstalledExplicitly__Test() {
+    final Set<JsonDeserializer> deserializers = Guice
+        .createInjector(
+            new JavaNetCompatibilityModule(),
+            new JsonDeserializationUtilsModule(),
+            new ObjectMapperModule().discoverGeneratedDeserializers(),
+            new GeneratedDeserializerModule(),
+            new ShipmentModule())
+        .getInstance(Key.get(new TypeLiteral<Set<JsonDeserializer>>() { }));
+
+    assertThat(deserializers
+        .stream()
+        .filter(deserializer -> deserializer instanceof GeneratedShipmentDeserializer)
+        .count())
+        .isEqualTo(1L);
+  }
+
+  @Before
+  public void setUp() {
+    mapper = Guice
+        .createInjector(
+            new JavaNetCompatibilityModule(),
+            new JsonDeserializationUtilsModule(),
+            new ObjectMapperModule().discoverGeneratedDeserializers(),
+            new ShipmentModule())
+        .getInstance(ObjectMapper.class);
+  }
+}
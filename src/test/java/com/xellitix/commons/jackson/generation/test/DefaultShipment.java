@@ -0,0 +1,81 @@
+package com.xellitix.commons.jackson.generation.test;
+
+import com.google.inject.Inject;
+import com.google.inject.assistedinject.Assisted;
+import java.net.URI;
+import javax.annotation.Nullable;
+
+/**
+ * Default {@link Shipment} implementation.
+ *
+ * @author Grayson Kuhns
+ */
+public class DefaultShipment implements Shipment {
+
+  // Properties
+  private final long id;
+  private final String carrier;
+  private final int weight;
+  private final URI trackingUri;
+
+  /**
+   * Constructor.
+   *
+   * @param id The ID.
+   * @param carrier The carrier.
+   * @param weight The weight in grams.
+   * @param trackingUri The tracking {@link URI}.
+   */
+  @Inject
+  DefaultShipment(
+      @Assisted final long id,
+      @Assisted final String carrier,
+      @Assisted final int weight,
+      @Assisted @Nullable final URI trackingUri) {
+
+    this.id = id;
+    this.carrier = carrier;
+    this.weight = weight;
+    this.trackingUri = trackingUri;
+  }
+
+  /**
+   * Gets the ID.
+   *
+   * @return The ID.
+   */
+  @Override
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Gets the carrier.
+   *
+   * @return The carrier.
+   */
+  @Override
+  public String getCarrier() {
+    return carrier;
+  }
+
+  /**
+   * Gets the weight in grams.
+   *
+   * @return The weight.
+   */
+  @Override
+  public int getWeight() {
+    return weight;
+  }
+
+  /**
+   * Gets the tracking {@link URI}.
+   *
+   * @return The tracking {@link URI} or null if the shipment is not tracked.
+   */
+  @Override
+  public URI getTrackingUri() {
+    return trackingUri;
+  }
+}
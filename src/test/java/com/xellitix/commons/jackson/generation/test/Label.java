@@ -0,0 +1,53 @@
+package com.xellitix.commons.jackson.generation.test;
+
+import com.xellitix.commons.jackson.generation.GenerateDeserializer;
+
+/**
+ * Label model, created by a static factory method.
+ *
+ * @author Grayson Kuhns
+ */
+public final class Label {
+
+  // Properties
+  private final String name;
+  private final String nameField;
+
+  private Label(final String name, final String nameField) {
+    this.name = name;
+    this.nameField = nameField;
+  }
+
+  /**
+   * Creates a {@link Label}.
+   *
+   * <p>The parameter names map to constants that share a prefix, {@code KEY_NAME} and
+   * {@code KEY_NAME_FIELD}.
+   *
+   * @param name The name.
+   * @param nameField The name of the field the label is shown in.
+   * @return The {@link Label}.
+   */
+  @GenerateDeserializer
+  static Label of(final String name, final String nameField) {
+    return new Label(name, nameField);
+  }
+
+  /**
+   * Gets the name.
+   *
+   * @return The name.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the name of the field the label is shown in.
+   *
+   * @return The field name.
+   */
+  public String getNameField() {
+    return nameField;
+  }
+}
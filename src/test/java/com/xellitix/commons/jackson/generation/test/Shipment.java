@@ -0,0 +1,39 @@
+package com.xellitix.commons.jackson.generation.test;
+
+import java.net.URI;
+
+/**
+ * Shipment model.
+ *
+ * @author Grayson Kuhns
+ */
+public interface Shipment {
+
+  /**
+   * Gets the ID.
+   *
+   * @return The ID.
+   */
+  long getId();
+
+  /**
+   * Gets the carrier.
+   *
+   * @return The carrier.
+   */
+  String getCarrier();
+
+  /**
+   * Gets the weight in grams.
+   *
+   * @return The weight.
+   */
+  int getWeight();
+
+  /**
+   * Gets the tracking {@link URI}.
+   *
+   * @return The tracking {@link URI} or null if the shipment is not tracked.
+   */
+  URI getTrackingUri();
+}
@@ -0,0 +1,29 @@
+package com.xellitix.commons.jackson.generation.test;
+
+import com.xellitix.commons.jackson.generation.GenerateDeserializer;
+import com.xellitix.commons.jackson.generation.Property;
+import java.net.URI;
+
+/**
+ * {@link Shipment} factory.
+ *
+ * @author Grayson Kuhns
+ */
+public interface ShipmentFactory {
+
+  /**
+   * Creates a {@link Shipment}.
+   *
+   * @param id The ID.
+   * @param carrier The carrier.
+   * @param weight The weight in grams.
+   * @param trackingUri The tracking {@link URI}.
+   * @return The {@link Shipment}.
+   */
+  @GenerateDeserializer
+  Shipment create(
+      long id,
+      String carrier,
+      @Property("weight_grams") int weight,
+      @Property(value = "tracking_uri", required = false) URI trackingUri);
+}
@@ -0,0 +1,25 @@
+package com.xellitix.commons.jackson.generation.test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+
+/**
+ * {@link Shipment} Google Guice module.
+ *
+ * <p>The {@link Shipment} deserializer is generated and registered by the generated
+ * {@code GeneratedDeserializerModule}.
+ *
+ * @author Grayson Kuhns
+ */
+public class ShipmentModule extends AbstractModule {
+
+  /**
+   * Configures the module.
+   */
+  @Override
+  protected void configure() {
+    install(new FactoryModuleBuilder()
+      .implement(Shipment.class, DefaultShipment.class)
+      .build(ShipmentFactory.class));
+  }
+}
@@ -0,0 +1,56 @@
+package com.xellitix.commons.jackson.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import org.junit.Test;
+
+/**
+ * {@link BoundedSharedBufferPool} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class BoundedSharedBufferPoolTest {
+
+  // Constants
+  private static final int TYPE = BufferRecycler.BYTE_READ_IO_BUFFER;
+
+  @Test
+  public void allocByteBufferReturnsReleasedBuffer__Test() {
+    final SharedBufferPool pool = new BoundedSharedBufferPool(1);
+    final byte[] buffer = pool.allocByteBuffer(TYPE, 8000);
+    pool.releaseByteBuffer(TYPE, buffer);
+
+    assertThat(pool.allocByteBuffer(TYPE, 8000)).isSameAs(buffer);
+    assertThat(pool.allocByteBuffer(TYPE, 8000)).isNotSameAs(buffer);
+  }
+
+  @Test
+  public void allocByteBufferAllocates__WhenReleasedBufferIsTooSmall__Test() {
+    final SharedBufferPool pool = new BoundedSharedBufferPool(1);
+    final byte[] buffer = pool.allocByteBuffer(TYPE, 100);
+    pool.releaseByteBuffer(TYPE, buffer);
+
+    assertThat(pool.allocByteBuffer(TYPE, 200)).hasSize(200);
+    assertThat(pool.allocByteBuffer(TYPE, 100)).isSameAs(buffer);
+  }
+
+  @Test
+  public void allocCharBufferKeepsTypesApart__Test() {
+    final SharedBufferPool pool = new BoundedSharedBufferPool(1);
+    final char[] buffer = pool.allocCharBuffer(BufferRecycler.CHAR_TOKEN_BUFFER, 4000);
+    pool.releaseCharBuffer(BufferRecycler.CHAR_TOKEN_BUFFER, buffer);
+
+    assertThat(pool.allocCharBuffer(BufferRecycler.CHAR_TEXT_BUFFER, 4000)).isNotSameAs(buffer);
+    assertThat(pool.allocCharBuffer(BufferRecycler.CHAR_TOKEN_BUFFER, 4000)).isSameAs(buffer);
+  }
+
+  @Test
+  public void releaseByteBufferDropsBuffer__WhenBufferIsTooLarge__Test() {
+    final SharedBufferPool pool = new BoundedSharedBufferPool(1);
+    final byte[] buffer = new byte[BoundedSharedBufferPool.MAX_POOLED_LENGTH + 1];
+    pool.releaseByteBuffer(TYPE, buffer);
+
+    assertThat(pool.allocByteBuffer(TYPE, 8000)).isNotSameAs(buffer);
+  }
+}
@@ -0,0 +1,89 @@
+package com.xellitix.commons.jackson.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link EncodeBufferPool} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class EncodeBufferPoolTest {
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void acquireReturnsSizeClassedArrays__Test() {
+    final EncodeBufferPool pool = new EncodeBufferPool(2);
+
+    assertThat(pool.acquire(0)).hasSize(1024);
+    assertThat(pool.acquire(1025)).hasSize(2048);
+    assertThat(pool.acquire(4096)).hasSize(4096);
+    assertThat(pool.acquire((1 << 20) + 1)).hasSize((1 << 20) + 1);
+  }
+
+  @Test
+  public void acquireReturnsReleasedArray__Test() {
+    final EncodeBufferPool pool = new EncodeBufferPool(2);
+    final byte[] buffer = pool.acquire(3000);
+    pool.release(buffer);
+
+    assertThat(pool.acquire(2500)).isSameAs(buffer);
+    assertThat(pool.acquire(2500)).isNotSameAs(buffer);
+  }
+
+  @Test
+  public void acquireAllocates__WhenPoolingIsDisabled__Test() {
+    final EncodeBufferPool pool = new EncodeBufferPool(0);
+    final byte[] buffer = pool.acquire(100);
+    pool.release(buffer);
+
+    assertThat(pool.acquire(100)).isNotSameAs(buffer);
+  }
+
+  @Test
+  public void streamGrowsAcrossSizeClasses__Test() throws Exception {
+    // Prepare the test
+    final EncodeBufferPool pool = new EncodeBufferPool(4);
+    final byte[] content = new byte[5000];
+    Arrays.fill(content, (byte) 'x');
+
+    final PooledOutputStream out = pool.openStream();
+    out.write('[');
+    out.write(content);
+    out.close();
+
+    // Attempt to read the written bytes
+    final byte[] array;
+    try (EncodedBytes encoded = out.detach()) {
+      final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+      encoded.writeTo(copy);
+      array = encoded.getArray();
+
+      assertThat(encoded.getLength()).isEqualTo(5001);
+      assertThat(array).hasSize(8192);
+      assertThat(copy.toByteArray()).startsWith((byte) '[', (byte) 'x').hasSize(5001);
+      assertThat(encoded.asByteBuffer().remaining()).isEqualTo(5001);
+    }
+
+    // Closing recycles the array
+    assertThat(pool.acquire(8000)).isSameAs(array);
+  }
+
+  @Test
+  public void getArrayThrowsException__WhenClosed__Test() {
+    // Describe the exception to expect
+    thrown.expect(IllegalStateException.class);
+
+    final EncodedBytes encoded = new EncodeBufferPool(1).openStream().detach();
+    encoded.close();
+    encoded.getArray();
+  }
+}
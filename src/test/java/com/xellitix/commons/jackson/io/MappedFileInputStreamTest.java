@@ -0,0 +1,93 @@
+package com.xellitix.commons.jackson.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link MappedFileInputStream} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class MappedFileInputStreamTest {
+
+  // Constants
+  private static final String CONTENT = "{\"name\":\"Bob\",\"tags\":[\"a\",\"b\",\"c\"]}";
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void readReturnsTheFileContent__WhenFileSpansSeveralRegions__Test() throws Exception {
+    final Path path = write(CONTENT);
+
+    try (InputStream in = MappedFileInputStream.open(path, 7)) {
+      assertThat(new String(readAll(in), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+  }
+
+  @Test
+  public void readParsesTheDocument__WhenFileSpansSeveralRegions__Test() throws Exception {
+    final Path path = write(CONTENT);
+
+    try (InputStream in = MappedFileInputStream.open(path, 5)) {
+      final JsonNode root = new ObjectMapper().readTree(in);
+      assertThat(root.get("tags").size()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  public void readReturnsEndOfInput__WhenFileIsEmpty__Test() throws Exception {
+    try (InputStream in = MappedFileInputStream.open(write(""))) {
+      assertThat(in.read()).isEqualTo(-1);
+      assertThat(in.available()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void readThrowsException__WhenStreamIsClosed__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(IOException.class);
+    thrown.expectMessage("The stream is closed");
+
+    // Prepare the test
+    final InputStream in = MappedFileInputStream.open(write(CONTENT));
+    in.close();
+
+    // Attempt to read
+    in.read();
+  }
+
+  private Path write(final String content) throws IOException {
+    final Path path = folder.newFile().toPath();
+    Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    return path;
+  }
+
+  private static byte[] readAll(final InputStream in) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[3];
+    int count;
+
+    while ((count = in.read(buffer, 0, buffer.length)) != -1) {
+      out.write(buffer, 0, count);
+    }
+
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,61 @@
+package com.xellitix.commons.jackson.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+/**
+ * {@link PooledBufferJsonFactory} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class PooledBufferJsonFactoryTest {
+
+  // Constants
+  private static final int THREADS = 8;
+  private static final int TASKS = 200;
+
+  @Test
+  public void mapperRoundTripsValues__WhenBuffersAreSharedAcrossThreads__Test() throws Exception {
+    // Prepare the test
+    final ObjectMapper mapper = new ObjectMapper(
+        new PooledBufferJsonFactory(new BoundedSharedBufferPool(4)));
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    try {
+      final List<Future<Boolean>> futures = new ArrayList<>();
+
+      for (int i = 0; i < TASKS; i++) {
+        final Map<String, String> value = Collections.singletonMap("task", "value-" + i);
+
+        futures.add(executor.submit(() ->
+            value.equals(mapper.readValue(mapper.writeValueAsBytes(value), Map.class))));
+      }
+
+      // Every task must decode exactly what it encoded
+      for (final Future<Boolean> future : futures) {
+        assertThat(future.get()).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void copySharesThePool__Test() {
+    final SharedBufferPool pool = new BoundedSharedBufferPool(1);
+    final PooledBufferJsonFactory copy =
+        (PooledBufferJsonFactory) new PooledBufferJsonFactory(pool).copy();
+
+    assertThat(copy.getPool()).isSameAs(pool);
+    assertThat(copy._getBufferRecycler()).isInstanceOf(PooledBufferRecycler.class);
+  }
+}
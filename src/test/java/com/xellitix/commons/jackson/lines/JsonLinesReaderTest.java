@@ -0,0 +1,122 @@
+package com.xellitix.commons.jackson.lines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link JsonLinesReader} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class JsonLinesReaderTest {
+
+  // Constants
+  private static final String VALID = "{\"name\":\"Bob\",\"age\":20}\n"
+      + "\n"
+      + "{\"name\":\"Ann\",\"age\":31}\r\n"
+      + "{\"name\":\"Joe\",\"age\":45}";
+  private static final String INVALID = "{\"name\":\"Bob\",\"age\":20}\n"
+      + "{\"name\":\"Ann\",\"age\":\n"
+      + "{\"name\":\"Joe\",\"age\":\"old\"}\n"
+      + "{\"name\":\"Sue\",\"age\":52}\n";
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  // Fixtures
+  private JsonLinesReader<Member> reader;
+
+  @Test
+  public void readReturnsEveryRecord__WhenLinesAreValid__Test() throws Exception {
+    try (JsonLinesIterator<Member> records = reader.read(input(VALID))) {
+      assertThat(names(records)).containsExactly("Bob", "Ann", "Joe");
+      assertThat(records.getRecordCount()).isEqualTo(3);
+      assertThat(records.getLineNumber()).isEqualTo(4);
+    }
+  }
+
+  @Test
+  public void readSkipsAndCountsFailures__WhenSkippingFailures__Test() throws Exception {
+    try (JsonLinesIterator<Member> records = reader.skippingFailures().read(input(INVALID))) {
+      assertThat(names(records)).containsExactly("Bob", "Sue");
+      assertThat(records.getFailureCount()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  public void readThrowsException__WhenRecordIsInvalid__Test() throws Exception {
+    // Describe the exception to expect
+    thrown.expect(UncheckedIOException.class);
+    thrown.expectMessage("Failed to read line 2");
+
+    try (JsonLinesIterator<Member> records = reader.read(input(INVALID))) {
+      names(records);
+    }
+  }
+
+  @Test
+  public void readCountsFailure__WhenLineIsTooLong__Test() throws Exception {
+    final JsonLinesReader<Member> limited = reader.skippingFailures().withMaxLineLength(20);
+    final String content = "{\"name\":\"Alexandra Long\"}\n{\"name\":\"Bob\"}\n";
+
+    try (JsonLinesIterator<Member> records = limited.read(input(content))) {
+      assertThat(names(records)).containsExactly("Bob");
+      assertThat(records.getFailureCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void readStreamsRecords__WhenReadingPathAndChannel__Test() throws Exception {
+    final Path path = folder.newFile("members.jsonl").toPath();
+    Files.write(path, VALID.getBytes(StandardCharsets.UTF_8));
+
+    try (JsonLinesIterator<Member> records = reader.read(path)) {
+      assertThat(records.stream().map(member -> member.name).collect(Collectors.toList()))
+          .containsExactly("Bob", "Ann", "Joe");
+    }
+
+    try (JsonLinesIterator<Member> records = reader.read(Channels.newChannel(input(VALID)))) {
+      assertThat(records.stream().count()).isEqualTo(3);
+    }
+  }
+
+  @Before
+  public void setUp() {
+    reader = new JsonLinesReader<>(new ObjectMapper().readerFor(Member.class));
+  }
+
+  private static InputStream input(final String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static List<String> names(final JsonLinesIterator<Member> records) {
+    return records.stream()
+        .map(member -> member.name)
+        .collect(Collectors.toList());
+  }
+
+  public static class Member {
+
+    public String name;
+    public int age;
+  }
+}
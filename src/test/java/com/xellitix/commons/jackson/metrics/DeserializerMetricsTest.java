@@ -0,0 +1,61 @@
+package com.xellitix.commons.jackson.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link DeserializerMetrics} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class DeserializerMetricsTest {
+
+  // Rules
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void bucketOfReturnsThePowerOfTwoBucket__Test() {
+    assertThat(DeserializerMetrics.bucketOf(-5)).isZero();
+    assertThat(DeserializerMetrics.bucketOf(0)).isZero();
+    assertThat(DeserializerMetrics.bucketOf(1)).isEqualTo(1);
+    assertThat(DeserializerMetrics.bucketOf(1023)).isEqualTo(10);
+    assertThat(DeserializerMetrics.bucketOf(1024)).isEqualTo(11);
+    assertThat(DeserializerMetrics.bucketOf(Long.MAX_VALUE)).isEqualTo(63);
+  }
+
+  @Test
+  public void getPercentileNanosReturnsTheBucketUpperBound__Test() {
+    // Prepare the test
+    final long[] buckets = new long[DeserializerMetrics.BUCKETS];
+    buckets[DeserializerMetrics.bucketOf(500)] = 90;
+    buckets[DeserializerMetrics.bucketOf(5000)] = 10;
+    final DeserializerMetrics metrics = new DeserializerMetrics(String.class, 100, 0, 0, buckets);
+
+    assertThat(metrics.getPercentileNanos(50)).isEqualTo(511);
+    assertThat(metrics.getPercentileNanos(90)).isEqualTo(511);
+    assertThat(metrics.getPercentileNanos(99)).isEqualTo(8191);
+  }
+
+  @Test
+  public void getPercentileNanosReturnsZero__WhenNoCallWasMade__Test() {
+    final DeserializerMetrics metrics = new DeserializerMetrics(
+        String.class, 0, 0, 0, new long[DeserializerMetrics.BUCKETS]);
+
+    assertThat(metrics.getPercentileNanos(99)).isZero();
+    assertThat(metrics.getMeanNanos()).isZero();
+  }
+
+  @Test
+  public void getPercentileNanosThrowsException__WhenPercentileIsOutOfRange__Test() {
+    // Describe the exception to expect
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("between 0 and 100");
+
+    new DeserializerMetrics(String.class, 0, 0, 0, new long[DeserializerMetrics.BUCKETS])
+        .getPercentileNanos(101);
+  }
+}
@@ -0,0 +1,60 @@
+package com.xellitix.commons.jackson.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link InMemoryDeserializerMetricsSink} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class InMemoryDeserializerMetricsSinkTest {
+
+  // Fixtures
+  private InMemoryDeserializerMetricsSink sink;
+
+  @Test
+  public void recorderReturnsTheSameRecorder__WhenTypeIsTheSame__Test() {
+    assertThat(sink.recorder(String.class)).isSameAs(sink.recorder(String.class));
+    assertThat(sink.recorder(String.class)).isNotSameAs(sink.recorder(Integer.class));
+  }
+
+  @Test
+  public void getMetricsReturnsTheRecordedCalls__Test() {
+    // Prepare the test
+    final DeserializerRecorder recorder = sink.recorder(String.class);
+    recorder.recordSuccess(100);
+    recorder.recordSuccess(300);
+    recorder.recordFailure(2000);
+
+    // Verify the snapshot
+    final DeserializerMetrics metrics = sink.getMetrics(String.class);
+    assertThat(metrics.getType()).isEqualTo(String.class);
+    assertThat(metrics.getCalls()).isEqualTo(3);
+    assertThat(metrics.getFailures()).isEqualTo(1);
+    assertThat(metrics.getTotalNanos()).isEqualTo(2400);
+    assertThat(metrics.getBuckets()[DeserializerMetrics.bucketOf(2000)]).isEqualTo(1);
+    assertThat(sink.getMetrics()).containsOnlyKeys(String.class);
+  }
+
+  @Test
+  public void getMetricsReturnsNull__WhenTypeIsNotInstrumented__Test() {
+    assertThat(sink.getMetrics(String.class)).isNull();
+  }
+
+  @Test
+  public void resetClearsTheMeasurements__Test() {
+    sink.recorder(String.class).recordFailure(100);
+    sink.reset();
+
+    assertThat(sink.getMetrics(String.class).getCalls()).isZero();
+    assertThat(sink.getMetrics(String.class).getFailures()).isZero();
+  }
+
+  @Before
+  public void setUp() {
+    sink = new InMemoryDeserializerMetricsSink();
+  }
+}
@@ -0,0 +1,450 @@
+package com.xellitix.commons.jackson.objectmapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.TypeLiteral;
+import com.google.inject.multibindings.MapBinder;
+import com.xellitix.commons.jackson.async.AsyncDecoder;
+import com.xellitix.commons.jackson.cache.CacheStats;
+import com.xellitix.commons.jackson.cache.DecodeCache;
+import com.xellitix.commons.jackson.deserialization.JsonDeserializationUtilsModule;
+import com.xellitix.commons.jackson.io.EncodedBytes;
+import com.xellitix.commons.jackson.io.PooledBufferJsonFactory;
+import com.xellitix.commons.jackson.lines.JsonLinesIterator;
+import com.xellitix.commons.jackson.metrics.DeserializerMetrics;
+import com.xellitix.commons.jackson.metrics.DeserializerMetricsSink;
+import com.xellitix.commons.jackson.metrics.InMemoryDeserializerMetricsSink;
+import com.xellitix.commons.jackson.objectmapper.test.person.Person;
+import com.xellitix.commons.jackson.objectmapper.test.person.PersonModule;
+import com.xellitix.commons.net.compat.java.JavaNetCompatibilityModule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+/**
+ * {@link AutoRegistrationObjectMapperProvider} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class AutoRegistrationObjectMapperProviderTest {
+
+  // Constants
+  private static final int THREADS = 8;
+  private static final String PERSON_JSON = "{\"name\":\"Bob\",\"age\":20}";
+
+  @Test
+  public void getReturnsTheSameMapper__WhenCalledConcurrently__Test() throws Exception {
+    // Prepare the test
+    final ObjectMapperProvider provider = createInjector(new ObjectMapperModule())
+        .getInstance(ObjectMapperProvider.class);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final CountDownLatch start = new CountDownLatch(1);
+
+    try {
+      // Request the mapper from all threads at once
+      final List<Future<ObjectMapper>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return provider.get();
+        }));
+      }
+      start.countDown();
+
+      // Every thread must observe the same mapper
+      final Set<ObjectMapper> mappers = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (final Future<ObjectMapper> future : futures) {
+        mappers.add(future.get());
+      }
+
+      assertThat(mappers).hasSize(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void eagerModuleProvidesTheWarmedMapper__Test() throws Exception {
+    // Prepare the test
+    final PointDeserializerProvider deserializerProvider = new PointDeserializerProvider();
+    final Injector injector = Guice.createInjector(
+        new JavaNetCompatibilityModule(),
+        new JsonDeserializationUtilsModule(),
+        new ObjectMapperModule().eager(),
+        new PersonModule(),
+        new PointModule(deserializerProvider));
+    final AutoRegistrationObjectMapperProvider provider =
+        injector.getInstance(AutoRegistrationObjectMapperProvider.class);
+    final ObjectMapper mapper = injector.getInstance(ObjectMapper.class);
+
+    // The eagerly created mapper must be the one handed out
+    assertThat(mapper).isSameAs(provider.get());
+
+    // The readers of the registered types must be cached with their deserializers resolved
+    final ObjectReader reader = provider.getCachedReader(Person.class);
+    assertThat(reader).isNotNull();
+    assertThat((Object) Whitebox.getInternalState(reader, "_rootDeserializer")).isNotNull();
+    assertThat(provider.getCachedReader(Point.class)).isNotNull();
+    assertThat(deserializerProvider.created).isEqualTo(1);
+
+    // Attempt to deserialize a registered type
+    final Person person = mapper.readValue(PERSON_JSON, Person.class);
+    assertThat(person.getName()).isEqualTo("Bob");
+    assertThat(person.getAge()).isEqualTo(20);
+  }
+
+  // #getReader
+  @Test
+  public void getReaderReturnsTheCachedReader__Test() throws Exception {
+    // Prepare the test
+    final ObjectMapperProvider provider = createInjector(new ObjectMapperModule())
+        .getInstance(ObjectMapperProvider.class);
+
+    // Attempt to get the reader
+    final ObjectReader reader = provider.getReader(Person.class);
+    assertThat(reader)
+        .isNotNull()
+        .isSameAs(provider.getReader(Person.class));
+
+    // Attempt to read a registered type
+    final Person person = reader.readValue(PERSON_JSON);
+    assertThat(person.getName()).isEqualTo("Bob");
+  }
+
+  @Test
+  public void getReaderAppliesTheFeatures__WhenFeaturesAreProvided__Test() throws Exception {
+    // Prepare the test
+    final ObjectMapperProvider provider = createInjector(new ObjectMapperModule())
+        .getInstance(ObjectMapperProvider.class);
+    final ObjectMapper mapper = provider.get();
+
+    // Attempt to get the reader
+    final ObjectReader reader = provider.getReader(
+        mapper.constructType(Person.class),
+        EnumSet.of(DeserializationFeature.FAIL_ON_TRAILING_TOKENS),
+        EnumSet.of(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+    assertThat(reader)
+        .isSameAs(provider.getReader(
+            mapper.constructType(Person.class),
+            EnumSet.of(DeserializationFeature.FAIL_ON_TRAILING_TOKENS),
+            EnumSet.of(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)))
+        .isNotSameAs(provider.getReader(Person.class));
+    assertThat(reader.isEnabled(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)).isTrue();
+    assertThat(reader.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)).isFalse();
+  }
+
+  // #getWriter
+  @Test
+  public void getWriterReturnsTheCachedWriter__Test() throws Exception {
+    // Prepare the test
+    final ObjectMapperProvider provider = createInjector(new ObjectMapperModule())
+        .getInstance(ObjectMapperProvider.class);
+
+    // Attempt to get the writer
+    final ObjectWriter writer = provider.getWriter(
+        String.class,
+        EnumSet.of(SerializationFeature.INDENT_OUTPUT),
+        EnumSet.noneOf(SerializationFeature.class));
+
+    assertThat(writer)
+        .isSameAs(provider.getWriter(
+            String.class,
+            EnumSet.of(SerializationFeature.INDENT_OUTPUT),
+            EnumSet.noneOf(SerializationFeature.class)));
+    assertThat(writer.isEnabled(SerializationFeature.INDENT_OUTPUT)).isTrue();
+    assertThat(provider.getWriter(String.class)).isSameAs(provider.getWriter(String.class));
+  }
+
+  // #getJsonLinesReader
+  @Test
+  public void getJsonLinesReaderReadsRecordsWithRegisteredDeserializers__Test()
+      throws Exception {
+
+    // Prepare the test
+    final ObjectMapperProvider provider = createInjector(new ObjectMapperModule())
+        .getInstance(ObjectMapperProvider.class);
+    final byte[] content = (PERSON_JSON + "\n" + PERSON_JSON + "\n")
+        .getBytes(StandardCharsets.UTF_8);
+
+    // Attempt to read the records
+    try (JsonLinesIterator<Person> records = provider
+        .getJsonLinesReader(Person.class)
+        .read(new ByteArrayInputStream(content))) {
+
+      final List<Person> people = records.stream().collect(Collectors.toList());
+      assertThat(people).hasSize(2);
+      assertThat(people.get(1).getName()).isEqualTo("Bob");
+    }
+  }
+
+  // #encode
+  @Test
+  public void encodeWritesWithRegisteredSerializers__Test() throws Exception {
+    // Prepare the test
+    final ObjectMapperProvider provider = createInjector(new ObjectMapperModule())
+        .getInstance(ObjectMapperProvider.class);
+    final Person person = provider.get().readValue(PERSON_JSON, Person.class);
+
+    // Attempt to encode the person
+    final byte[] array;
+    try (EncodedBytes encoded = provider.encode(person)) {
+      array = encoded.getArray();
+
+      assertThat(new String(array, 0, encoded.getLength(), StandardCharsets.UTF_8))
+          .isEqualTo("{\"type\":\"person\",\"name\":\"Bob\",\"age\":20}");
+    }
+
+    // The buffer is recycled for the next value
+    try (EncodedBytes encoded = provider.encode(person)) {
+      assertThat(encoded.getArray()).isSameAs(array);
+    }
+  }
+
+  // #createAsyncDecoder
+  @Test
+  public void createAsyncDecoderDecodesChunksWithRegisteredDeserializers__Test()
+      throws Exception {
+
+    // Prepare the test
+    final ObjectMapperProvider provider = createInjector(new ObjectMapperModule())
+        .getInstance(ObjectMapperProvider.class);
+    final byte[] content = PERSON_JSON.getBytes(StandardCharsets.UTF_8);
+    final List<Person> people = new ArrayList<>();
+
+    // Attempt to decode the value in two chunks
+    try (AsyncDecoder<Person> decoder = provider.createAsyncDecoder(Person.class)) {
+      decoder.feed(content, 0, 5, people::add);
+      decoder.feed(content, 5, content.length - 5, people::add);
+    }
+
+    assertThat(people).hasSize(1);
+    assertThat(people.get(0).getName()).isEqualTo("Bob");
+  }
+
+  // #readValue
+  @Test
+  public void readValueReadsTheMappedFile__Test() throws Exception {
+    // Prepare the test
+    final ObjectMapperProvider provider = createInjector(new ObjectMapperModule())
+        .getInstance(ObjectMapperProvider.class);
+    final Path path = Files.createTempFile("person", ".json");
+    path.toFile().deleteOnExit();
+    Files.write(path, PERSON_JSON.getBytes(StandardCharsets.UTF_8));
+
+    // Attempt to read the file
+    assertThat(provider.readValue(path, Person.class).getAge()).isEqualTo(20);
+    assertThat(provider.readTree(path).get("name").asText()).isEqualTo("Bob");
+  }
+
+  // Binary profiles
+  @Test
+  public void binaryMappersUseTheRegisteredDeserializers__Test() throws Exception {
+    // Prepare the test
+    final Injector injector = createInjector(new ObjectMapperModule());
+    final ObjectMapper jsonMapper = injector.getInstance(ObjectMapper.class);
+    final ObjectMapper smileMapper = injector.getInstance(Key.get(ObjectMapper.class, Smile.class));
+    final ObjectMapper cborMapper = injector.getInstance(Key.get(ObjectMapper.class, Cbor.class));
+
+    assertThat(smileMapper).isNotSameAs(jsonMapper);
+    assertThat(smileMapper)
+        .isSameAs(injector.getInstance(Key.get(ObjectMapper.class, Smile.class)));
+
+    // Attempt to read the binary payloads
+    for (final ObjectMapper mapper : new ObjectMapper[] {smileMapper, cborMapper}) {
+      final byte[] payload = mapper.writeValueAsBytes(jsonMapper.readTree(PERSON_JSON));
+      final Person person = mapper.readValue(payload, Person.class);
+
+      assertThat(person.getName()).isEqualTo("Bob");
+      assertThat(person.getAge()).isEqualTo(20);
+    }
+  }
+
+  // YAML profile
+  @Test
+  public void yamlReadValuesIteratesTheDocuments__Test() throws Exception {
+    // Prepare the test
+    final ObjectMapperProvider provider = createInjector(new ObjectMapperModule())
+        .getInstance(Key.get(ObjectMapperProvider.class, Yaml.class));
+    final byte[] content = ("name: Bob\nage: 20\n---\nname: Ann\nage: 31\n")
+        .getBytes(StandardCharsets.UTF_8);
+
+    // Attempt to read the documents
+    try (MappingIterator<Person> documents = provider
+        .readValues(new ByteArrayInputStream(content), Person.class)) {
+
+      assertThat(documents.next().getName()).isEqualTo("Bob");
+      assertThat(documents.next().getAge()).isEqualTo(31);
+      assertThat(documents.hasNext()).isFalse();
+    }
+  }
+
+  // #sharedBuffers
+  @Test
+  public void sharedBuffersMapperUsesThePooledFactory__Test() throws Exception {
+    final ObjectMapper mapper = createInjector(new ObjectMapperModule().sharedBuffers(4))
+        .getInstance(ObjectMapper.class);
+
+    assertThat(mapper.getFactory()).isInstanceOf(PooledBufferJsonFactory.class);
+    assertThat(mapper.readValue(PERSON_JSON, Person.class).getAge()).isEqualTo(20);
+  }
+
+  // #instrumented
+  @Test
+  public void instrumentedMapperRecordsDeserializerCalls__Test() throws Exception {
+    // Prepare the test
+    final Injector injector = createInjector(new ObjectMapperModule().instrumented());
+    final ObjectMapper mapper = injector.getInstance(ObjectMapper.class);
+
+    mapper.readValue(PERSON_JSON, Person.class);
+    mapper.readValue(PERSON_JSON, Person.class);
+
+    // Verify the measurements
+    final DeserializerMetrics metrics = injector
+        .getInstance(InMemoryDeserializerMetricsSink.class)
+        .getMetrics(Person.class);
+
+    assertThat(metrics.getCalls()).isEqualTo(2);
+    assertThat(metrics.getFailures()).isZero();
+    assertThat(metrics.getPercentileNanos(100)).isPositive();
+  }
+
+  @Test
+  public void metricsSinkIsNotBound__WhenNotInstrumented__Test() throws Exception {
+    final Injector injector = createInjector(new ObjectMapperModule());
+
+    assertThat(injector.getInstance(Key.get(new TypeLiteral<Optional<DeserializerMetricsSink>>() {
+    }))).isEmpty();
+    assertThat(injector.getInstance(ObjectMapper.class).readValue(PERSON_JSON, Person.class)
+        .getName()).isEqualTo("Bob");
+  }
+
+  @Test
+  public void lazyDeserializerIsCreatedOnFirstUse__Test() throws Exception {
+    // Prepare the test
+    final PointDeserializerProvider deserializerProvider = new PointDeserializerProvider();
+    final ObjectMapper mapper = Guice
+        .createInjector(
+            new JavaNetCompatibilityModule(),
+            new JsonDeserializationUtilsModule(),
+            new ObjectMapperModule(),
+            new PersonModule(),
+            new PointModule(deserializerProvider))
+        .getInstance(ObjectMapper.class);
+
+    // Deserializing other types must not create the deserializer
+    mapper.readValue(PERSON_JSON, Person.class);
+    assertThat(deserializerProvider.created).isZero();
+
+    // The deserializer is created once, on first use
+    assertThat(mapper.readValue("3", Point.class).value).isEqualTo(3);
+    assertThat(mapper.readValue("[4,5]", Point[].class)[1].value).isEqualTo(5);
+    assertThat(deserializerProvider.created).isEqualTo(1);
+  }
+
+  @Test
+  public void readCachedValueReusesTheValue__WhenBytesAreIdentical__Test() throws Exception {
+    // Prepare the test
+    final Injector injector = createInjector(
+        new ObjectMapperModule().decodeCache(16, 1024, Duration.ofMinutes(1)));
+    final ObjectMapperProvider provider = injector.getInstance(ObjectMapperProvider.class);
+    final byte[] json = PERSON_JSON.getBytes(StandardCharsets.UTF_8);
+
+    // Attempt to read the same bytes twice
+    final Person person = provider.readCachedValue(json, Person.class);
+    assertThat(person.getName()).isEqualTo("Bob");
+    assertThat(provider.readCachedValue(json.clone(), Person.class)).isSameAs(person);
+
+    // Verify the statistics
+    final CacheStats stats = injector.getInstance(DecodeCache.class).getStats();
+    assertThat(stats.getHits()).isEqualTo(1);
+    assertThat(stats.getMisses()).isEqualTo(1);
+  }
+
+  private Injector createInjector(final ObjectMapperModule objectMapperModule) {
+    return Guice.createInjector(
+        new JavaNetCompatibilityModule(),
+        new JsonDeserializationUtilsModule(),
+        objectMapperModule,
+        new PersonModule());
+  }
+
+  private static final class Point {
+
+    private final int value;
+
+    private Point(final int value) {
+      this.value = value;
+    }
+  }
+
+  private static final class PointModule extends AbstractModule {
+
+    private final PointDeserializerProvider deserializerProvider;
+
+    private PointModule(final PointDeserializerProvider deserializerProvider) {
+      this.deserializerProvider = deserializerProvider;
+    }
+
+    @Override
+    protected void configure() {
+      MapBinder.newMapBinder(binder(), Class.class, JsonDeserializer.class)
+          .addBinding(Point.class)
+          .toProvider(deserializerProvider);
+    }
+  }
+
+  private static final class PointDeserializerProvider implements Provider<JsonDeserializer> {
+
+    private int created;
+
+    @Override
+    public JsonDeserializer get() {
+      created++;
+
+      return new StdDeserializer<Point>(Point.class) {
+        @Override
+        public Point deserialize(
+            final JsonParser parser,
+            final DeserializationContext ctx)
+            throws IOException {
+
+          return new Point(parser.getIntValue());
+        }
+      };
+    }
+  }
+}
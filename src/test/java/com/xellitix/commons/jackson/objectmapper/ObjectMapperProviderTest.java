@@ -0,0 +1,66 @@
+package com.xellitix.commons.jackson.objectmapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.xellitix.commons.jackson.io.EncodedBytes;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link ObjectMapperProvider} default methods test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class ObjectMapperProviderTest {
+
+  // Fixtures
+  private ObjectMapper mapper;
+  private ObjectMapperProvider provider;
+
+  @Test
+  public void getReaderReadsWithTheProvidedMapper__WhenOnlyGetIsImplemented__Test()
+      throws Exception {
+
+    final ObjectReader reader = provider.getReader(
+        mapper.constructType(Map.class),
+        EnumSet.of(DeserializationFeature.FAIL_ON_TRAILING_TOKENS),
+        Collections.emptySet());
+
+    assertThat(reader.isEnabled(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)).isTrue();
+    assertThat(reader.<Map<String, Object>>readValue("{\"a\":1}")).containsEntry("a", 1);
+  }
+
+  @Test
+  public void encodeWritesTheValue__WhenOnlyGetIsImplemented__Test() throws Exception {
+    try (EncodedBytes encoded = provider.encode(Collections.singletonMap("a", 1))) {
+      assertThat(new String(encoded.toByteArray(), StandardCharsets.UTF_8))
+          .isEqualTo("{\"a\":1}");
+    }
+  }
+
+  @Test
+  public void readValuesIteratesTheValues__WhenOnlyGetIsImplemented__Test() throws Exception {
+    final byte[] content = "1 2 3".getBytes(StandardCharsets.UTF_8);
+
+    try (MappingIterator<Integer> values = provider
+        .readValues(new ByteArrayInputStream(content), Integer.class)) {
+
+      assertThat(values.readAll()).containsExactly(1, 2, 3);
+    }
+  }
+
+  @Before
+  public void setUp() {
+    mapper = new ObjectMapper();
+    provider = () -> mapper;
+  }
+}
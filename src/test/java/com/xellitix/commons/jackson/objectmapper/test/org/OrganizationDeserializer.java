@@ -3,11 +3,10 @@ package com.xellitix.commons.jackson.objectmapper.test.org;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.deser.std.StdNodeBasedDeserializer;
 import com.google.inject.Inject;
-import com.google.inject.Provider;
 import com.google.inject.Singleton;
+import com.xellitix.commons.jackson.deserialization.ChildDeserializer;
+import com.xellitix.commons.jackson.deserialization.CompositeNodeDeserializer;
 import com.xellitix.commons.jackson.deserialization.JsonNodePropertyRetriever;
 import com.xellitix.commons.jackson.objectmapper.test.person.Person;
 import java.io.IOException;
@@ -20,35 +19,34 @@ import java.util.List;
  * @author Grayson Kuhns
  */
 @Singleton
-public class OrganizationDeserializer extends StdNodeBasedDeserializer<Organization> {
+public class OrganizationDeserializer extends CompositeNodeDeserializer<Organization> {
 
   // Constants
   private static final String KEY_NAME = "name";
   private static final String KEY_MEMBERS = "members";
 
+  // Properties
+  private final ChildDeserializer<Person> member = child(Person.class);
+
   // Dependencies
   private final OrganizationFactory factory;
   private final JsonNodePropertyRetriever propertyRetriever;
-  private final Provider<ObjectMapper> objectMapperProvider;
 
   /**
    * Constructor.
    *
    * @param factory The {@link OrganizationFactory}.
    * @param propertyRetriever The {@link JsonNodePropertyRetriever}.
-   * @param objectMapperProvider The {@link ObjectMapper} {@link Provider}.
    */
   @Inject
   OrganizationDeserializer(
       final OrganizationFactory factory,
-      final JsonNodePropertyRetriever propertyRetriever,
-      final Provider<ObjectMapper> objectMapperProvider) {
+      final JsonNodePropertyRetriever propertyRetriever) {
 
     super(Organization.class);
 
     this.factory = factory;
     this.propertyRetriever = propertyRetriever;
-    this.objectMapperProvider = objectMapperProvider;
   }
 
   /**
@@ -76,10 +74,7 @@ public class OrganizationDeserializer extends StdNodeBasedDeserializer<Organizat
     final List<Person> members = new ArrayList<>(membersNode.size());
 
     for (final JsonNode memberNode : membersNode) {
-      final Person member = objectMapperProvider
-          .get()
-          .readValue(memberNode.traverse(), Person.class);
-      members.add(member);
+      members.add(convertChild(member, memberNode, ctx));
     }
 
     // Create the organization
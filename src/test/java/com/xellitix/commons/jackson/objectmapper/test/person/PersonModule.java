@@ -1,6 +1,7 @@
 package com.xellitix.commons.jackson.objectmapper.test.person;
 
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.google.inject.AbstractModule;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
 import com.google.inject.multibindings.Multibinder;
@@ -25,5 +26,10 @@ public class PersonModule extends AbstractModule {
         Multibinder.newSetBinder(binder(), JsonDeserializer.class);
 
     deserializerMultibinder.addBinding().to(PersonDeserializer.class);
+
+    Multibinder<JsonSerializer> serializerMultibinder =
+        Multibinder.newSetBinder(binder(), JsonSerializer.class);
+
+    serializerMultibinder.addBinding().to(PersonSerializer.class);
   }
 }
@@ -0,0 +1,51 @@
+package com.xellitix.commons.jackson.objectmapper.test.person;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.inject.Inject;
+import java.io.IOException;
+
+/**
+ * {@link Person} serializer.
+ *
+ * @author Grayson Kuhns
+ */
+public class PersonSerializer extends StdSerializer<Person> {
+
+  // Constants
+  private static final String KEY_TYPE = "type";
+  private static final String KEY_NAME = "name";
+  private static final String KEY_AGE = "age";
+  private static final String TYPE = "person";
+
+  /**
+   * Constructor.
+   */
+  @Inject
+  PersonSerializer() {
+    super(Person.class);
+  }
+
+  /**
+   * Serializes a {@link Person}.
+   *
+   * @param person The {@link Person}.
+   * @param gen The {@link JsonGenerator}.
+   * @param provider The {@link SerializerProvider}.
+   * @throws IOException If an exception occurs.
+   */
+  @Override
+  public void serialize(
+      final Person person,
+      final JsonGenerator gen,
+      final SerializerProvider provider)
+      throws IOException {
+
+    gen.writeStartObject();
+    gen.writeStringField(KEY_TYPE, TYPE);
+    gen.writeStringField(KEY_NAME, person.getName());
+    gen.writeNumberField(KEY_AGE, person.getAge());
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,208 @@
+package com.xellitix.commons.jackson.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * {@link RecordPublisher} test case.
+ *
+ * @author Grayson Kuhns
+ */
+public class RecordPublisherTest {
+
+  // Constants
+  private static final String CONTENT = "{\"name\":\"Bob\"} {\"name\":\"Ann\"}\n{\"name\":\"Joe\"}";
+  private static final Executor DIRECT = Runnable::run;
+
+  // Fixtures
+  private ObjectReader reader;
+  private RecordingSubscriber subscriber;
+
+  @Test
+  public void publisherOnlyReadsRequestedRecords__WhenReadingStream__Test() {
+    // Prepare the test
+    final CountingInputStream in = new CountingInputStream(CONTENT);
+    RecordPublisher.<Member>fromStream(reader, in, DIRECT).subscribe(subscriber);
+
+    // Nothing is read before it is requested
+    assertThat(in.reads.get()).isZero();
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.names).containsExactly("Bob");
+    assertThat(in.available()).isPositive();
+
+    subscriber.subscription.request(10);
+    assertThat(subscriber.names).containsExactly("Bob", "Ann", "Joe");
+    assertThat(subscriber.completed).isTrue();
+    assertThat(in.closed).isTrue();
+  }
+
+  @Test
+  public void publisherOnlyPullsRequestedChunks__WhenReadingChunks__Test() {
+    // Prepare the test
+    final IteratorChunkSource chunks = new IteratorChunkSource(
+        "{\"na", "me\":\"Bob\"}{\"name\"", ":\"Ann\"}", "{\"name\":\"Joe\"}");
+    RecordPublisher.<Member>fromChunks(reader, chunks, DIRECT).subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.names).containsExactly("Bob");
+    assertThat(chunks.pulls).isEqualTo(2);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertThat(subscriber.names).containsExactly("Bob", "Ann", "Joe");
+    assertThat(subscriber.completed).isTrue();
+    assertThat(chunks.closed).isTrue();
+  }
+
+  @Test
+  public void cancelClosesTheInput__Test() {
+    // Prepare the test
+    final CountingInputStream in = new CountingInputStream(CONTENT);
+    RecordPublisher.<Member>fromStream(reader, in, DIRECT).subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(1);
+
+    assertThat(subscriber.names).containsExactly("Bob");
+    assertThat(subscriber.completed).isFalse();
+    assertThat(in.closed).isTrue();
+  }
+
+  @Test
+  public void publisherSignalsError__WhenRecordIsInvalid__Test() {
+    RecordPublisher.<Member>fromStream(reader, new CountingInputStream("{\"name\":"), DIRECT)
+        .subscribe(subscriber);
+    subscriber.subscription.request(1);
+
+    assertThat(subscriber.error).isNotNull();
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  public void requestSignalsError__WhenDemandIsNotPositive__Test() {
+    RecordPublisher.<Member>fromStream(reader, new CountingInputStream(CONTENT), DIRECT)
+        .subscribe(subscriber);
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void subscribeSignalsError__WhenAlreadySubscribed__Test() {
+    // Prepare the test
+    final RecordPublisher<Member> publisher = RecordPublisher
+        .fromStream(reader, new CountingInputStream(CONTENT), DIRECT);
+    final RecordingSubscriber second = new RecordingSubscriber();
+
+    publisher.subscribe(subscriber);
+    publisher.subscribe(second);
+
+    assertThat(subscriber.error).isNull();
+    assertThat(second.error).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Before
+  public void setUp() {
+    reader = new ObjectMapper().readerFor(Member.class);
+    subscriber = new RecordingSubscriber();
+  }
+
+  public static class Member {
+
+    public String name;
+  }
+
+  private static class RecordingSubscriber implements Subscriber<Member> {
+
+    // Properties
+    private final List<String> names = new ArrayList<>();
+    private Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(final Member member) {
+      names.add(member.name);
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      this.error = error;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+
+  private static class CountingInputStream extends ByteArrayInputStream {
+
+    // Properties
+    private final AtomicInteger reads = new AtomicInteger();
+    private boolean closed;
+
+    CountingInputStream(final String content) {
+      super(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public synchronized int read(final byte[] b, final int off, final int len) {
+      reads.incrementAndGet();
+
+      // Hand out small reads so that unrequested records are left unread
+      return super.read(b, off, Math.min(len, 8));
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  private static class IteratorChunkSource implements ChunkSource {
+
+    // Properties
+    private final Iterator<String> chunks;
+    private int pulls;
+    private boolean closed;
+
+    IteratorChunkSource(final String... chunks) {
+      this.chunks = Arrays.asList(chunks).iterator();
+    }
+
+    @Override
+    public ByteBuffer nextChunk() {
+      pulls++;
+      return chunks.hasNext()
+          ? ByteBuffer.wrap(chunks.next().getBytes(StandardCharsets.UTF_8))
+          : null;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}